@@ -0,0 +1,186 @@
+package benchmark;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import service.FileManager;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Générateur reproductible de listes de tâches synthétiques pour les benchmarks.
+ *
+ * Pour une même taille, une même graine et un même jour de référence, la liste produite est
+ * toujours la même : identifiants, titres, descriptions, dates, catégories et états. Les dates
+ * sont tirées autour du jour de référence (échéances de -30 à +60 jours, créations sur l'année
+ * précédente), fixé par défaut à REFERENCE_DAY, et la liste générée prend ce jour comme jour
+ * courant (horloge fixe) : les tâches en retard et à venir sont les mêmes d'un jour à l'autre
+ * et les résultats restent comparables dans le temps.
+ *
+ * Utilisation en ligne de commande :
+ * <pre>
+ * java -cp benchmarks.jar benchmark.DatasetGenerator &lt;taille&gt; &lt;fichier&gt; [graine] [SERIALIZATION|BINARY] [aaaa-mm-jj]
+ * </pre>
+ */
+public final class DatasetGenerator {
+    public static final long DEFAULT_SEED = 42L;
+    public static final int CATEGORY_COUNT = 8;
+    /** Jour de référence par défaut des dates générées */
+    public static final LocalDate REFERENCE_DAY = LocalDate.of(2026, 1, 15);
+
+    /** Part des tâches ayant une échéance, en pourcentage */
+    private static final int DUE_DATE_PERCENT = 70;
+    /** Part des tâches terminées, en pourcentage */
+    private static final int COMPLETED_PERCENT = 40;
+
+    private static final String[] CATEGORY_NAMES = {
+            "Travail", "Personnel", "Études", "Maison", "Santé", "Courses", "Loisirs", "Administratif"
+    };
+    private static final String[] COLORS = {"RED", "GREEN", "BLUE", "YELLOW", "PURPLE", "CYAN", "ORANGE", "GRAY"};
+
+    static final String[] WORDS = {
+            "rapport", "réunion", "projet", "examen", "révision", "courses", "ménage", "facture",
+            "rendez-vous", "médecin", "sport", "lecture", "budget", "présentation", "client", "équipe",
+            "planning", "voiture", "jardin", "cuisine", "anniversaire", "voyage", "banque", "impôts",
+            "dossier", "contrat", "formation", "cours", "devoir", "mémoire", "courrier", "appel",
+            "livraison", "réparation", "inscription", "commande", "sauvegarde", "mise à jour", "bilan", "relance"
+    };
+
+    private DatasetGenerator() {
+    }
+
+    /**
+     * Génère une liste avec la graine et le jour de référence par défaut
+     *
+     * @see #generate(int, long, LocalDate)
+     */
+    public static TodoList generate(int size) {
+        return generate(size, DEFAULT_SEED);
+    }
+
+    /**
+     * Génère une liste avec le jour de référence par défaut
+     *
+     * @see #generate(int, long, LocalDate)
+     */
+    public static TodoList generate(int size, long seed) {
+        return generate(size, seed, REFERENCE_DAY);
+    }
+
+    /**
+     * Génère une liste de tâches réparties dans CATEGORY_COUNT catégories
+     *
+     * @param size Le nombre de tâches
+     * @param seed La graine du générateur aléatoire
+     * @param today Le jour de référence des dates, jour courant de la liste
+     * @return La liste générée
+     */
+    public static TodoList generate(int size, long seed, LocalDate today) {
+        TodoList todoList = new TodoList(clock(today));
+        Category[] categories = categories();
+        for (Category category : categories) {
+            todoList.addCategory(category);
+        }
+        for (Task task : generateTasks(size, seed, categories, today)) {
+            todoList.addTask(task);
+        }
+        return todoList;
+    }
+
+    /**
+     * Génère les tâches d'une liste sans les ajouter, par exemple pour remplir une
+     * ConcurrentTodoList ; pour une même graine et un même jour, ce sont les tâches
+     * de generate(size, seed, today)
+     *
+     * @param size Le nombre de tâches
+     * @param seed La graine du générateur aléatoire
+     * @param categories Les catégories, issues de categories()
+     * @param today Le jour de référence des dates
+     * @return Les tâches TASK-0 à TASK-(size - 1)
+     */
+    public static List<Task> generateTasks(int size, long seed, Category[] categories, LocalDate today) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(newTask(random, "TASK-" + i, categories[random.nextInt(categories.length)], today));
+        }
+        return tasks;
+    }
+
+    /**
+     * Horloge arrêtée à midi du jour de référence, pour les vues en retard et à venir
+     *
+     * @param today Le jour de référence
+     * @return L'horloge fixe
+     */
+    public static Clock clock(LocalDate today) {
+        return Clock.fixed(today.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    /**
+     * @return Les catégories des listes générées, avec des identifiants fixes
+     */
+    public static Category[] categories() {
+        Category[] categories = new Category[CATEGORY_COUNT];
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories[i] = new Category("CAT-" + i, CATEGORY_NAMES[i], COLORS[i]);
+        }
+        return categories;
+    }
+
+    /**
+     * Crée une tâche synthétique
+     *
+     * @param random Le générateur aléatoire
+     * @param id L'identifiant de la tâche
+     * @param category La catégorie de la tâche
+     * @param today Le jour de référence des dates
+     * @return La tâche créée (non ajoutée à une liste)
+     */
+    public static Task newTask(Random random, String id, Category category, LocalDate today) {
+        String title = words(random, 2 + random.nextInt(3));
+        String description = words(random, 5 + random.nextInt(10));
+        LocalDate dueDate = random.nextInt(100) < DUE_DATE_PERCENT
+                ? today.plusDays(random.nextInt(91) - 30) : null;
+        boolean completed = random.nextInt(100) < COMPLETED_PERCENT;
+        LocalDate creationDate = today.minusDays(random.nextInt(365));
+        return new Task(id, title, description, dueDate, category, completed, creationDate);
+    }
+
+    /**
+     * @return Un mot du vocabulaire des titres et descriptions
+     */
+    public static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(randomWord(random));
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DatasetGenerator <taille> <fichier> [graine] [SERIALIZATION|BINARY] [aaaa-mm-jj]");
+            System.exit(1);
+        }
+        int size = Integer.parseInt(args[0]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        FileManager.Format format = args.length > 3 ? FileManager.Format.valueOf(args[3]) : FileManager.Format.BINARY;
+        LocalDate today = args.length > 4 ? LocalDate.parse(args[4]) : REFERENCE_DAY;
+        FileManager.saveTodoList(generate(size, seed, today), args[1], format);
+        System.out.printf("%d tâches générées dans %s%n", size, args[1]);
+    }
+}
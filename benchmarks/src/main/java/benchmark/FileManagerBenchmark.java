@@ -0,0 +1,71 @@
+package benchmark;
+
+import model.TodoList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.FileManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sauvegarde et chargement d'une TodoList générée, dans chaque format de FileManager
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class FileManagerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"SERIALIZATION", "BINARY"})
+    private FileManager.Format format;
+
+    private TodoList todoList;
+    private Path file;
+    private PrintStream stdout;
+
+    @Setup
+    public void setUp() throws IOException {
+        // FileManager affiche un message à chaque sauvegarde et chargement
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        todoList = DatasetGenerator.generate(size);
+        file = Files.createTempFile("todo-bench", ".dat");
+        FileManager.saveTodoList(todoList, file.toString(), format);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        FileManager.saveTodoList(todoList, file.toString(), format);
+    }
+
+    @Benchmark
+    public TodoList load() throws IOException, ClassNotFoundException {
+        return FileManager.loadTodoList(file.toString());
+    }
+}
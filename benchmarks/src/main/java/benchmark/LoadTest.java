@@ -0,0 +1,743 @@
+package benchmark;
+
+import model.Category;
+import model.ConcurrentTodoList;
+import model.LatencyHistogram;
+import model.Task;
+import model.TodoList;
+import model.TodoMetrics;
+import service.FileManager;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test de charge : plusieurs clients utilisent en même temps une liste de tâches générée,
+ * avec un mélange configurable de lectures et de modifications, pendant une durée fixe.
+ *
+ * Le test affiche le débit et les latences (p50, p99, p99.9, max) de chaque type
+ * d'opération, puis vérifie l'état final de la liste : les erreurs levées pendant le
+ * test et les modifications perdues (tâche ajoutée introuvable, état terminé différent
+ * de celui écrit en dernier, compteurs incohérents) font échouer le test (code 1).
+ *
+ * Cibles :
+ * <ul>
+ *     <li>synchronized : TodoList, chaque opération dans un bloc synchronized (todoList),
+ *     comme l'attend AutoSaveService (par défaut) ; la sauvegarde périodique copie la liste sous
+ *     le verrou et l'écrit sans le tenir, comme AutoSaveService</li>
+ *     <li>concurrent : ConcurrentTodoList, sans verrou global</li>
+ *     <li>unsafe : TodoList sans synchronisation, pour vérifier que le test détecte les erreurs</li>
+ * </ul>
+ *
+ * Utilisation :
+ * <pre>
+ * java -cp benchmarks.jar benchmark.LoadTest --threads 8 --size 100000 --duration 30
+ *         --mix lookup=50,search=10,add=15,complete=20,upcoming=5 --save-interval 1000
+ *         [--warmup 5] [--target synchronized|concurrent|unsafe] [--virtual] [--seed 42] [--day 2026-01-15]
+ * </pre>
+ * La liste est générée par DatasetGenerator autour d'un jour de référence fixe (--day),
+ * qui est aussi son jour courant : deux exécutions avec les mêmes options sont comparables.
+ */
+public final class LoadTest {
+
+    /**
+     * Types d'opération du mélange
+     */
+    enum Operation {
+        LOOKUP, SEARCH, ADD, COMPLETE, UPCOMING, SAVE;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Opérations tirées par les clients (la sauvegarde est faite par un thread dédié) */
+    private static final Operation[] CLIENT_OPERATIONS = {
+            Operation.LOOKUP, Operation.SEARCH, Operation.ADD, Operation.COMPLETE, Operation.UPCOMING
+    };
+
+    /** Noms des cibles acceptées par --target */
+    private static final List<String> TARGETS = List.of("synchronized", "concurrent", "unsafe");
+
+    /** Précision des latences mesurées : 64 cases par puissance de 2 (environ 1,5 %) */
+    private static final int HISTOGRAM_PRECISION = 6;
+
+    private int threads = 4;
+    private int size = 100_000;
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private long saveIntervalMillis = 1000;
+    private String targetName = "synchronized";
+    private boolean virtualThreads;
+    private long seed = DatasetGenerator.DEFAULT_SEED;
+    private LocalDate referenceDay = DatasetGenerator.REFERENCE_DAY;
+    private final int[] mix = {50, 10, 15, 20, 5};
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest test = new LoadTest();
+        try {
+            test.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: LoadTest [--threads n] [--size n] [--duration s] [--warmup s]"
+                    + " [--mix lookup=50,search=10,add=15,complete=20,upcoming=5] [--save-interval ms]"
+                    + " [--target synchronized|concurrent|unsafe] [--virtual] [--seed n] [--day aaaa-mm-jj]");
+            System.exit(2);
+        }
+        System.exit(test.run() ? 0 : 1);
+    }
+
+    /**
+     * Exécute le test sans quitter la JVM (utilisé par les tests automatisés)
+     *
+     * @param args Les options, comme pour main
+     * @return true si le test réussit (aucune erreur ni modification perdue)
+     * @throws IllegalArgumentException si les options sont invalides
+     */
+    static boolean execute(String... args) throws InterruptedException, IOException {
+        LoadTest test = new LoadTest();
+        test.parse(args);
+        return test.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--virtual")) {
+                virtualThreads = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--size":
+                    size = Integer.parseInt(value);
+                    break;
+                case "--duration":
+                    durationSeconds = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "--save-interval":
+                    saveIntervalMillis = Long.parseLong(value);
+                    break;
+                case "--target":
+                    targetName = value;
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--day":
+                    try {
+                        referenceDay = LocalDate.parse(value);
+                    } catch (DateTimeParseException e) {
+                        throw new IllegalArgumentException("Jour invalide: " + value);
+                    }
+                    break;
+                case "--mix":
+                    parseMix(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Option inconnue: " + option);
+            }
+        }
+        if (threads < 1 || size < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("Paramètres invalides");
+        }
+        if (!TARGETS.contains(targetName)) {
+            throw new IllegalArgumentException("Cible inconnue: " + targetName);
+        }
+    }
+
+    private void parseMix(String value) {
+        int[] weights = new int[CLIENT_OPERATIONS.length];
+        for (String part : value.split(",")) {
+            String[] entry = part.split("=");
+            int index = -1;
+            for (int i = 0; i < CLIENT_OPERATIONS.length; i++) {
+                if (CLIENT_OPERATIONS[i].key().equals(entry[0].trim())) {
+                    index = i;
+                }
+            }
+            if (index < 0 || entry.length != 2) {
+                throw new IllegalArgumentException("Mélange invalide: " + part);
+            }
+            weights[index] = Integer.parseInt(entry[1].trim());
+        }
+        int total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Poids négatif dans le mélange: " + value);
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Mélange vide: " + value);
+        }
+        System.arraycopy(weights, 0, mix, 0, weights.length);
+    }
+
+    // Cibles du test
+
+    /**
+     * Liste testée, vue à travers les seules opérations du test
+     */
+    private interface Target {
+        Task findTaskById(String id);
+
+        List<Task> searchTasks(String keyword);
+
+        boolean addTask(Task task);
+
+        void setCompleted(Task task, boolean completed);
+
+        List<Task> getUpcomingTasks(int days);
+
+        /** @return false si la cible ne sait pas se sauvegarder */
+        boolean save(Path file) throws IOException;
+
+        int getTaskCount();
+
+        int getCompletedCount();
+
+        /** @return Les tâches, relues une à une (et non par les compteurs) */
+        List<Task> getAllTasks();
+    }
+
+    /**
+     * TodoList, avec ou sans synchronisation sur la liste
+     */
+    private static final class TodoListTarget implements Target {
+        private final TodoList todoList;
+        private final Object lock;
+
+        TodoListTarget(TodoList todoList, boolean synchronize) {
+            this.todoList = todoList;
+            this.lock = synchronize ? todoList : null;
+        }
+
+        @Override
+        public Task findTaskById(String id) {
+            if (lock == null) {
+                return todoList.findTaskById(id);
+            }
+            synchronized (lock) {
+                return todoList.findTaskById(id);
+            }
+        }
+
+        @Override
+        public List<Task> searchTasks(String keyword) {
+            if (lock == null) {
+                return todoList.searchTasks(keyword);
+            }
+            synchronized (lock) {
+                return todoList.searchTasks(keyword);
+            }
+        }
+
+        @Override
+        public boolean addTask(Task task) {
+            if (lock == null) {
+                return todoList.addTask(task);
+            }
+            synchronized (lock) {
+                return todoList.addTask(task);
+            }
+        }
+
+        @Override
+        public void setCompleted(Task task, boolean completed) {
+            if (lock == null) {
+                task.setCompleted(completed);
+                return;
+            }
+            synchronized (lock) {
+                task.setCompleted(completed);
+            }
+        }
+
+        @Override
+        public List<Task> getUpcomingTasks(int days) {
+            if (lock == null) {
+                return todoList.getUpcomingTasks(days);
+            }
+            synchronized (lock) {
+                return todoList.getUpcomingTasks(days);
+            }
+        }
+
+        @Override
+        public boolean save(Path file) throws IOException {
+            if (lock == null) {
+                FileManager.saveTodoList(todoList, file.toString(), FileManager.Format.BINARY);
+            } else {
+                // Comme AutoSaveService : copie sous le verrou, encodage et écriture sans le tenir
+                FileManager.saveSharedTodoList(todoList, file.toString());
+            }
+            return true;
+        }
+
+        @Override
+        public int getTaskCount() {
+            return todoList.getTaskCount();
+        }
+
+        @Override
+        public int getCompletedCount() {
+            return todoList.getCompletedCount();
+        }
+
+        @Override
+        public List<Task> getAllTasks() {
+            List<Task> tasks = new ArrayList<>();
+            todoList.forEachTask(tasks::add);
+            return tasks;
+        }
+    }
+
+    /**
+     * ConcurrentTodoList, utilisée sans verrou
+     */
+    private static final class ConcurrentTarget implements Target {
+        private final ConcurrentTodoList todoList;
+
+        ConcurrentTarget(ConcurrentTodoList todoList) {
+            this.todoList = todoList;
+        }
+
+        @Override
+        public Task findTaskById(String id) {
+            return todoList.findTaskById(id);
+        }
+
+        @Override
+        public List<Task> searchTasks(String keyword) {
+            return todoList.searchTasks(keyword);
+        }
+
+        @Override
+        public boolean addTask(Task task) {
+            return todoList.addTask(task);
+        }
+
+        @Override
+        public void setCompleted(Task task, boolean completed) {
+            task.setCompleted(completed);
+        }
+
+        @Override
+        public List<Task> getUpcomingTasks(int days) {
+            return todoList.getUpcomingTasks(days);
+        }
+
+        @Override
+        public boolean save(Path file) throws IOException {
+            // Pas de verrou global : chaque catégorie est copiée sous son propre verrou
+            FileManager.saveTodoList(todoList, file.toString());
+            return true;
+        }
+
+        @Override
+        public int getTaskCount() {
+            return todoList.getTaskCount();
+        }
+
+        @Override
+        public int getCompletedCount() {
+            return todoList.getCompletedCount();
+        }
+
+        @Override
+        public List<Task> getAllTasks() {
+            return todoList.getAllTasks();
+        }
+    }
+
+    private Target createTarget() {
+        switch (targetName) {
+            case "synchronized":
+                return new TodoListTarget(DatasetGenerator.generate(size, seed, referenceDay), true);
+            case "unsafe":
+                return new TodoListTarget(DatasetGenerator.generate(size, seed, referenceDay), false);
+            case "concurrent": {
+                ConcurrentTodoList todoList = new ConcurrentTodoList(DatasetGenerator.clock(referenceDay));
+                Category[] categories = DatasetGenerator.categories();
+                for (Category category : categories) {
+                    todoList.addCategory(category);
+                }
+                for (Task task : DatasetGenerator.generateTasks(size, seed, categories, referenceDay)) {
+                    todoList.addTask(task);
+                }
+                return new ConcurrentTarget(todoList);
+            }
+            default:
+                throw new IllegalArgumentException("Cible inconnue: " + targetName);
+        }
+    }
+
+    // Clients
+
+    /**
+     * Client du test, exécuté par un seul thread. Les tâches terminées ou rouvertes
+     * par un client sont choisies parmi celles dont il a la charge (identifiant
+     * congru à son numéro), ce qui lui permet de connaître leur état final attendu.
+     */
+    private final class Client implements Runnable {
+        private final int number;
+        private final Target target;
+        private final Category[] categories;
+        private final long measureStart;
+        private final long end;
+        private final Random random;
+        private final LocalDate today = referenceDay;
+        private final LatencyHistogram[] histograms;
+        private final long[] errors = new long[Operation.values().length];
+        private final List<Task> added = new ArrayList<>();
+        /** Dernier état écrit par ce client, par tâche */
+        private final Map<Task, Boolean> written = new HashMap<>();
+        /** Variation du nombre de tâches terminées due à ce client */
+        private long completedDelta;
+        private Throwable firstError;
+
+        Client(int number, Target target, Category[] categories, LatencyHistogram[] histograms,
+               long measureStart, long end) {
+            this.number = number;
+            this.target = target;
+            this.categories = categories;
+            this.histograms = histograms;
+            this.measureStart = measureStart;
+            this.end = end;
+            this.random = new Random(seed + number + 1);
+        }
+
+        @Override
+        public void run() {
+            int totalWeight = 0;
+            for (int weight : mix) {
+                totalWeight += weight;
+            }
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                int draw = random.nextInt(totalWeight);
+                int index = 0;
+                while (draw >= mix[index]) {
+                    draw -= mix[index++];
+                }
+                Operation operation = CLIENT_OPERATIONS[index];
+                try {
+                    execute(operation);
+                } catch (RuntimeException | Error e) {
+                    errors[operation.ordinal()]++;
+                    if (firstError == null) {
+                        firstError = e;
+                    }
+                }
+                if (now >= measureStart) {
+                    histograms[operation.ordinal()].record(System.nanoTime() - now);
+                }
+            }
+        }
+
+        private void execute(Operation operation) {
+            switch (operation) {
+                case LOOKUP:
+                    target.findTaskById("TASK-" + random.nextInt(size));
+                    break;
+                case SEARCH:
+                    target.searchTasks(DatasetGenerator.randomWord(random));
+                    break;
+                case ADD: {
+                    Category category = categories[random.nextInt(categories.length)];
+                    Task task = DatasetGenerator.newTask(random, "LOAD-" + number + "-" + added.size(), category, today);
+                    if (target.addTask(task)) {
+                        added.add(task);
+                        if (task.isCompleted()) {
+                            completedDelta++;
+                        }
+                    }
+                    break;
+                }
+                case COMPLETE: {
+                    int slots = (size - number + threads - 1) / threads;
+                    if (slots <= 0) {
+                        break;
+                    }
+                    Task task = target.findTaskById("TASK-" + (number + threads * random.nextInt(slots)));
+                    if (task != null) {
+                        boolean completed = !task.isCompleted();
+                        target.setCompleted(task, completed);
+                        written.put(task, completed);
+                        completedDelta += completed ? 1 : -1;
+                    }
+                    break;
+                }
+                case UPCOMING:
+                    target.getUpcomingTasks(7);
+                    break;
+                default:
+                    throw new IllegalStateException(operation.name());
+            }
+        }
+    }
+
+    // Exécution
+
+    private boolean run() throws InterruptedException, IOException {
+        System.out.printf("Génération de %d tâches (cible %s)...%n", size, targetName);
+        Target target = createTarget();
+        Category[] categories = DatasetGenerator.categories();
+        int initialCount = target.getTaskCount();
+        int initialCompleted = target.getCompletedCount();
+
+        ThreadFactory factory = virtualThreads ? virtualThreadFactory() : null;
+        boolean virtual = factory != null;
+        if (!virtual) {
+            if (virtualThreads) {
+                System.out.println("Threads virtuels indisponibles sur ce JDK : threads classiques utilisés");
+            }
+            factory = Thread::new;
+        }
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        System.out.printf("%d clients (%s), %d s de chauffe puis %d s de mesure%n", threads,
+                virtual ? "threads virtuels" : "threads classiques",
+                warmupSeconds, durationSeconds);
+
+        // Histogrammes partagés par tous les clients : l'enregistrement ne prend pas de verrou
+        LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram(HISTOGRAM_PRECISION);
+        }
+        List<Client> clients = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Client client = new Client(i, target, categories, histograms, measureStart, end);
+            clients.add(client);
+            workers.add(factory.newThread(client));
+        }
+        Saver saver = saveIntervalMillis > 0
+                ? new Saver(target, histograms[Operation.SAVE.ordinal()], measureStart, end) : null;
+        Thread saverThread = saver != null ? new Thread(saver, "load-test-save") : null;
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        if (saverThread != null) {
+            saverThread.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (saverThread != null) {
+            saverThread.join();
+        }
+
+        long[] errors = new long[histograms.length];
+        for (Client client : clients) {
+            for (int i = 0; i < errors.length; i++) {
+                errors[i] += client.errors[i];
+            }
+        }
+        if (saver != null) {
+            errors[Operation.SAVE.ordinal()] += saver.errors;
+        }
+
+        report(histograms, errors);
+        List<String> problems = verify(target, clients, initialCount, initialCompleted);
+        for (Client client : clients) {
+            if (client.firstError != null) {
+                problems.add(0, "Première erreur du client " + client.number + ": " + client.firstError);
+                break;
+            }
+        }
+        if (saver != null && saver.firstError != null) {
+            problems.add(0, "Erreur de sauvegarde: " + saver.firstError);
+        }
+        long errorCount = 0;
+        for (long count : errors) {
+            errorCount += count;
+        }
+        if (errorCount > 0) {
+            problems.add(0, errorCount + " opération(s) en erreur");
+        }
+
+        if (problems.isEmpty()) {
+            System.out.println("Vérification: OK (aucune erreur, aucune modification perdue)");
+            return true;
+        }
+        System.out.println("Vérification: ÉCHEC");
+        for (String problem : problems) {
+            System.out.println("  - " + problem);
+        }
+        return false;
+    }
+
+    /**
+     * Sauvegarde périodique de la liste, pendant que les clients la modifient
+     */
+    private final class Saver implements Runnable {
+        private final Target target;
+        private final long measureStart;
+        private final long end;
+        private final LatencyHistogram histogram;
+        private long errors;
+        private Exception firstError;
+
+        Saver(Target target, LatencyHistogram histogram, long measureStart, long end) {
+            this.target = target;
+            this.histogram = histogram;
+            this.measureStart = measureStart;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            Path file;
+            try {
+                file = Files.createTempFile("todo-load", ".dat");
+            } catch (IOException e) {
+                errors++;
+                firstError = e;
+                return;
+            }
+            try {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    try {
+                        if (!target.save(file)) {
+                            System.out.println("Sauvegarde non prise en charge par la cible " + targetName);
+                            return;
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        errors++;
+                        if (firstError == null) {
+                            firstError = e;
+                        }
+                    }
+                    if (now >= measureStart) {
+                        histogram.record(System.nanoTime() - now);
+                    }
+                    long sleep = Math.min(saveIntervalMillis, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()));
+                    if (sleep > 0) {
+                        Thread.sleep(sleep);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // Fichier temporaire : sans conséquence
+                }
+            }
+        }
+    }
+
+    private void report(LatencyHistogram[] histograms, long[] errors) {
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %8s %10s %10s %10s %10s%n",
+                "Opération", "Nombre", "Op/s", "Erreurs", "p50", "p99", "p99.9", "max");
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            if (histogram.getCount() == 0 && errors[operation.ordinal()] == 0) {
+                continue;
+            }
+            total += histogram.getCount();
+            System.out.printf("%-10s %10d %10.0f %8d %10s %10s %10s %10s%n",
+                    operation.key(), histogram.getCount(), (double) histogram.getCount() / durationSeconds,
+                    errors[operation.ordinal()],
+                    TodoMetrics.formatNanos(histogram.getPercentile(50)),
+                    TodoMetrics.formatNanos(histogram.getPercentile(99)),
+                    TodoMetrics.formatNanos(histogram.getPercentile(99.9)),
+                    TodoMetrics.formatNanos(histogram.getMax()));
+        }
+        System.out.printf("%-10s %10d %10.0f%n%n", "total", total, (double) total / durationSeconds);
+    }
+
+    /**
+     * Compare l'état final de la liste aux modifications confirmées par les clients
+     *
+     * @return Les incohérences trouvées (vide si aucune)
+     */
+    private List<String> verify(Target target, List<Client> clients, int initialCount, int initialCompleted) {
+        List<String> problems = new ArrayList<>();
+        long expectedCount = initialCount;
+        long expectedCompleted = initialCompleted;
+        long lostAdds = 0;
+        long lostCompletions = 0;
+        for (Client client : clients) {
+            expectedCount += client.added.size();
+            expectedCompleted += client.completedDelta;
+            for (Task task : client.added) {
+                if (target.findTaskById(task.getId()) != task) {
+                    lostAdds++;
+                }
+            }
+            for (Map.Entry<Task, Boolean> entry : client.written.entrySet()) {
+                if (entry.getKey().isCompleted() != entry.getValue()) {
+                    lostCompletions++;
+                }
+            }
+        }
+        if (lostAdds > 0) {
+            problems.add(lostAdds + " tâche(s) ajoutée(s) introuvable(s) par identifiant");
+        }
+        if (lostCompletions > 0) {
+            problems.add(lostCompletions + " tâche(s) dont l'état terminé n'est pas le dernier écrit");
+        }
+
+        List<Task> tasks = target.getAllTasks();
+        long completed = tasks.stream().filter(Task::isCompleted).count();
+        if (target.getTaskCount() != expectedCount || tasks.size() != expectedCount) {
+            problems.add(String.format("Nombre de tâches: %d attendu, %d compté, %d parcouru",
+                    expectedCount, target.getTaskCount(), tasks.size()));
+        }
+        if (target.getCompletedCount() != expectedCompleted || completed != expectedCompleted) {
+            problems.add(String.format("Tâches terminées: %d attendu, %d compté, %d parcouru",
+                    expectedCompleted, target.getCompletedCount(), completed));
+        }
+        return problems;
+    }
+
+    /**
+     * Fabrique de threads virtuels (Thread.ofVirtual().factory()), obtenue par réflexion
+     * pour compiler et fonctionner aussi sur un JDK qui n'en dispose pas
+     *
+     * @return La fabrique, ou null si le JDK ne propose pas de threads virtuels
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package benchmark;
+
+import model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Affichage d'une tâche (Task.toString), indépendant de la taille de la liste
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBenchmark {
+    private static final int SAMPLES = 1024;
+
+    private Task[] tasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Task> all = DatasetGenerator.generate(SAMPLES).getAllTasks();
+        tasks = all.toArray(new Task[0]);
+    }
+
+    @Benchmark
+    public String taskToString() {
+        return tasks[next++ & (SAMPLES - 1)].toString();
+    }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import model.Task;
+import model.TodoList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectures sur une TodoList générée : recherche par identifiant, recherche plein texte,
+ * échéances proches et taux de complétion.
+ *
+ * getUpcomingTasks mesure une lecture du cache des vues (la liste ne change pas entre deux
+ * appels) ; getUpcomingTasksAfterChange modifie la liste avant chaque appel et mesure donc
+ * le calcul complet de la vue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TodoListBenchmark {
+    /** Nombre d'identifiants et de mots-clés parcourus en boucle (puissance de 2) */
+    private static final int SAMPLES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TodoList todoList;
+    private String[] ids;
+    private String[] keywords;
+    private int next;
+    /** Tâche sans effet sur les échéances proches, modifiée pour invalider le cache des vues */
+    private Task toggled;
+
+    @Setup
+    public void setUp() {
+        todoList = DatasetGenerator.generate(size);
+        Random random = new Random(DatasetGenerator.DEFAULT_SEED);
+        ids = new String[SAMPLES];
+        keywords = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ids[i] = "TASK-" + random.nextInt(size);
+            keywords[i] = DatasetGenerator.randomWord(random);
+        }
+        LocalDate today = DatasetGenerator.REFERENCE_DAY;
+        toggled = todoList.getAllTasks().stream()
+                .filter(task -> task.getDueDate() == null || task.getDueDate().isAfter(today.plusDays(7))
+                        || task.getDueDate().isBefore(today))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public Task findTaskById() {
+        return todoList.findTaskById(ids[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public List<Task> searchTasks() {
+        return todoList.searchTasks(keywords[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public List<Task> getUpcomingTasks() {
+        return todoList.getUpcomingTasks(7);
+    }
+
+    /**
+     * Inclut le changement d'état d'une tâche (temps constant, sans effet sur le résultat)
+     */
+    @Benchmark
+    public List<Task> getUpcomingTasksAfterChange() {
+        toggled.setCompleted(!toggled.isCompleted());
+        return todoList.getUpcomingTasks(7);
+    }
+
+    @Benchmark
+    public double getCompletionRate() {
+        return todoList.getCompletionRate();
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajouts et suppressions sur une TodoList générée.
+ *
+ * Chaque itération mesure un lot de BATCH opérations sur une liste remise dans son
+ * état initial avant l'itération (hors mesure) : la taille de la liste ne dérive pas
+ * au fil des itérations. Le score (µs par lot de 1000) se lit donc en ns par opération.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = TodoListMutationBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = TodoListMutationBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TodoListMutationBenchmark {
+    static final int BATCH = 1000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TodoList todoList;
+    /** Tâches absentes de la liste, ajoutées par addTask */
+    private Task[] added;
+    /** Tâches de la liste, supprimées par removeTask */
+    private Task[] removed;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        todoList = DatasetGenerator.generate(size);
+        Random random = new Random(DatasetGenerator.DEFAULT_SEED);
+        List<Category> categories = todoList.getCategories();
+        LocalDate today = DatasetGenerator.REFERENCE_DAY;
+        added = new Task[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            Category category = categories.get(random.nextInt(categories.size()));
+            added[i] = DatasetGenerator.newTask(random, "EXTRA-" + i, category, today);
+        }
+        List<Task> all = todoList.getAllTasks();
+        removed = new Task[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            // Tâches distinctes : au plus une par tranche de la liste
+            removed[i] = all.get((int) ((long) i * all.size() / BATCH));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        for (Task task : added) {
+            todoList.removeTask(task);
+        }
+        for (Task task : removed) {
+            if (todoList.findTaskById(task.getId()) == null) {
+                todoList.addTask(task);
+            }
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean addTask() {
+        return todoList.addTask(added[next++]);
+    }
+
+    @Benchmark
+    public boolean removeTask() {
+        return todoList.removeTask(removed[next++]);
+    }
+}
@@ -0,0 +1,43 @@
+package benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Version courte du test de charge : vérifie qu'aucune modification n'est perdue avec
+ * les cibles thread-safe (le test complet se lance à la main). Exclue du build par défaut,
+ * lancée par mvn test -P load-test.
+ */
+@Tag("load")
+class LoadTestTest {
+    private static final String[] SHORT_RUN = {
+            "--threads", "4", "--size", "5000", "--duration", "1", "--warmup", "0", "--save-interval", "200"
+    };
+
+    private static String[] withTarget(String target) {
+        String[] args = Arrays.copyOf(SHORT_RUN, SHORT_RUN.length + 2);
+        args[SHORT_RUN.length] = "--target";
+        args[SHORT_RUN.length + 1] = target;
+        return args;
+    }
+
+    @Test
+    void synchronizedTodoListLosesNoUpdate() throws Exception {
+        assertTrue(LoadTest.execute(withTarget("synchronized")));
+    }
+
+    @Test
+    void concurrentTodoListLosesNoUpdate() throws Exception {
+        assertTrue(LoadTest.execute(withTarget("concurrent")));
+    }
+
+    @Test
+    void invalidOptionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTest.execute("--threads"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTest.execute(withTarget("inconnue")));
+    }
+}
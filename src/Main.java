@@ -1,5 +1,7 @@
 import service.TaskManager;
 
+import java.io.IOException;
+
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 public class Main {
@@ -9,6 +11,16 @@ public class Main {
         // Création du gestionnaire de tâches
         TaskManager taskManager = new TaskManager();
 
+        // --journal <fichier> : liste journalisée, chaque modification est enregistrée immédiatement
+        if (args.length >= 2 && "--journal".equals(args[0])) {
+            try {
+                taskManager.openJournal(args[1]);
+                System.out.println("Journal ouvert: " + args[1]);
+            } catch (IOException e) {
+                System.out.println("Impossible d'ouvrir le journal: " + e.getMessage());
+            }
+        }
+
         // Affichage du menu principal
         taskManager.showMainMenu();
     }
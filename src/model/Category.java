@@ -1,6 +1,8 @@
 package model;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -13,6 +15,9 @@ public class Category implements Serializable {
     private String name;
     private String color;
 
+    /** Registres (listes) auxquels la catégorie appartient, prévenus de ses modifications */
+    private transient List<CategoryRegistry> registries;
+
     /**
      * Constructeur pour créer une nouvelle catégorie
      *
@@ -25,13 +30,26 @@ public class Category implements Serializable {
         this.color = color;
     }
 
+    /**
+     * Constructeur pour recréer une catégorie existante (chargement d'une sauvegarde)
+     *
+     * @param id L'identifiant de la catégorie
+     * @param name Le nom de la catégorie
+     * @param color Le code couleur associé à la catégorie
+     */
+    public Category(String id, String name, String color) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+    }
+
     /**
      * Génère un identifiant unique pour la catégorie
      *
      * @return Un identifiant unique sous forme de chaîne
      */
     private String generateId() {
-        return "CAT-" + System.currentTimeMillis();
+        return IdGenerators.getDefault().nextId("CAT-");
     }
 
     // Getters et Setters
@@ -44,8 +62,16 @@ public class Category implements Serializable {
         return name;
     }
 
+    /**
+     * Change le nom de la catégorie. Les listes qui contiennent la catégorie
+     * mettent à jour leur index des noms.
+     *
+     * @param name Le nouveau nom
+     */
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+        notifyRegistries(oldName);
     }
 
     public String getColor() {
@@ -54,6 +80,28 @@ public class Category implements Serializable {
 
     public void setColor(String color) {
         this.color = color;
+        notifyRegistries(name);
+    }
+
+    private void notifyRegistries(String oldName) {
+        if (registries != null) {
+            for (CategoryRegistry registry : new ArrayList<>(registries)) {
+                registry.categoryChanged(this, oldName);
+            }
+        }
+    }
+
+    void attach(CategoryRegistry registry) {
+        if (registries == null) {
+            registries = new ArrayList<>(1);
+        }
+        registries.add(registry);
+    }
+
+    void detach(CategoryRegistry registry) {
+        if (registries != null) {
+            registries.remove(registry);
+        }
     }
 
     @Override
@@ -0,0 +1,139 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Registre des catégories d'une TodoList : ordre d'ajout, index par identifiant et
+ * index par nom normalisé (sans tenir compte de la casse).
+ *
+ * Les catégories enregistrées signalent leurs modifications au registre
+ * (Category.setName, Category.setColor), ce qui garde l'index des noms à jour.
+ * Si plusieurs catégories portent le même nom, la recherche par nom renvoie
+ * la première enregistrée sous ce nom.
+ */
+class CategoryRegistry implements Iterable<Category> {
+    private final List<Category> ordered = new ArrayList<>();
+    private final Map<String, Category> byId = new HashMap<>();
+    private final Map<String, List<Category>> byName = new HashMap<>();
+    private final Consumer<Category> changeListener;
+
+    /**
+     * @param changeListener Appelé après chaque modification d'une catégorie enregistrée
+     */
+    CategoryRegistry(Consumer<Category> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Enregistre une catégorie
+     *
+     * @return false si une catégorie de même identifiant est déjà enregistrée
+     */
+    boolean add(Category category) {
+        if (byId.putIfAbsent(category.getId(), category) != null) {
+            return false;
+        }
+        ordered.add(category);
+        indexName(category, category.getName());
+        category.attach(this);
+        return true;
+    }
+
+    /**
+     * Retire une catégorie (coût linéaire en nombre de catégories, pour conserver l'ordre)
+     *
+     * @return false si la catégorie n'est pas enregistrée
+     */
+    boolean remove(Category category) {
+        Category registered = byId.remove(category.getId());
+        if (registered == null) {
+            return false;
+        }
+        ordered.remove(registered);
+        unindexName(registered, registered.getName());
+        registered.detach(this);
+        return true;
+    }
+
+    boolean contains(Category category) {
+        return byId.containsKey(category.getId());
+    }
+
+    Category findById(String id) {
+        return byId.get(id);
+    }
+
+    Category findByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        List<Category> matches = byName.get(normalize(name));
+        return matches == null ? null : matches.get(0);
+    }
+
+    int size() {
+        return ordered.size();
+    }
+
+    /**
+     * @return Vue non modifiable des catégories dans l'ordre d'ajout
+     */
+    List<Category> view() {
+        return Collections.unmodifiableList(ordered);
+    }
+
+    @Override
+    public Iterator<Category> iterator() {
+        return view().iterator();
+    }
+
+    /**
+     * Appelée par une catégorie enregistrée après modification de son nom ou de sa couleur
+     *
+     * @param category La catégorie modifiée
+     * @param oldName Le nom avant la modification
+     */
+    void categoryChanged(Category category, String oldName) {
+        if (byId.get(category.getId()) != category) {
+            return;
+        }
+        if (!normalize(oldName).equals(normalize(category.getName()))) {
+            unindexName(category, oldName);
+            indexName(category, category.getName());
+        }
+        changeListener.accept(category);
+    }
+
+    private void indexName(Category category, String name) {
+        byName.computeIfAbsent(normalize(name), n -> new ArrayList<>(1)).add(category);
+    }
+
+    private void unindexName(Category category, String name) {
+        String key = normalize(name);
+        List<Category> matches = byName.get(key);
+        if (matches != null && matches.remove(category) && matches.isEmpty()) {
+            byName.remove(key);
+        }
+    }
+
+    /**
+     * Normalise un nom pour les comparaisons sans casse, indépendamment de la locale
+     * de la machine ("Études", "ÉTUDES" et "études" donnent la même clé).
+     *
+     * Le passage par les majuscules replie les caractères qu'une simple mise en minuscules
+     * laisserait distincts : "ß" devient "SS" puis "ss", ς et σ (sigma final ou non)
+     * deviennent Σ puis sont remis en minuscule selon leur position, "ı" (i sans point)
+     * devient "I" puis "i". "İ" (I avec point) donne "i" suivi du point combinant U+0307
+     * et reste donc distinct de "i".
+     */
+    static String normalize(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,746 @@
+package model;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Variante de TodoList pouvant être partagée entre plusieurs threads.
+ *
+ * Chaque catégorie possède son propre verrou (StampedLock) : les modifications de
+ * catégories différentes ne se bloquent pas entre elles. Les lectures d'une catégorie
+ * sont optimistes (sans verrou tant qu'aucune écriture n'a lieu en même temps), et la
+ * recherche par identifiant passe par une ConcurrentHashMap, sans verrou.
+ *
+ * Une même tâche ne doit être modifiée (titre, échéance, état...) que par un thread
+ * à la fois ; les déplacements entre catégories passent par moveTask ou setCategory.
+ * L'ajout et la suppression de catégories sont sérialisés entre eux, ainsi que la mise à
+ * jour de l'index des noms lors d'un renommage (Category.setName).
+ *
+ * Chaque catégorie a son propre index plein texte (SearchIndex) et son propre index des
+ * échéances (DueDateIndex), protégés par le verrou de la catégorie : la recherche par
+ * mot-clé et les tâches en retard ou à venir interrogent les index de chaque catégorie
+ * sous verrou de lecture, sans parcourir les tâches. Seules les listes des tâches à faire
+ * et terminées, de taille proportionnelle au résultat, parcourent les tâches.
+ */
+public class ConcurrentTodoList extends TaskOwner implements TaskStore {
+    /** Catégories dans l'ordre d'ajout, parcourues sans verrou */
+    private final List<Category> categories = new CopyOnWriteArrayList<>();
+    /** Index des catégories par identifiant et par nom, modifié et lu sous categoryLock */
+    private final CategoryRegistry registry = new SharedRegistry();
+    private final Map<Category, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Task> tasksById = new ConcurrentHashMap<>();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    /** Sérialise l'ajout et la suppression de catégories (buckets, categories et registry ensemble) */
+    private final Object categoryLock = new Object();
+    private final AtomicLong bucketSequence = new AtomicLong();
+    /** Horloge qui donne le jour courant des tâches en retard et à venir */
+    private final Clock clock;
+
+    /**
+     * Registre dont l'index des noms est mis à jour sous categoryLock lorsqu'une catégorie
+     * est renommée, quel que soit le thread qui la renomme
+     */
+    private final class SharedRegistry extends CategoryRegistry {
+        SharedRegistry() {
+            super(category -> { });
+        }
+
+        @Override
+        void categoryChanged(Category category, String oldName) {
+            synchronized (categoryLock) {
+                super.categoryChanged(category, oldName);
+            }
+        }
+    }
+
+    /**
+     * Valeurs d'une tâche telles que sa catégorie les a indexées et comptées
+     */
+    private static final class Indexed {
+        final String title;
+        final String description;
+        /** Jour sous lequel la tâche figure dans l'index des échéances, ou TaskColumns.NO_DATE */
+        final int dueDay;
+        final boolean completed;
+
+        Indexed(Task task) {
+            this.title = task.getTitle();
+            this.description = task.getDescription();
+            this.completed = task.isCompleted();
+            this.dueDay = completed ? TaskColumns.NO_DATE : task.dueDay();
+        }
+    }
+
+    /**
+     * Tâches d'une catégorie, leurs index et le verrou qui les protège.
+     *
+     * Comme TaskBucket, les tâches sont rangées dans un tableau d'emplacements : une tâche
+     * connaît son emplacement (Task.slot), la retirer libère l'emplacement en temps constant,
+     * et un compactage qui conserve l'ordre récupère les emplacements libres lorsqu'ils
+     * deviennent plus nombreux que les tâches. Les champs des tâches ne sont pas confiés à des
+     * colonnes (TaskColumns) : ici, une tâche est lue et modifiée sans le verrou de sa catégorie.
+     *
+     * Pour la même raison, la catégorie garde à côté de chaque tâche les valeurs sous lesquelles
+     * elle l'a indexée et comptée (Indexed) : une tâche modifiée puis retirée avant que sa liste
+     * soit notifiée est retirée des index sous ses anciennes valeurs, sans y laisser de trace.
+     */
+    private static final class Bucket {
+        /** Nombre minimal d'emplacements libres avant un compactage */
+        private static final int MIN_FREE_TO_COMPACT = 64;
+
+        /** Ordre de verrouillage, pour éviter les interblocages lors d'un déplacement */
+        final long order;
+        final StampedLock lock = new StampedLock();
+        final SearchIndex searchIndex = new SearchIndex();
+        final DueDateIndex dueDateIndex = new DueDateIndex();
+        /** Emplacements des tâches, dans l'ordre d'ajout (null : emplacement libre) */
+        private Task[] slots = new Task[16];
+        /** Valeurs indexées de la tâche de chaque emplacement */
+        private Indexed[] indexed = new Indexed[16];
+        /** Nombre d'emplacements utilisés, libres compris */
+        private int end;
+        /** Catégorie supprimée : plus aucune tâche ne peut y être ajoutée */
+        boolean removed;
+        volatile int size;
+
+        Bucket(long order) {
+            this.order = order;
+        }
+
+        /**
+         * @return true si la tâche est rangée dans cette catégorie (sous verrou)
+         */
+        boolean contains(Task task) {
+            int slot = task.slot;
+            return slot >= 0 && slot < end && slots[slot] == task;
+        }
+
+        /**
+         * Ajoute une tâche après les autres et l'indexe (sous verrou d'écriture)
+         *
+         * @return La variation du nombre de tâches terminées (0 ou 1)
+         */
+        int append(Task task) {
+            if (end == slots.length) {
+                slots = Arrays.copyOf(slots, end + (end >> 1));
+                indexed = Arrays.copyOf(indexed, slots.length);
+            }
+            Indexed values = new Indexed(task);
+            task.slot = end;
+            slots[end] = task;
+            indexed[end++] = values;
+            size++;
+            searchIndex.add(task.getId(), values.title, values.description);
+            dueDateIndex.add(task, values.dueDay);
+            return values.completed ? 1 : 0;
+        }
+
+        /**
+         * Retire une tâche de cette catégorie (contains(task)) et de ses index, sous les valeurs
+         * avec lesquelles elle a été indexée (sous verrou d'écriture)
+         *
+         * @return La variation du nombre de tâches terminées (-1 ou 0)
+         */
+        int remove(Task task) {
+            int slot = task.slot;
+            Indexed values = indexed[slot];
+            searchIndex.remove(task.getId(), values.title, values.description);
+            dueDateIndex.remove(task, values.dueDay);
+            slots[slot] = null;
+            indexed[slot] = null;
+            task.slot = -1;
+            size--;
+            int free = end - size;
+            if (free >= MIN_FREE_TO_COMPACT && free > size) {
+                compact();
+            }
+            return values.completed ? -1 : 0;
+        }
+
+        /**
+         * Met les index à jour avec les valeurs courantes d'une tâche de cette catégorie
+         * (contains(task)), sous verrou d'écriture
+         *
+         * @return La variation du nombre de tâches terminées (-1, 0 ou 1)
+         */
+        int refresh(Task task) {
+            Indexed old = indexed[task.slot];
+            Indexed values = new Indexed(task);
+            indexed[task.slot] = values;
+            if (!Objects.equals(old.title, values.title) || !Objects.equals(old.description, values.description)) {
+                searchIndex.update(task.getId(), old.title, old.description, values.title, values.description);
+            }
+            if (old.dueDay != values.dueDay) {
+                dueDateIndex.remove(task, old.dueDay);
+                dueDateIndex.add(task, values.dueDay);
+            }
+            return (values.completed ? 1 : 0) - (old.completed ? 1 : 0);
+        }
+
+        /**
+         * Vide la catégorie et ses index, en rendant leur emplacement aux tâches (sous verrou d'écriture)
+         *
+         * @param action Appelée pour chaque tâche retirée
+         * @return Le nombre de tâches retirées comptées comme terminées
+         */
+        int clear(Consumer<Task> action) {
+            int completed = 0;
+            for (int i = 0; i < end; i++) {
+                Task task = slots[i];
+                if (task != null) {
+                    task.slot = -1;
+                    if (indexed[i].completed) {
+                        completed++;
+                    }
+                    action.accept(task);
+                }
+            }
+            searchIndex.clear();
+            dueDateIndex.clear();
+            slots = new Task[16];
+            indexed = new Indexed[16];
+            end = 0;
+            size = 0;
+            return completed;
+        }
+
+        /**
+         * Regroupe les tâches au début du tableau, dans le même ordre
+         */
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < end; i++) {
+                Task task = slots[i];
+                if (task != null) {
+                    task.slot = kept;
+                    indexed[kept] = indexed[i];
+                    slots[kept++] = task;
+                }
+            }
+            Arrays.fill(slots, kept, end, null);
+            Arrays.fill(indexed, kept, end, null);
+            end = kept;
+        }
+
+        /**
+         * Copie des emplacements (libres compris, à ignorer), sans verrou si aucune écriture
+         * n'a lieu pendant la copie. Une copie invalidée ne lève pas d'exception : au pire,
+         * end dépasse la taille d'un ancien tableau et la copie est complétée par des null.
+         */
+        Object[] snapshot() {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Object[] copy = Arrays.copyOf(slots, end, Object[].class);
+                if (lock.validate(stamp)) {
+                    return copy;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return Arrays.copyOf(slots, end, Object[].class);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Constructeur pour créer une nouvelle liste de tâches vide
+     */
+    public ConcurrentTodoList() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructeur d'une liste vide dont les tâches en retard et à venir suivent une horloge donnée
+     *
+     * @param clock L'horloge (et son fuseau) qui donne le jour courant
+     */
+    public ConcurrentTodoList(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Ajoute une nouvelle catégorie à la liste
+     *
+     * @param category La catégorie à ajouter
+     * @return true si la catégorie a été ajoutée, false si elle existait déjà
+     */
+    public boolean addCategory(Category category) {
+        synchronized (categoryLock) {
+            if (buckets.putIfAbsent(category, new Bucket(bucketSequence.incrementAndGet())) != null) {
+                return false;
+            }
+            categories.add(category);
+            registry.add(category);
+            return true;
+        }
+    }
+
+    /**
+     * Supprime une catégorie et toutes ses tâches associées
+     *
+     * @param category La catégorie à supprimer
+     * @return true si la catégorie a été supprimée, false sinon
+     */
+    public boolean removeCategory(Category category) {
+        Bucket bucket;
+        synchronized (categoryLock) {
+            bucket = buckets.remove(category);
+            if (bucket == null) {
+                return false;
+            }
+            categories.remove(category);
+            registry.remove(category);
+        }
+
+        long stamp = bucket.lock.writeLock();
+        try {
+            bucket.removed = true;
+            taskCount.add(-bucket.size);
+            completedCount.add(-bucket.clear(task -> {
+                tasksById.remove(task.getId(), task);
+                task.setOwner(null);
+            }));
+        } finally {
+            bucket.lock.unlockWrite(stamp);
+        }
+        return true;
+    }
+
+    /**
+     * Récupère toutes les catégories disponibles
+     *
+     * @return La liste des catégories
+     */
+    public List<Category> getCategories() {
+        return new ArrayList<>(categories);
+    }
+
+    /**
+     * Trouve une catégorie par son nom, sans tenir compte de la casse (index des noms,
+     * mis à jour par Category.setName)
+     *
+     * @param name Le nom de la catégorie à rechercher
+     * @return La catégorie trouvée ou null si aucune correspondance
+     */
+    public Category findCategoryByName(String name) {
+        synchronized (categoryLock) {
+            return registry.findByName(name);
+        }
+    }
+
+    /**
+     * Trouve une catégorie par son identifiant
+     *
+     * @param categoryId L'identifiant de la catégorie à rechercher
+     * @return La catégorie trouvée ou null si aucune correspondance
+     */
+    public Category findCategoryById(String categoryId) {
+        synchronized (categoryLock) {
+            return registry.findById(categoryId);
+        }
+    }
+
+    /**
+     * Ajoute une tâche à la liste
+     *
+     * @param task La tâche à ajouter
+     * @return true si la tâche a été ajoutée, false sinon
+     */
+    public boolean addTask(Task task) {
+        try {
+            return addTaskIfAbsent(task) == null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Ajoute une tâche si aucune tâche de même identifiant n'est présente, de manière atomique
+     *
+     * @param task La tâche à ajouter
+     * @return La tâche de même identifiant déjà présente, ou null si la tâche a été ajoutée
+     * @throws IllegalArgumentException si la catégorie de la tâche n'existe pas dans la liste
+     *                                  ou si la tâche appartient à une autre liste
+     */
+    public Task addTaskIfAbsent(Task task) {
+        if (task.getOwner() != null && task.getOwner() != this) {
+            throw new IllegalArgumentException("La tâche appartient déjà à une autre liste: " + task.getId());
+        }
+        Bucket bucket = buckets.get(task.getCategory());
+        if (bucket == null) {
+            throw new IllegalArgumentException("Catégorie inconnue dans la liste: " + task.getCategory());
+        }
+
+        Task existing = tasksById.putIfAbsent(task.getId(), task);
+        if (existing != null) {
+            return existing;
+        }
+
+        long stamp = bucket.lock.writeLock();
+        try {
+            if (bucket.removed) {
+                tasksById.remove(task.getId(), task);
+                throw new IllegalArgumentException("Catégorie supprimée: " + task.getCategory());
+            }
+            completedCount.add(bucket.append(task));
+            taskCount.increment();
+            task.setOwner(this);
+        } finally {
+            bucket.lock.unlockWrite(stamp);
+        }
+        return null;
+    }
+
+    /**
+     * Supprime une tâche de la liste
+     *
+     * @param task La tâche à supprimer
+     * @return true si la tâche a été supprimée, false sinon
+     */
+    public boolean removeTask(Task task) {
+        Task stored = tasksById.get(task.getId());
+        if (stored == null) {
+            return false;
+        }
+
+        while (true) {
+            Category category = stored.getCategory();
+            Bucket bucket = buckets.get(category);
+            if (bucket == null) {
+                return false;
+            }
+
+            long stamp = bucket.lock.writeLock();
+            try {
+                if (!category.equals(stored.getCategory())) {
+                    continue; // déplacée entre-temps : on réessaie dans sa nouvelle catégorie
+                }
+                if (!bucket.contains(stored)) {
+                    return false;
+                }
+                completedCount.add(bucket.remove(stored));
+                taskCount.decrement();
+                tasksById.remove(stored.getId(), stored);
+                stored.setOwner(null);
+                return true;
+            } finally {
+                bucket.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Déplace une tâche vers une autre catégorie, de manière atomique
+     *
+     * @param task La tâche à déplacer
+     * @param category La catégorie de destination
+     * @return true si la tâche a été déplacée, false sinon
+     */
+    public boolean moveTask(Task task, Category category) {
+        Bucket target = buckets.get(category);
+        Task stored = tasksById.get(task.getId());
+        if (target == null || stored == null) {
+            return false;
+        }
+
+        while (true) {
+            Category current = stored.getCategory();
+            if (current.equals(category)) {
+                return true;
+            }
+            Bucket source = buckets.get(current);
+            if (source == null) {
+                return false;
+            }
+
+            // Verrouillage toujours dans le même ordre pour éviter les interblocages
+            Bucket first = source.order < target.order ? source : target;
+            Bucket second = first == source ? target : source;
+            long firstStamp = first.lock.writeLock();
+            long secondStamp = second.lock.writeLock();
+            try {
+                if (!current.equals(stored.getCategory())) {
+                    continue; // déplacée entre-temps : on réessaie
+                }
+                if (source.removed || target.removed || !source.contains(stored)) {
+                    return false;
+                }
+                completedCount.add(source.remove(stored));
+                completedCount.add(target.append(stored));
+                stored.assignCategory(category);
+                return true;
+            } finally {
+                second.lock.unlockWrite(secondStamp);
+                first.lock.unlockWrite(firstStamp);
+            }
+        }
+    }
+
+    @Override
+    boolean moveOwnedTask(Task task, Category category) {
+        // Task.setCategory accepte une catégorie pas encore ajoutée à la liste
+        if (category == null) {
+            return false;
+        }
+        addCategory(category);
+        return moveTask(task, category);
+    }
+
+    @Override
+    void taskTextChanged(Task task, String oldTitle, String oldDescription) {
+        refresh(task);
+    }
+
+    @Override
+    void taskDueDateChanged(Task task, LocalDate oldDueDate) {
+        refresh(task);
+    }
+
+    @Override
+    void taskCompletionChanged(Task task) {
+        refresh(task);
+    }
+
+    /**
+     * Met à jour les index et le compteur des tâches terminées avec les valeurs courantes d'une
+     * tâche, sous le verrou d'écriture de sa catégorie. Les anciennes valeurs passées aux
+     * notifications ne servent pas : la catégorie connaît celles qu'elle a indexées, et une tâche
+     * retirée ou déplacée entre sa modification et la notification n'est plus (ou déjà) indexée
+     * sous ses valeurs courantes.
+     */
+    private void refresh(Task task) {
+        while (true) {
+            Category category = task.getCategory();
+            Bucket bucket = buckets.get(category);
+            if (bucket == null) {
+                return;
+            }
+
+            long stamp = bucket.lock.writeLock();
+            try {
+                if (!category.equals(task.getCategory())) {
+                    continue; // déplacée entre-temps : on réessaie dans sa nouvelle catégorie
+                }
+                if (!bucket.removed && task.getOwner() == this && bucket.contains(task)) {
+                    completedCount.add(bucket.refresh(task));
+                }
+                return;
+            } finally {
+                bucket.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Récupère toutes les tâches d'une catégorie spécifique
+     *
+     * @param category La catégorie dont on veut récupérer les tâches
+     * @return La liste des tâches de cette catégorie
+     */
+    public List<Task> getTasksByCategory(Category category) {
+        Bucket bucket = buckets.get(category);
+        List<Task> result = new ArrayList<>();
+        if (bucket != null) {
+            addTasks(bucket.snapshot(), task -> true, result);
+        }
+        return result;
+    }
+
+    /**
+     * Récupère toutes les tâches de la liste
+     *
+     * @return La liste complète des tâches
+     */
+    public List<Task> getAllTasks() {
+        return filter(task -> true);
+    }
+
+    /**
+     * Récupère les tâches à faire (non terminées)
+     *
+     * @return La liste des tâches non terminées, en lecture seule
+     */
+    public List<Task> getPendingTasks() {
+        return Collections.unmodifiableList(filter(task -> !task.isCompleted()));
+    }
+
+    /**
+     * Récupère les tâches terminées
+     *
+     * @return La liste des tâches terminées, en lecture seule
+     */
+    public List<Task> getCompletedTasks() {
+        return Collections.unmodifiableList(filter(Task::isCompleted));
+    }
+
+    /**
+     * Récupère les tâches en retard (échéance dépassée et non terminées), par échéance
+     * croissante puis dans l'ordre des catégories
+     *
+     * @return La liste des tâches en retard, en lecture seule
+     */
+    public List<Task> getOverdueTasks() {
+        return Collections.unmodifiableList(dueBetween(Long.MIN_VALUE, LocalDate.now(clock).toEpochDay() - 1));
+    }
+
+    /**
+     * Récupère les tâches dont l'échéance est proche (moins de X jours), par échéance
+     * croissante puis dans l'ordre des catégories
+     *
+     * @param days Le nombre de jours considéré comme "proche"
+     * @return La liste des tâches avec échéance proche, en lecture seule
+     */
+    public List<Task> getUpcomingTasks(int days) {
+        long today = LocalDate.now(clock).toEpochDay();
+        return Collections.unmodifiableList(dueBetween(today, today + days));
+    }
+
+    /**
+     * Fusionne les index des échéances de chaque catégorie, lus sous verrou de lecture
+     */
+    private List<Task> dueBetween(long fromDay, long toDay) {
+        NavigableMap<Long, List<Task>> byDay = new TreeMap<>();
+        for (Category category : categories) {
+            Bucket bucket = buckets.get(category);
+            if (bucket == null) {
+                continue;
+            }
+            long stamp = bucket.lock.readLock();
+            try {
+                for (Map.Entry<Long, Set<Task>> day : bucket.dueDateIndex.days(fromDay, toDay).entrySet()) {
+                    byDay.computeIfAbsent(day.getKey(), d -> new ArrayList<>()).addAll(day.getValue());
+                }
+            } finally {
+                bucket.lock.unlockRead(stamp);
+            }
+        }
+
+        List<Task> result = new ArrayList<>();
+        for (List<Task> tasks : byDay.values()) {
+            result.addAll(tasks);
+        }
+        return result;
+    }
+
+    /**
+     * Recherche des tâches par mot-clé, avec les mêmes règles que TodoList.searchTasks,
+     * dans l'index de chaque catégorie lu sous verrou de lecture
+     *
+     * @param keyword Le mot-clé à rechercher
+     * @return La liste des tâches correspondantes, catégorie par catégorie
+     */
+    public List<Task> searchTasks(String keyword) {
+        List<Task> result = new ArrayList<>();
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return result;
+        }
+        for (Category category : categories) {
+            Bucket bucket = buckets.get(category);
+            if (bucket == null) {
+                continue;
+            }
+            long stamp = bucket.lock.readLock();
+            try {
+                for (String taskId : bucket.searchIndex.search(keyword)) {
+                    result.add(tasksById.get(taskId));
+                }
+            } finally {
+                bucket.lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Trouve une tâche par son identifiant, sans verrou
+     *
+     * @param taskId L'identifiant de la tâche à rechercher
+     * @return La tâche trouvée ou null si aucune correspondance
+     */
+    public Task findTaskById(String taskId) {
+        return tasksById.get(taskId);
+    }
+
+    /**
+     * Compte le nombre total de tâches rangées dans une catégorie (une tâche en cours
+     * d'ajout n'est comptée qu'une fois placée, comme pour getAllTasks)
+     *
+     * @return Le nombre de tâches
+     */
+    public int getTaskCount() {
+        return taskCount.intValue();
+    }
+
+    /**
+     * Compte le nombre de tâches d'une catégorie, sans verrou
+     *
+     * @param category La catégorie
+     * @return Le nombre de tâches de cette catégorie (0 si elle n'existe pas)
+     */
+    public int getTaskCount(Category category) {
+        Bucket bucket = buckets.get(category);
+        return bucket == null ? 0 : bucket.size;
+    }
+
+    /**
+     * Compte le nombre de tâches terminées
+     *
+     * @return Le nombre de tâches terminées
+     */
+    public int getCompletedCount() {
+        return completedCount.intValue();
+    }
+
+    /**
+     * Compte le nombre de tâches à faire (non terminées)
+     *
+     * @return Le nombre de tâches non terminées
+     */
+    public int getPendingCount() {
+        return getTaskCount() - getCompletedCount();
+    }
+
+    /**
+     * Calcul le pourcentage de tâches terminées
+     *
+     * @return Le pourcentage de tâches terminées
+     */
+    public double getCompletionRate() {
+        int total = getTaskCount();
+        if (total == 0) {
+            return 0.0;
+        }
+        return (double) getCompletedCount() / total * 100;
+    }
+
+    private List<Task> filter(Predicate<Task> predicate) {
+        List<Task> result = new ArrayList<>();
+        for (Category category : categories) {
+            Bucket bucket = buckets.get(category);
+            if (bucket != null) {
+                addTasks(bucket.snapshot(), predicate, result);
+            }
+        }
+        return result;
+    }
+
+    private static void addTasks(Object[] tasks, Predicate<Task> predicate, List<Task> result) {
+        for (Object element : tasks) {
+            Task task = (Task) element;
+            if (task != null && predicate.test(task)) {
+                result.add(task);
+            }
+        }
+    }
+}
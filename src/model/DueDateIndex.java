@@ -0,0 +1,160 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Index trié des tâches non terminées par date d'échéance (en jours depuis l'epoch).
+ * Les tâches sans date d'échéance et les tâches terminées n'y figurent pas.
+ */
+class DueDateIndex {
+    private final NavigableMap<Long, Set<Task>> tasksByDueDay = new TreeMap<>();
+
+    /**
+     * Ajoute une tâche si elle est en attente et possède une échéance
+     *
+     * @param task La tâche à indexer
+     */
+    void add(Task task) {
+        if (!task.isCompleted()) {
+            add(task, task.dueDay());
+        }
+    }
+
+    /**
+     * Ajoute une tâche sous un jour d'échéance donné
+     *
+     * @param task La tâche à indexer
+     * @param dueDay Le jour d'échéance, ou TaskColumns.NO_DATE (la tâche n'est alors pas indexée)
+     */
+    void add(Task task, int dueDay) {
+        if (dueDay != TaskColumns.NO_DATE) {
+            tasksByDueDay.computeIfAbsent((long) dueDay, d -> new LinkedHashSet<>()).add(task);
+        }
+    }
+
+    /**
+     * Retire une tâche indexée sous une date d'échéance donnée
+     *
+     * @param task La tâche à retirer
+     * @param dueDate La date d'échéance sous laquelle la tâche a été indexée (peut être null)
+     */
+    void remove(Task task, LocalDate dueDate) {
+        if (dueDate != null) {
+            remove(task, (int) dueDate.toEpochDay());
+        }
+    }
+
+    /**
+     * Retire une tâche indexée sous un jour d'échéance donné
+     *
+     * @param task La tâche à retirer
+     * @param dueDay Le jour d'échéance sous lequel la tâche a été indexée, ou TaskColumns.NO_DATE
+     */
+    void remove(Task task, int dueDay) {
+        if (dueDay == TaskColumns.NO_DATE) {
+            return;
+        }
+        Long day = (long) dueDay;
+        Set<Task> tasks = tasksByDueDay.get(day);
+        if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+            tasksByDueDay.remove(day);
+        }
+    }
+
+    /**
+     * Vide l'index
+     */
+    void clear() {
+        tasksByDueDay.clear();
+    }
+
+    /**
+     * Récupère les tâches dont l'échéance est strictement antérieure à un jour donné
+     *
+     * @param day Le jour de référence (exclu)
+     * @return Les tâches triées par échéance
+     */
+    List<Task> before(LocalDate day) {
+        return collect(tasksByDueDay.headMap(day.toEpochDay(), false));
+    }
+
+    /**
+     * Récupère les tâches dont l'échéance est comprise entre deux jours (inclus)
+     *
+     * @param from Le premier jour
+     * @param to Le dernier jour
+     * @return Les tâches triées par échéance
+     */
+    List<Task> between(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return new ArrayList<>();
+        }
+        return collect(tasksByDueDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true));
+    }
+
+    /**
+     * Vue des tâches dont l'échéance est comprise entre deux jours (inclus), par échéance croissante
+     *
+     * @param fromDay Le premier jour (en jours depuis l'epoch)
+     * @param toDay Le dernier jour (en jours depuis l'epoch)
+     * @return Les ensembles de tâches de chaque jour, sans copie
+     */
+    Collection<Set<Task>> range(long fromDay, long toDay) {
+        return days(fromDay, toDay).values();
+    }
+
+    /**
+     * Vue des tâches dont l'échéance est comprise entre deux jours (inclus), indexées par jour
+     *
+     * @param fromDay Le premier jour (en jours depuis l'epoch)
+     * @param toDay Le dernier jour (en jours depuis l'epoch)
+     * @return Les ensembles de tâches de chaque jour, sans copie
+     */
+    NavigableMap<Long, Set<Task>> days(long fromDay, long toDay) {
+        if (toDay < fromDay) {
+            return Collections.emptyNavigableMap();
+        }
+        return tasksByDueDay.subMap(fromDay, true, toDay, true);
+    }
+
+    /**
+     * Compte les tâches dont l'échéance est comprise entre deux jours (inclus)
+     *
+     * @param fromDay Le premier jour (en jours depuis l'epoch)
+     * @param toDay Le dernier jour (en jours depuis l'epoch)
+     * @return Le nombre de tâches
+     */
+    int count(long fromDay, long toDay) {
+        return count(fromDay, toDay, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compte les tâches dont l'échéance est comprise entre deux jours (inclus), en s'arrêtant
+     * dès que le plafond est atteint : chaque jour indexé a au moins une tâche, le parcours
+     * visite donc au plus cap jours, quelle que soit la largeur de la plage
+     *
+     * @param fromDay Le premier jour (en jours depuis l'epoch)
+     * @param toDay Le dernier jour (en jours depuis l'epoch)
+     * @param cap Le plafond
+     * @return Le nombre de tâches, ou cap s'il y en a au moins cap
+     */
+    int count(long fromDay, long toDay, int cap) {
+        int count = 0;
+        for (Set<Task> tasks : range(fromDay, toDay)) {
+            count += tasks.size();
+            if (count >= cap) {
+                return cap;
+            }
+        }
+        return count;
+    }
+
+    private static List<Task> collect(Map<Long, Set<Task>> range) {
+        List<Task> result = new ArrayList<>();
+        for (Set<Task> tasks : range.values()) {
+            result.addAll(tasks);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package model;
+
+/**
+ * Stratégie de génération des identifiants des tâches et des catégories
+ */
+public interface IdGenerator {
+
+    /**
+     * Génère un nouvel identifiant unique
+     *
+     * @param prefix Le préfixe de l'identifiant (ex: "TASK-")
+     * @return Un identifiant unique sous forme de chaîne
+     */
+    String nextId(String prefix);
+
+    /**
+     * Signale un identifiant déjà attribué, lu dans une sauvegarde : les identifiants
+     * générés ensuite ne doivent pas le reproduire. Par défaut, rien n'est fait.
+     *
+     * @param id L'identifiant existant
+     */
+    default void reserve(String id) {
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fabrique et registre du générateur d'identifiants utilisé par Task et Category
+ */
+public final class IdGenerators {
+    private static volatile IdGenerator current = timeSequence();
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Récupère le générateur d'identifiants utilisé par défaut
+     *
+     * @return Le générateur courant
+     */
+    public static IdGenerator getDefault() {
+        return current;
+    }
+
+    /**
+     * Remplace le générateur d'identifiants utilisé par défaut
+     *
+     * @param generator Le nouveau générateur
+     */
+    public static void setDefault(IdGenerator generator) {
+        current = Objects.requireNonNull(generator, "generator");
+    }
+
+    /**
+     * Signale au générateur courant les identifiants des catégories et des tâches d'une
+     * liste chargée (sauvegarde, journal), pour qu'il ne les reproduise pas
+     *
+     * @param store La liste chargée
+     */
+    public static void reserveIds(TaskStore store) {
+        IdGenerator generator = current;
+        for (Category category : store.getCategories()) {
+            generator.reserve(category.getId());
+        }
+        for (Task task : store.getAllTasks()) {
+            generator.reserve(task.getId());
+        }
+    }
+
+    /**
+     * Crée un générateur basé sur l'horloge et un numéro de séquence.
+     * Chaque valeur vaut (millisecondes << 12) + séquence, ce qui permet 4096 identifiants
+     * par milliseconde ; au-delà, les valeurs empruntent les millisecondes suivantes
+     * et restent strictement croissantes. La valeur est encodée en base 36 (11 caractères).
+     *
+     * Une horloge qui recule (réglage, autre machine) pourrait reproduire les identifiants
+     * d'une sauvegarde : les valeurs réservées (reserve) font repartir la séquence après
+     * la plus grande d'entre elles.
+     *
+     * @return Un nouveau générateur, sûr en environnement multi-thread
+     */
+    public static IdGenerator timeSequence() {
+        AtomicLong last = new AtomicLong();
+        return new IdGenerator() {
+            @Override
+            public String nextId(String prefix) {
+                long now = System.currentTimeMillis() << 12;
+                long value = last.accumulateAndGet(now, (previous, time) -> Math.max(previous + 1, time));
+                return prefix + Long.toString(value, 36);
+            }
+
+            @Override
+            public void reserve(String id) {
+                long value = value(id);
+                if (value > 0) {
+                    last.accumulateAndGet(value, Math::max);
+                }
+            }
+        };
+    }
+
+    /**
+     * Crée un générateur à compteur séquentiel (1, 2, 3...), utile pour des
+     * identifiants déterministes. Les valeurs réservées (reserve) font repartir
+     * le compteur après la plus grande d'entre elles.
+     *
+     * @return Un nouveau générateur, sûr en environnement multi-thread
+     */
+    public static IdGenerator sequential() {
+        AtomicLong counter = new AtomicLong();
+        return new IdGenerator() {
+            @Override
+            public String nextId(String prefix) {
+                return prefix + Long.toString(counter.incrementAndGet(), 36);
+            }
+
+            @Override
+            public void reserve(String id) {
+                long value = value(id);
+                if (value > 0) {
+                    counter.accumulateAndGet(value, Math::max);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return La valeur en base 36 qui suit le dernier tiret d'un identifiant (ex: "TASK-k2x9"),
+     * ou -1 si l'identifiant n'a pas cette forme
+     */
+    private static long value(String id) {
+        int start = id.lastIndexOf('-') + 1;
+        if (start == 0 || start == id.length() || !Character.isLetterOrDigit(id.charAt(start))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id, start, id.length(), 36);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
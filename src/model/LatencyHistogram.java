@@ -0,0 +1,123 @@
+package model;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de durées en nanosecondes, de 0 à Long.MAX_VALUE, partageable entre threads.
+ *
+ * Les valeurs inférieures à 2^subBucketBits ont chacune leur case ; au-delà, chaque puissance
+ * de 2 est découpée en 2^subBucketBits cases de même largeur (précision relative d'environ
+ * 2^-subBucketBits). L'enregistrement ne fait ni allocation ni verrouillage : les cases sont
+ * des LongAdder, réparties entre les threads en cas de concurrence.
+ */
+public final class LatencyHistogram {
+    private final int subBucketBits;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets;
+
+    /**
+     * @param subBucketBits Le nombre de bits de précision par puissance de 2 (de 1 à 10)
+     */
+    public LatencyHistogram(int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > 10) {
+            throw new IllegalArgumentException("Précision invalide: " + subBucketBits);
+        }
+        this.subBucketBits = subBucketBits;
+        // Exposants subBucketBits à 62, plus les valeurs inférieures à 2^subBucketBits
+        buckets = new LongAdder[(64 - subBucketBits) << subBucketBits];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Enregistre une durée
+     *
+     * @param nanos La durée en nanosecondes (les valeurs négatives comptent pour 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+        buckets[bucketOf(value)].increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return La durée moyenne en nanosecondes (0 si aucune durée enregistrée)
+     */
+    public long getMean() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : totalNanos.sum() / calls;
+    }
+
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Estime un centile des durées enregistrées
+     *
+     * @param percentile Le centile (par exemple 99.9)
+     * @return La borne haute de la case contenant ce centile, en nanosecondes (0 si aucune durée)
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Remet l'histogramme à zéro
+     */
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    private int bucketOf(long nanos) {
+        if (nanos < (1L << subBucketBits)) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - subBucketBits)) & ((1 << subBucketBits) - 1);
+        return ((exponent - subBucketBits + 1) << subBucketBits) + sub;
+    }
+
+    private long upperBoundOf(int bucket) {
+        if (bucket < (1 << subBucketBits)) {
+            return bucket;
+        }
+        int exponent = (bucket >>> subBucketBits) + subBucketBits - 1;
+        int sub = bucket & ((1 << subBucketBits) - 1);
+        long width = 1L << (exponent - subBucketBits);
+        long lower = (1L << exponent) + sub * width;
+        return lower > Long.MAX_VALUE - width ? Long.MAX_VALUE : lower + width - 1;
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Accumulateur des résultats d'une requête TaskQuery.
+ *
+ * Sans tri (ou si les candidats arrivent déjà dans l'ordre demandé), les tâches sont
+ * gardées dans l'ordre d'arrivée et le parcours s'arrête dès que la limite est atteinte.
+ * Avec un tri et une limite, seules les meilleures tâches sont gardées dans un tas borné
+ * (top-K), au lieu de trier tous les candidats.
+ */
+class QueryResults {
+    /** Capacité initiale maximale du tas */
+    private static final int INITIAL_HEAP_CAPACITY = 256;
+
+    private final Comparator<Task> comparator;
+    private final int limit;
+    private final List<Task> list;
+    private final PriorityQueue<Task> heap;
+
+    /**
+     * @param comparator L'ordre demandé, ou null si les candidats sont déjà dans l'ordre
+     * @param limit Le nombre maximal de résultats
+     */
+    QueryResults(Comparator<Task> comparator, int limit) {
+        this.comparator = comparator;
+        this.limit = limit;
+        boolean bounded = comparator != null && limit < Integer.MAX_VALUE;
+        this.list = bounded ? null : new ArrayList<>();
+        // Le tas garde en tête la moins bonne des tâches retenues ; il grandit au besoin,
+        // sa capacité initiale ne dépend donc pas d'une limite qui peut être très grande
+        this.heap = bounded ? new PriorityQueue<>(Math.max(1, Math.min(limit, INITIAL_HEAP_CAPACITY)),
+                comparator.reversed()) : null;
+    }
+
+    /**
+     * Propose une tâche
+     *
+     * @param task Une tâche satisfaisant tous les critères
+     * @return false si le parcours des candidats peut s'arrêter
+     */
+    boolean offer(Task task) {
+        if (heap == null) {
+            if (list.size() >= limit) {
+                return false;
+            }
+            list.add(task);
+            return comparator != null || list.size() < limit;
+        }
+        if (heap.size() < limit) {
+            heap.add(task);
+        } else if (limit > 0 && comparator.compare(task, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(task);
+        }
+        return true;
+    }
+
+    /**
+     * @return Les résultats, dans l'ordre demandé
+     */
+    List<Task> toList() {
+        List<Task> result = heap != null ? new ArrayList<>(heap) : list;
+        if (comparator != null) {
+            result.sort(comparator);
+        }
+        return result;
+    }
+}
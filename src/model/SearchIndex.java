@@ -0,0 +1,219 @@
+package model;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Index inversé plein texte (terme -> identifiants des tâches) utilisé par TodoList.
+ * Les termes sont découpés sur les caractères non alphanumériques, mis en minuscules
+ * et débarrassés de leurs accents. La recherche se fait par préfixe de terme.
+ * Les ensembles d'identifiants gardent l'ordre d'indexation, pour que la recherche
+ * ne dépende pas du hachage des identifiants.
+ */
+class SearchIndex {
+    private final NavigableMap<String, Set<String>> postings = new TreeMap<>();
+
+    /**
+     * Indexe le titre et la description d'une tâche
+     *
+     * @param task La tâche à indexer
+     */
+    void add(Task task) {
+        add(task.getId(), task.getTitle(), task.getDescription());
+    }
+
+    /**
+     * Indexe un texte donné sous l'identifiant d'une tâche
+     *
+     * @param taskId L'identifiant de la tâche
+     * @param title Le titre indexé
+     * @param description La description indexée
+     */
+    void add(String taskId, String title, String description) {
+        for (String term : terms(title, description)) {
+            postings.computeIfAbsent(term, t -> new LinkedHashSet<>()).add(taskId);
+        }
+    }
+
+    /**
+     * Retire une tâche de l'index
+     *
+     * @param task La tâche à retirer
+     */
+    void remove(Task task) {
+        remove(task.getId(), task.getTitle(), task.getDescription());
+    }
+
+    /**
+     * Retire le texte indexé sous l'identifiant d'une tâche
+     *
+     * @param taskId L'identifiant de la tâche
+     * @param title Le titre indexé
+     * @param description La description indexée
+     */
+    void remove(String taskId, String title, String description) {
+        removeTerms(taskId, terms(title, description));
+    }
+
+    /**
+     * Met à jour l'index après modification du texte d'une tâche
+     *
+     * @param task La tâche modifiée (avec son nouveau texte)
+     * @param oldTitle L'ancien titre
+     * @param oldDescription L'ancienne description
+     */
+    void update(Task task, String oldTitle, String oldDescription) {
+        update(task.getId(), oldTitle, oldDescription, task.getTitle(), task.getDescription());
+    }
+
+    /**
+     * Remplace le texte indexé sous l'identifiant d'une tâche ; les termes communs aux deux
+     * textes gardent leur place dans l'index
+     */
+    void update(String taskId, String oldTitle, String oldDescription, String title, String description) {
+        Set<String> oldTerms = terms(oldTitle, oldDescription);
+        Set<String> newTerms = terms(title, description);
+
+        Set<String> removed = new HashSet<>(oldTerms);
+        removed.removeAll(newTerms);
+        removeTerms(taskId, removed);
+
+        for (String term : newTerms) {
+            if (!oldTerms.contains(term)) {
+                postings.computeIfAbsent(term, t -> new LinkedHashSet<>()).add(taskId);
+            }
+        }
+    }
+
+    /**
+     * Vide l'index
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Recherche les tâches dont le texte contient, pour chaque mot de la requête,
+     * un terme commençant par ce mot
+     *
+     * @param query La requête
+     * @return Les identifiants des tâches correspondantes
+     */
+    Set<String> search(String query) {
+        Set<String> queryTerms = terms(query, null);
+        if (queryTerms.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = null;
+        for (String prefix : queryTerms) {
+            Set<String> matches = new LinkedHashSet<>();
+            for (Set<String> ids : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                if (result == null) {
+                    matches.addAll(ids);
+                } else {
+                    // On ne garde que les candidats déjà retenus par les mots précédents
+                    for (String id : ids) {
+                        if (result.contains(id)) {
+                            matches.add(id);
+                        }
+                    }
+                }
+            }
+            result = matches;
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Vérifie sans index qu'une tâche correspond à une requête, avec les mêmes règles que search
+     *
+     * @param task La tâche
+     * @param queryTerms Les termes de la requête, obtenus par terms(query, null)
+     * @return true si chaque terme de la requête est le début d'un terme de la tâche
+     */
+    static boolean matches(Task task, Set<String> queryTerms) {
+        Set<String> taskTerms = terms(task.getTitle(), task.getDescription());
+        for (String prefix : queryTerms) {
+            boolean found = false;
+            for (String term : taskTerms) {
+                if (term.startsWith(prefix)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeTerms(String taskId, Set<String> terms) {
+        for (String term : terms) {
+            Set<String> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(taskId);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Découpe un ou deux textes en termes normalisés distincts
+     */
+    static Set<String> terms(String first, String second) {
+        Set<String> terms = new HashSet<>();
+        tokenize(first, terms);
+        tokenize(second, terms);
+        return terms;
+    }
+
+    private static void tokenize(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                terms.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            terms.add(folded.substring(start));
+        }
+    }
+
+    /**
+     * Met un texte en minuscules et retire les accents ("Étude" -> "etude")
+     */
+    static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) > 0x7F) {
+                String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+                StringBuilder folded = new StringBuilder(decomposed.length());
+                for (int j = 0; j < decomposed.length(); j++) {
+                    char c = decomposed.charAt(j);
+                    if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                        folded.append(c);
+                    }
+                }
+                return folded.toString();
+            }
+        }
+        return lower;
+    }
+}
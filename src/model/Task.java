@@ -1,15 +1,26 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * Classe représentant une tâche dans l'application To-Do List.
+ *
+ * Une tâche rangée dans une liste partagée entre plusieurs threads ne se lit et ne se modifie que
+ * sous le verrou de la liste (synchronized (todoList)) : son échéance, sa date de création et son
+ * état sont alors détenus par les colonnes de la liste, qui peuvent les déplacer (compaction) ou
+ * les rendre à la tâche (retrait).
  */
 public class Task implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /** Valeur de dueDay() et creationDay() pour une tâche sans date */
+    public static final int NO_DATE = TaskColumns.NO_DATE;
+
     private String id;
     private String title;
     private String description;
@@ -18,6 +29,22 @@ public class Task implements Serializable {
     private Category category;
     private LocalDate creationDate;
 
+    /**
+     * Liste propriétaire de la tâche, reconstruite au chargement. Une ConcurrentTodoList peut la
+     * retirer pendant qu'un autre thread modifie la tâche : elle n'est lue qu'une fois par notification.
+     */
+    private transient TaskOwner owner;
+
+    /** Emplacement de la tâche dans le stockage de sa catégorie (tenu à jour par TodoList, -1 hors liste) */
+    transient int slot = -1;
+
+    /**
+     * Colonnes du stockage de la catégorie lorsque la tâche est rangée dans une TodoList
+     * (null sinon). Elles détiennent alors l'échéance, la date de création et l'état terminé
+     * de la tâche, à la position slot : les champs correspondants ne sont plus utilisés.
+     */
+    private transient TaskColumns columns;
+
     /**
      * Constructeur pour créer une nouvelle tâche
      *
@@ -37,26 +64,68 @@ public class Task implements Serializable {
     }
 
     /**
-     * Génère un identifiant unique pour la tâche basé sur le timestamp
+     * Constructeur pour recréer une tâche existante (chargement d'une sauvegarde)
+     *
+     * @param id L'identifiant de la tâche
+     * @param title Le titre de la tâche
+     * @param description La description détaillée de la tâche
+     * @param dueDate La date d'échéance de la tâche
+     * @param category La catégorie à laquelle appartient la tâche
+     * @param completed true si la tâche est terminée
+     * @param creationDate La date de création de la tâche
+     */
+    public Task(String id, String title, String description, LocalDate dueDate,
+                Category category, boolean completed, LocalDate creationDate) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.category = category;
+        this.completed = completed;
+        this.creationDate = creationDate;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        slot = -1;
+    }
+
+    /**
+     * Écrit les valeurs courantes, y compris celles détenues par les colonnes (forme sérialisée inchangée)
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("id", id);
+        fields.put("title", title);
+        fields.put("description", description);
+        fields.put("dueDate", getDueDate());
+        fields.put("completed", isCompleted());
+        fields.put("category", category);
+        fields.put("creationDate", getCreationDate());
+        out.writeFields();
+    }
+
+    /**
+     * Génère un identifiant unique pour la tâche avec le générateur par défaut
      *
      * @return Un identifiant unique sous forme de chaîne
      */
     private String generateId() {
-        return "TASK-" + System.currentTimeMillis();
+        return IdGenerators.getDefault().nextId("TASK-");
     }
 
     /**
      * Marque la tâche comme terminée
      */
     public void markAsCompleted() {
-        this.completed = true;
+        setCompleted(true);
     }
 
     /**
      * Marque la tâche comme non terminée
      */
     public void markAsIncomplete() {
-        this.completed = false;
+        setCompleted(false);
     }
 
     /**
@@ -65,7 +134,8 @@ public class Task implements Serializable {
      * @return true si la tâche est en retard, false sinon
      */
     public boolean isOverdue() {
-        return !completed && dueDate != null && dueDate.isBefore(LocalDate.now());
+        LocalDate dueDate = getDueDate();
+        return !isCompleted() && dueDate != null && dueDate.isBefore(LocalDate.now());
     }
 
     // Getters et Setters
@@ -79,7 +149,12 @@ public class Task implements Serializable {
     }
 
     public void setTitle(String title) {
+        String oldTitle = this.title;
         this.title = title;
+        TaskOwner owner = this.owner;
+        if (owner != null && !Objects.equals(oldTitle, title)) {
+            owner.taskTextChanged(this, oldTitle, description);
+        }
     }
 
     public String getDescription() {
@@ -87,45 +162,157 @@ public class Task implements Serializable {
     }
 
     public void setDescription(String description) {
+        String oldDescription = this.description;
         this.description = description;
+        TaskOwner owner = this.owner;
+        if (owner != null && !Objects.equals(oldDescription, description)) {
+            owner.taskTextChanged(this, title, oldDescription);
+        }
     }
 
+    /**
+     * @return L'échéance ; pour une tâche rangée dans une liste, une nouvelle LocalDate à chaque appel
+     * (dueDay() la lit sans allocation)
+     */
     public LocalDate getDueDate() {
-        return dueDate;
+        TaskColumns columns = this.columns;
+        return columns != null ? TaskColumns.toDate(columns.dueDay(slot)) : dueDate;
     }
 
     public void setDueDate(LocalDate dueDate) {
-        this.dueDate = dueDate;
+        LocalDate oldDueDate = getDueDate();
+        TaskColumns columns = this.columns;
+        if (columns != null) {
+            columns.setDueDate(slot, dueDate);
+        } else {
+            this.dueDate = dueDate;
+        }
+        TaskOwner owner = this.owner;
+        if (owner != null && !Objects.equals(oldDueDate, dueDate)) {
+            owner.taskDueDateChanged(this, oldDueDate);
+        }
+    }
+
+    /**
+     * @return L'échéance en jours depuis l'epoch, ou NO_DATE, sans créer de LocalDate
+     */
+    public int dueDay() {
+        TaskColumns columns = this.columns;
+        return columns != null ? columns.dueDay(slot) : TaskColumns.toDay(dueDate);
     }
 
     public boolean isCompleted() {
-        return completed;
+        TaskColumns columns = this.columns;
+        return columns != null ? columns.isCompleted(slot) : completed;
     }
 
     public void setCompleted(boolean completed) {
-        this.completed = completed;
+        if (isCompleted() == completed) {
+            return;
+        }
+        assignCompleted(completed);
+        TaskOwner owner = this.owner;
+        if (owner != null) {
+            owner.taskCompletionChanged(this);
+        }
     }
 
     public Category getCategory() {
         return category;
     }
 
+    /**
+     * Change la catégorie de la tâche. Si la tâche appartient à une liste,
+     * elle est déplacée dans la catégorie correspondante de cette liste
+     * (la catégorie est ajoutée à la liste si elle n'y est pas encore).
+     *
+     * @param category La nouvelle catégorie
+     * @throws IllegalArgumentException si la tâche appartient à une liste et que la catégorie est null
+     */
     public void setCategory(Category category) {
+        TaskOwner owner = this.owner;
+        if (owner != null && !Objects.equals(this.category, category)) {
+            if (!owner.moveOwnedTask(this, category)) {
+                throw new IllegalArgumentException("Catégorie invalide: " + category);
+            }
+            return;
+        }
         this.category = category;
     }
 
+    /**
+     * Affecte la catégorie sans passer par la liste propriétaire
+     * (utilisé par TodoList lors d'un déplacement)
+     */
+    void assignCategory(Category category) {
+        this.category = category;
+    }
+
+    /**
+     * Affecte l'état terminé sans notifier la liste propriétaire
+     * (utilisé par TodoList lors d'une opération groupée)
+     */
+    void assignCompleted(boolean completed) {
+        TaskColumns columns = this.columns;
+        if (columns != null) {
+            columns.setCompleted(slot, completed);
+        } else {
+            this.completed = completed;
+        }
+    }
+
+    /**
+     * Confie l'échéance, la date de création et l'état aux colonnes qui viennent de les
+     * recevoir à l'emplacement slot (utilisé par TaskBucket)
+     */
+    void attachColumns(TaskColumns columns) {
+        this.columns = columns;
+        this.dueDate = null;
+        this.creationDate = null;
+        this.completed = false;
+    }
+
+    /**
+     * Reprend dans la tâche les valeurs détenues par les colonnes, avant qu'elle quitte
+     * son emplacement (utilisé par TaskBucket)
+     */
+    void detachColumns() {
+        if (columns != null) {
+            dueDate = getDueDate();
+            creationDate = getCreationDate();
+            completed = isCompleted();
+            columns = null;
+        }
+    }
+
+    TaskOwner getOwner() {
+        return owner;
+    }
+
+    void setOwner(TaskOwner owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @return La date de création ; pour une tâche rangée dans une liste, une nouvelle LocalDate
+     * à chaque appel (creationDay() la lit sans allocation)
+     */
     public LocalDate getCreationDate() {
-        return creationDate;
+        TaskColumns columns = this.columns;
+        return columns != null ? TaskColumns.toDate(columns.creationDay(slot)) : creationDate;
+    }
+
+    /**
+     * @return La date de création en jours depuis l'epoch, ou NO_DATE
+     */
+    public int creationDay() {
+        TaskColumns columns = this.columns;
+        return columns != null ? columns.creationDay(slot) : TaskColumns.toDay(creationDate);
     }
 
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String dueDateStr = dueDate != null ? dueDate.format(formatter) : "Non définie";
-        String status = completed ? "Terminée" : (isOverdue() ? "En retard" : "À faire");
-
-        return String.format("[%s] %s - %s - Échéance: %s - Catégorie: %s - %s",
-                id, title, description, dueDateStr, category.getName(), status);
+        return TaskRenderer.forToday().render(this);
     }
 
     @Override
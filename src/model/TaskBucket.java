@@ -0,0 +1,241 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Stockage des tâches d'une catégorie : un tableau d'emplacements et les colonnes
+ * (TaskColumns) qui lui sont parallèles. Les colonnes détiennent l'échéance, la date
+ * de création et l'état des tâches rangées (voir Task.attachColumns).
+ *
+ * Une tâche connaît son emplacement (Task.slot) : la retirer libère l'emplacement
+ * sans décaler les suivants, en temps constant. Les emplacements libres sont
+ * récupérés par un compactage qui conserve l'ordre, déclenché lorsqu'ils deviennent
+ * plus nombreux que les tâches (coût amorti constant par suppression).
+ *
+ * Vu comme une List, le stockage ne contient que les tâches, dans l'ordre d'ajout ;
+ * les lectures ne le modifient jamais.
+ */
+class TaskBucket extends AbstractList<Task> implements RandomAccess {
+    /** Nombre minimal d'emplacements libres avant un compactage */
+    private static final int MIN_FREE_TO_COMPACT = 64;
+
+    private Task[] slots = new Task[16];
+    private int end;
+    private TaskColumns columns = new TaskColumns();
+
+    /**
+     * Ajoute une tâche après les autres et lui attribue son emplacement
+     */
+    void append(Task task) {
+        if (end == slots.length) {
+            slots = Arrays.copyOf(slots, end + (end >> 1));
+        }
+        task.slot = end;
+        slots[end++] = task;
+        columns.add(task);
+        task.attachColumns(columns);
+    }
+
+    /**
+     * Retire une tâche en libérant son emplacement
+     *
+     * @param task Une tâche de ce stockage
+     */
+    void remove(Task task) {
+        int slot = task.slot;
+        task.detachColumns();
+        slots[slot] = null;
+        columns.remove(slot);
+        task.slot = -1;
+        int free = end - columns.size();
+        if (free >= MIN_FREE_TO_COMPACT && free > columns.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rend leurs valeurs à toutes les tâches, lorsque le stockage est abandonné
+     * (suppression de la catégorie)
+     */
+    void detachAll() {
+        for (int i = 0; i < end; i++) {
+            Task task = slots[i];
+            if (task != null) {
+                task.detachColumns();
+                task.slot = -1;
+            }
+        }
+    }
+
+    /**
+     * Regroupe les tâches au début du tableau, dans le même ordre, et reconstruit les colonnes
+     */
+    private void compact() {
+        TaskColumns compacted = new TaskColumns();
+        int kept = 0;
+        for (int i = 0; i < end; i++) {
+            Task task = slots[i];
+            if (task != null) {
+                compacted.add(columns.dueDay(i), columns.creationDay(i), columns.isCompleted(i));
+                task.slot = kept;
+                task.attachColumns(compacted);
+                slots[kept++] = task;
+            }
+        }
+        Arrays.fill(slots, kept, end, null);
+        end = kept;
+        columns = compacted;
+    }
+
+    /**
+     * @return Les colonnes, indexées par emplacement
+     */
+    TaskColumns columns() {
+        return columns;
+    }
+
+    /**
+     * @param slot Un emplacement
+     * @return La tâche de cet emplacement, ou null s'il est libre
+     */
+    Task at(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Ajoute à une collection les tâches de rang from à from + count (exclu)
+     */
+    void copyTo(Collection<? super Task> target, int from, int count) {
+        if (count <= 0) {
+            return;
+        }
+        for (int i = columns.slotOf(from); count > 0; i++) {
+            if (slots[i] != null) {
+                target.add(slots[i]);
+                count--;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    public Task get(int index) {
+        Objects.checkIndex(index, size());
+        return slots[end == size() ? index : columns.slotOf(index)];
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<Task>() {
+            private int next = skipFree(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public Task next() {
+                if (next >= end) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots[next];
+                next = skipFree(next + 1);
+                return task;
+            }
+        };
+    }
+
+    private int skipFree(int slot) {
+        while (slot < end && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Task> action) {
+        for (int i = 0; i < end; i++) {
+            if (slots[i] != null) {
+                action.accept(slots[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<Task> spliterator() {
+        return new SlotSpliterator(0, end, size());
+    }
+
+    /**
+     * Spliterator sur un intervalle d'emplacements. La taille de chaque moitié
+     * est comptée exactement sur les bits d'occupation des colonnes.
+     */
+    private final class SlotSpliterator implements Spliterator<Task> {
+        private int next;
+        private final int to;
+        private int remaining;
+
+        SlotSpliterator(int from, int to, int remaining) {
+            this.next = from;
+            this.to = to;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Task> action) {
+            next = Math.min(skipFree(next), to);
+            if (next >= to) {
+                return false;
+            }
+            remaining--;
+            action.accept(slots[next++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Task> action) {
+            for (; next < to; next++) {
+                if (slots[next] != null) {
+                    action.accept(slots[next]);
+                }
+            }
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator<Task> trySplit() {
+            int middle = (next + to) >>> 1;
+            if (middle - next < 64) {
+                return null;
+            }
+            int count = columns.countBetween(next, middle);
+            SlotSpliterator prefix = new SlotSpliterator(next, middle, count);
+            next = middle;
+            remaining -= count;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
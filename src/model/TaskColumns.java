@@ -0,0 +1,233 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Stockage en colonnes des champs scalaires des tâches d'une catégorie.
+ *
+ * La position i de chaque colonne correspond à l'emplacement i du TaskBucket de la
+ * catégorie : les dates sont stockées en jours depuis l'epoch dans des int[], l'état
+ * terminé, la présence d'une échéance et l'occupation de l'emplacement dans des tableaux
+ * de bits. Les filtres (TaskFilter) sont évalués mot par mot, 64 tâches à la fois, sans
+ * passer par les objets Task.
+ *
+ * Les colonnes sont le seul exemplaire de ces valeurs pour les tâches rangées : une tâche
+ * attachée (Task.attachColumns) lit et écrit son échéance, sa date de création et son état
+ * à son emplacement, sans garder de LocalDate ni de copie dans ses propres champs. La
+ * catégorie est celle du stockage et le texte reste dans la tâche.
+ */
+class TaskColumns {
+    /** Valeur d'une date absente */
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] dueDays = new int[INITIAL_CAPACITY];
+    private int[] creationDays = new int[INITIAL_CAPACITY];
+    private long[] completedBits = new long[1];
+    private long[] hasDueBits = new long[1];
+    /** Emplacements occupés (les tâches retirées laissent un emplacement libre) */
+    private long[] liveBits = new long[1];
+    /** Nombre d'emplacements utilisés, libres compris */
+    private int end;
+    private int size;
+    private int completedCount;
+
+    /**
+     * Ajoute les champs d'une tâche dans un nouvel emplacement, après les autres
+     *
+     * @param task La tâche ajoutée en fin de liste
+     */
+    void add(Task task) {
+        add(task.dueDay(), task.creationDay(), task.isCompleted());
+    }
+
+    /**
+     * Ajoute des valeurs dans un nouvel emplacement, après les autres
+     *
+     * @param dueDay L'échéance en jours depuis l'epoch, ou NO_DATE
+     * @param creationDay La date de création en jours depuis l'epoch, ou NO_DATE
+     * @param completed L'état terminé
+     */
+    void add(int dueDay, int creationDay, boolean completed) {
+        if (end == dueDays.length) {
+            int capacity = end + (end >> 1);
+            dueDays = Arrays.copyOf(dueDays, capacity);
+            creationDays = Arrays.copyOf(creationDays, capacity);
+        }
+        if ((end >> 6) == completedBits.length) {
+            completedBits = Arrays.copyOf(completedBits, completedBits.length * 2);
+            hasDueBits = Arrays.copyOf(hasDueBits, hasDueBits.length * 2);
+            liveBits = Arrays.copyOf(liveBits, liveBits.length * 2);
+        }
+        int index = end++;
+        creationDays[index] = creationDay;
+        liveBits[index >> 6] |= 1L << index;
+        size++;
+        setDueDay(index, dueDay);
+        setCompleted(index, completed);
+    }
+
+    /**
+     * Libère un emplacement, sans décaler les suivants
+     *
+     * @param index L'emplacement à libérer
+     */
+    void remove(int index) {
+        setCompleted(index, false);
+        setDueDate(index, null);
+        liveBits[index >> 6] &= ~(1L << index);
+        size--;
+    }
+
+    void setDueDate(int index, LocalDate dueDate) {
+        setDueDay(index, toDay(dueDate));
+    }
+
+    private void setDueDay(int index, int dueDay) {
+        dueDays[index] = dueDay;
+        if (dueDay != NO_DATE) {
+            hasDueBits[index >> 6] |= 1L << index;
+        } else {
+            hasDueBits[index >> 6] &= ~(1L << index);
+        }
+    }
+
+    void setCompleted(int index, boolean completed) {
+        long mask = 1L << index;
+        boolean current = (completedBits[index >> 6] & mask) != 0;
+        if (current == completed) {
+            return;
+        }
+        completedBits[index >> 6] ^= mask;
+        completedCount += completed ? 1 : -1;
+    }
+
+    boolean isCompleted(int index) {
+        return (completedBits[index >> 6] & (1L << index)) != 0;
+    }
+
+    int dueDay(int index) {
+        return dueDays[index];
+    }
+
+    int creationDay(int index) {
+        return creationDays[index];
+    }
+
+    /**
+     * @return Le nombre de tâches (emplacements occupés)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Le nombre d'emplacements utilisés, libres compris
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * Compte les emplacements occupés dans un intervalle
+     *
+     * @param from Le premier emplacement (inclus)
+     * @param to Le dernier emplacement (exclu)
+     * @return Le nombre de tâches de l'intervalle
+     */
+    int countBetween(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int first = from >> 6;
+        int last = (to - 1) >> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (first == last) {
+            return Long.bitCount(liveBits[first] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(liveBits[first] & firstMask) + Long.bitCount(liveBits[last] & lastMask);
+        for (int w = first + 1; w < last; w++) {
+            count += Long.bitCount(liveBits[w]);
+        }
+        return count;
+    }
+
+    /**
+     * Trouve l'emplacement de la tâche de rang donné, en sautant 64 emplacements à la fois
+     *
+     * @param index Le rang de la tâche (0 pour la première), inférieur à size()
+     * @return Son emplacement
+     */
+    int slotOf(int index) {
+        int remaining = index;
+        for (int w = 0; ; w++) {
+            long bits = liveBits[w];
+            int count = Long.bitCount(bits);
+            if (remaining < count) {
+                for (int i = 0; i < remaining; i++) {
+                    bits &= bits - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            remaining -= count;
+        }
+    }
+
+    int completedCount() {
+        return completedCount;
+    }
+
+    /**
+     * @return Le nombre de mots de 64 bits couvrant les tâches
+     */
+    int words() {
+        return (end + 63) >> 6;
+    }
+
+    /**
+     * @param w L'indice du mot
+     * @return Les bits des emplacements occupés dans ce mot
+     */
+    long validWord(int w) {
+        return liveBits[w];
+    }
+
+    long completedWord(int w) {
+        return completedBits[w];
+    }
+
+    long hasDueWord(int w) {
+        return hasDueBits[w];
+    }
+
+    /**
+     * Calcule les bits des tâches dont l'échéance est strictement antérieure à un jour
+     *
+     * @param w L'indice du mot
+     * @param day Le jour de référence (en jours depuis l'epoch)
+     * @return Les bits correspondants (jamais positionnés pour une tâche sans échéance)
+     */
+    long dueBeforeWord(int w, int day) {
+        int from = w << 6;
+        int to = Math.min(end, from + 64);
+        int[] days = dueDays;
+        long bits = 0;
+        // Sans branche : le bit de signe de (due - day) vaut 1 si due < day. NO_DATE donnerait
+        // aussi 1 (ou 0 par débordement) : le masque des échéances présentes l'écarte.
+        for (int i = from; i < to; i++) {
+            bits |= (long) ((days[i] - day) >>> 31) << i;
+        }
+        return bits & hasDueBits[w];
+    }
+
+    static int toDay(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+
+    static LocalDate toDate(int day) {
+        return day == NO_DATE ? null : LocalDate.ofEpochDay(day);
+    }
+}
@@ -0,0 +1,268 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * Filtre combinable sur l'état, l'échéance et la catégorie des tâches d'une TodoList.
+ *
+ * Les filtres se combinent avec and, or, andNot et not, par exemple
+ * TaskFilter.pending().and(TaskFilter.category(urgent)). Ils sont évalués par la liste
+ * sur ses colonnes de bits, 64 tâches à la fois : les catégories qui ne peuvent pas
+ * correspondre sont sautées, et seules les tâches retenues sont lues.
+ *
+ * Un filtre est immuable et peut être réutilisé pour plusieurs requêtes.
+ */
+public abstract class TaskFilter {
+
+    private static final TaskFilter ALL = new Constant(true);
+    private static final TaskFilter NONE = new Constant(false);
+    private static final TaskFilter COMPLETED = new Completed();
+    private static final TaskFilter PENDING = COMPLETED.not();
+    private static final TaskFilter HAS_DUE_DATE = new HasDueDate();
+    private static final TaskFilter OVERDUE = new DueBefore().andNot(COMPLETED);
+
+    TaskFilter() {
+    }
+
+    /** Toutes les tâches */
+    public static TaskFilter all() {
+        return ALL;
+    }
+
+    /** Aucune tâche */
+    public static TaskFilter none() {
+        return NONE;
+    }
+
+    /** Tâches terminées */
+    public static TaskFilter completed() {
+        return COMPLETED;
+    }
+
+    /** Tâches non terminées */
+    public static TaskFilter pending() {
+        return PENDING;
+    }
+
+    /** Tâches ayant une date d'échéance */
+    public static TaskFilter hasDueDate() {
+        return HAS_DUE_DATE;
+    }
+
+    /** Tâches en retard (échéance dépassée et non terminées), comme Task.isOverdue() */
+    public static TaskFilter overdue() {
+        return OVERDUE;
+    }
+
+    /**
+     * Tâches d'une catégorie
+     *
+     * @param category La catégorie
+     * @return Le filtre
+     */
+    public static TaskFilter category(Category category) {
+        return new InCategory(Objects.requireNonNull(category));
+    }
+
+    /** Tâches retenues par ce filtre et par other */
+    public TaskFilter and(TaskFilter other) {
+        return new Combination(this, other, Operator.AND);
+    }
+
+    /** Tâches retenues par ce filtre ou par other */
+    public TaskFilter or(TaskFilter other) {
+        return new Combination(this, other, Operator.OR);
+    }
+
+    /** Tâches retenues par ce filtre mais pas par other */
+    public TaskFilter andNot(TaskFilter other) {
+        return new Combination(this, other, Operator.AND_NOT);
+    }
+
+    /** Tâches non retenues par ce filtre */
+    public TaskFilter not() {
+        return new Combination(ALL, this, Operator.AND_NOT);
+    }
+
+    /**
+     * Calcule les bits des tâches retenues dans un mot des colonnes d'une catégorie.
+     * Les bits situés au-delà des positions occupées sont ignorés par l'appelant.
+     *
+     * @param columns Les colonnes de la catégorie
+     * @param w L'indice du mot
+     * @param today Le jour courant (en jours depuis l'epoch)
+     * @return Les bits des tâches retenues
+     */
+    abstract long word(TaskColumns columns, int w, int today);
+
+    /**
+     * Spécialise le filtre pour une catégorie : les conditions de catégorie deviennent
+     * des constantes, ce qui permet de sauter les catégories qui ne correspondent pas
+     *
+     * @param category La catégorie parcourue
+     * @return Le filtre simplifié (none() si aucune tâche de la catégorie ne peut correspondre)
+     */
+    abstract TaskFilter bind(Category category);
+
+    private enum Operator {
+        AND(" ET "), OR(" OU "), AND_NOT(" SAUF ");
+
+        private final String label;
+
+        Operator(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Constant extends TaskFilter {
+        private final boolean value;
+
+        Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            return value ? -1L : 0L;
+        }
+
+        @Override
+        TaskFilter bind(Category category) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return value ? "toutes" : "aucune";
+        }
+    }
+
+    private static final class Completed extends TaskFilter {
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            return columns.completedWord(w);
+        }
+
+        @Override
+        TaskFilter bind(Category category) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "terminées";
+        }
+    }
+
+    private static final class HasDueDate extends TaskFilter {
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            return columns.hasDueWord(w);
+        }
+
+        @Override
+        TaskFilter bind(Category category) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "avec échéance";
+        }
+    }
+
+    private static final class DueBefore extends TaskFilter {
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            return columns.dueBeforeWord(w, today);
+        }
+
+        @Override
+        TaskFilter bind(Category category) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "échéance dépassée";
+        }
+    }
+
+    private static final class InCategory extends TaskFilter {
+        private final Category category;
+
+        InCategory(Category category) {
+            this.category = category;
+        }
+
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            // Toujours spécialisé par bind() avant l'évaluation
+            throw new IllegalStateException("Filtre de catégorie non spécialisé");
+        }
+
+        @Override
+        TaskFilter bind(Category current) {
+            return category.equals(current) ? ALL : NONE;
+        }
+
+        @Override
+        public String toString() {
+            return "catégorie " + category.getName();
+        }
+    }
+
+    private static final class Combination extends TaskFilter {
+        private final TaskFilter left;
+        private final TaskFilter right;
+        private final Operator operator;
+
+        Combination(TaskFilter left, TaskFilter right, Operator operator) {
+            this.left = Objects.requireNonNull(left);
+            this.right = Objects.requireNonNull(right);
+            this.operator = operator;
+        }
+
+        @Override
+        long word(TaskColumns columns, int w, int today) {
+            long a = left.word(columns, w, today);
+            long b = right.word(columns, w, today);
+            switch (operator) {
+                case AND:
+                    return a & b;
+                case OR:
+                    return a | b;
+                default:
+                    return a & ~b;
+            }
+        }
+
+        @Override
+        TaskFilter bind(Category category) {
+            TaskFilter a = left.bind(category);
+            TaskFilter b = right.bind(category);
+            switch (operator) {
+                case AND:
+                    if (a == NONE || b == NONE) return NONE;
+                    if (a == ALL) return b;
+                    if (b == ALL) return a;
+                    break;
+                case OR:
+                    if (a == ALL || b == ALL) return ALL;
+                    if (a == NONE) return b;
+                    if (b == NONE) return a;
+                    break;
+                default:
+                    if (a == NONE || b == ALL) return NONE;
+                    if (b == NONE) return a;
+                    break;
+            }
+            return a == left && b == right ? this : new Combination(a, b, operator);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + operator.label + right + ")";
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package model;
+
+import java.time.LocalDate;
+
+/**
+ * Liste propriétaire d'une tâche, notifiée par la tâche lorsqu'elle est modifiée
+ * afin de garder ses index à jour
+ */
+abstract class TaskOwner {
+
+    /**
+     * Déplace une tâche de la liste vers une autre catégorie, ajoutée à la liste si besoin
+     *
+     * @return true si la tâche a été déplacée, false si la catégorie est null
+     */
+    abstract boolean moveOwnedTask(Task task, Category category);
+
+    abstract void taskTextChanged(Task task, String oldTitle, String oldDescription);
+
+    abstract void taskDueDateChanged(Task task, LocalDate oldDueDate);
+
+    abstract void taskCompletionChanged(Task task);
+}
@@ -0,0 +1,308 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Requête combinant plusieurs critères sur les tâches d'une TodoList, exécutée par TodoList.query.
+ *
+ * Exemple : les 20 premières tâches à faire de la catégorie Études contenant "exam"
+ * et dues cette semaine, triées par échéance :
+ * <pre>
+ * TaskQuery.builder()
+ *         .category(etudes)
+ *         .status(TaskQuery.Status.PENDING)
+ *         .keyword("exam")
+ *         .dueBetween(today, today.plusDays(7))
+ *         .sortBy(TaskQuery.Sort.DUE_DATE)
+ *         .limit(20)
+ *         .build();
+ * </pre>
+ * Tous les critères sont facultatifs ; une requête vide retient toutes les tâches.
+ */
+public final class TaskQuery {
+
+    /**
+     * État des tâches recherchées
+     */
+    public enum Status {
+        ALL, PENDING, COMPLETED
+    }
+
+    /**
+     * Ordre des résultats (les tâches sans date sont placées en dernier ; à égalité,
+     * les tâches restent dans l'ordre de la liste)
+     */
+    public enum Sort {
+        NONE, DUE_DATE, CREATION_DATE, TITLE
+    }
+
+    private final String id;
+    private final Category category;
+    private final Status status;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+    private final String keyword;
+    private final Set<String> keywordTerms;
+    private final LocalDate createdFrom;
+    private final LocalDate createdTo;
+    private final Sort sort;
+    private final boolean descending;
+    private final int limit;
+
+    private TaskQuery(Builder builder) {
+        this.id = builder.id;
+        this.category = builder.category;
+        this.status = builder.status;
+        this.dueFrom = builder.dueFrom;
+        this.dueTo = builder.dueTo;
+        this.keyword = builder.keyword;
+        this.keywordTerms = builder.keyword != null ? SearchIndex.terms(builder.keyword, null) : null;
+        this.createdFrom = builder.createdFrom;
+        this.createdTo = builder.createdTo;
+        this.sort = builder.sort;
+        this.descending = builder.descending;
+        this.limit = builder.limit;
+    }
+
+    /**
+     * Crée un constructeur de requête
+     *
+     * @return Un constructeur sans critère
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Constructeur de requête
+     */
+    public static final class Builder {
+        private String id;
+        private Category category;
+        private Status status = Status.ALL;
+        private LocalDate dueFrom;
+        private LocalDate dueTo;
+        private String keyword;
+        private LocalDate createdFrom;
+        private LocalDate createdTo;
+        private Sort sort = Sort.NONE;
+        private boolean descending;
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /** Limite la recherche à la tâche d'identifiant donné */
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        /** Limite la recherche à une catégorie */
+        public Builder category(Category category) {
+            this.category = category;
+            return this;
+        }
+
+        /** Limite la recherche aux tâches terminées ou non terminées */
+        public Builder status(Status status) {
+            this.status = status == null ? Status.ALL : status;
+            return this;
+        }
+
+        /**
+         * Limite la recherche aux tâches dont l'échéance est comprise entre deux dates (incluses).
+         * Une borne null n'est pas prise en compte ; les tâches sans échéance sont exclues.
+         */
+        public Builder dueBetween(LocalDate from, LocalDate to) {
+            this.dueFrom = from;
+            this.dueTo = to;
+            return this;
+        }
+
+        /** Limite la recherche aux tâches contenant ce mot-clé (mêmes règles que searchTasks) */
+        public Builder keyword(String keyword) {
+            this.keyword = keyword == null || keyword.trim().isEmpty() ? null : keyword;
+            return this;
+        }
+
+        /** Limite la recherche aux tâches créées entre deux dates (incluses, null = sans borne) */
+        public Builder createdBetween(LocalDate from, LocalDate to) {
+            this.createdFrom = from;
+            this.createdTo = to;
+            return this;
+        }
+
+        /** Trie les résultats par ordre croissant */
+        public Builder sortBy(Sort sort) {
+            return sortBy(sort, false);
+        }
+
+        /** Trie les résultats, par ordre croissant ou décroissant */
+        public Builder sortBy(Sort sort, boolean descending) {
+            this.sort = sort == null ? Sort.NONE : sort;
+            this.descending = descending;
+            return this;
+        }
+
+        /** Limite le nombre de résultats */
+        public Builder limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limite négative: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public TaskQuery build() {
+            return new TaskQuery(this);
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    String getKeyword() {
+        return keyword;
+    }
+
+    Sort getSort() {
+        return sort;
+    }
+
+    boolean isDescending() {
+        return descending;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    boolean hasDueRange() {
+        return dueFrom != null || dueTo != null;
+    }
+
+    /** Premier jour d'échéance accepté (en jours depuis l'epoch) */
+    long dueFromDay() {
+        return dueFrom != null ? dueFrom.toEpochDay() : Long.MIN_VALUE;
+    }
+
+    /** Dernier jour d'échéance accepté (en jours depuis l'epoch) */
+    long dueToDay() {
+        return dueTo != null ? dueTo.toEpochDay() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Traduit la catégorie, l'état et la présence d'une échéance en filtre sur les colonnes de bits
+     *
+     * @return Le filtre correspondant
+     */
+    TaskFilter toFilter() {
+        TaskFilter filter = category != null ? TaskFilter.category(category) : TaskFilter.all();
+        if (status == Status.PENDING) {
+            filter = filter.and(TaskFilter.pending());
+        } else if (status == Status.COMPLETED) {
+            filter = filter.and(TaskFilter.completed());
+        }
+        if (hasDueRange()) {
+            filter = filter.and(TaskFilter.hasDueDate());
+        }
+        return filter;
+    }
+
+    /**
+     * Vérifie tous les critères de la requête sur une tâche
+     *
+     * @param task La tâche
+     * @return true si la tâche est retenue
+     */
+    boolean matches(Task task) {
+        return matches(task, null);
+    }
+
+    /**
+     * Vérifie tous les critères de la requête sur une tâche, le mot-clé étant vérifié par
+     * appartenance au résultat de l'index plein texte plutôt qu'en découpant le texte de la tâche
+     *
+     * @param task La tâche
+     * @param keywordMatches Les identifiants des tâches retenues par le mot-clé (SearchIndex.search),
+     *                       ou null pour vérifier le mot-clé sur le texte de la tâche
+     * @return true si la tâche est retenue
+     */
+    boolean matches(Task task, Set<String> keywordMatches) {
+        if (id != null && !id.equals(task.getId())) {
+            return false;
+        }
+        if (category != null && !category.equals(task.getCategory())) {
+            return false;
+        }
+        if (status == Status.PENDING && task.isCompleted() || status == Status.COMPLETED && !task.isCompleted()) {
+            return false;
+        }
+        // Dates comparées en jours, lus dans les colonnes sans créer de LocalDate
+        if (hasDueRange()) {
+            int dueDay = task.dueDay();
+            if (dueDay == TaskColumns.NO_DATE || dueDay < dueFromDay() || dueDay > dueToDay()) {
+                return false;
+            }
+        }
+        if (createdFrom != null || createdTo != null) {
+            int creationDay = task.creationDay();
+            if (creationDay == TaskColumns.NO_DATE
+                    || createdFrom != null && creationDay < createdFrom.toEpochDay()
+                    || createdTo != null && creationDay > createdTo.toEpochDay()) {
+                return false;
+            }
+        }
+        if (keywordTerms == null) {
+            return true;
+        }
+        if (keywordMatches != null) {
+            return keywordMatches.contains(task.getId());
+        }
+        return !keywordTerms.isEmpty() && SearchIndex.matches(task, keywordTerms);
+    }
+
+    /**
+     * @return L'ordre des résultats, sans l'ordre de la liste qui départage les égalités
+     * (ajouté par TodoList), ou null si la requête n'est pas triée
+     */
+    Comparator<Task> comparator() {
+        switch (sort) {
+            case DUE_DATE:
+                return byDay(Task::dueDay);
+            case CREATION_DATE:
+                return byDay(Task::creationDay);
+            case TITLE:
+                return Comparator.comparing(Task::getTitle, Comparator.nullsLast(descending
+                        ? String.CASE_INSENSITIVE_ORDER.reversed() : String.CASE_INSENSITIVE_ORDER));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Ordre sur une date lue en jours (sans date en dernier, quel que soit le sens)
+     */
+    private Comparator<Task> byDay(ToIntFunction<Task> day) {
+        return (a, b) -> {
+            int x = day.applyAsInt(a);
+            int y = day.applyAsInt(b);
+            if (x == y) {
+                return 0;
+            }
+            if (x == TaskColumns.NO_DATE || y == TaskColumns.NO_DATE) {
+                return x == TaskColumns.NO_DATE ? 1 : -1;
+            }
+            return descending ? Integer.compare(y, x) : Integer.compare(x, y);
+        };
+    }
+}
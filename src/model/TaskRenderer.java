@@ -0,0 +1,134 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Mise en forme textuelle des tâches, utilisée par Task.toString et pour les affichages
+ * de listes. La date du jour est fixée à la création du moteur de rendu : pour afficher
+ * une liste, on crée un seul moteur et on réutilise le même StringBuilder pour chaque ligne.
+ * Les dates déjà mises en forme sont conservées dans un cache partagé indexé par jour.
+ */
+public final class TaskRenderer {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String NO_DUE_DATE = "Non définie";
+
+    /** Cache à correspondance directe : jour epoch -> date mise en forme */
+    private static final int CACHE_SIZE = 4096;
+    private static final FormattedDate[] DATE_CACHE = new FormattedDate[CACHE_SIZE];
+
+    private final long todayEpochDay;
+
+    /**
+     * Date mise en forme (immuable, donc partageable entre threads sans verrou)
+     */
+    private static final class FormattedDate {
+        final long epochDay;
+        final String text;
+
+        FormattedDate(long epochDay, String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Crée un moteur de rendu pour une date du jour donnée
+     *
+     * @param today La date du jour utilisée pour déterminer les tâches en retard
+     */
+    public TaskRenderer(LocalDate today) {
+        this.todayEpochDay = today.toEpochDay();
+    }
+
+    /**
+     * Crée un moteur de rendu pour la date du jour
+     *
+     * @return Le moteur de rendu
+     */
+    public static TaskRenderer forToday() {
+        return new TaskRenderer(LocalDate.now());
+    }
+
+    /**
+     * Ajoute la représentation d'une tâche à un StringBuilder
+     *
+     * @param task La tâche à afficher
+     * @param out Le StringBuilder de destination
+     * @return Le StringBuilder, pour chaîner les appels
+     */
+    public StringBuilder render(Task task, StringBuilder out) {
+        try {
+            render(task, (Appendable) out);
+        } catch (IOException e) {
+            // Un StringBuilder ne lève jamais d'IOException
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Écrit la représentation d'une tâche dans une destination quelconque (Writer, PrintWriter...)
+     *
+     * @param task La tâche à afficher
+     * @param out La destination
+     * @throws IOException si l'écriture échoue
+     */
+    public void render(Task task, Appendable out) throws IOException {
+        int dueDay = task.dueDay();
+        out.append('[').append(task.getId()).append("] ")
+                .append(task.getTitle()).append(" - ")
+                .append(String.valueOf(task.getDescription())).append(" - Échéance: ")
+                .append(dueDay != Task.NO_DATE ? format(dueDay) : NO_DUE_DATE)
+                .append(" - Catégorie: ").append(task.getCategory().getName())
+                .append(" - ");
+
+        if (task.isCompleted()) {
+            out.append("Terminée");
+        } else if (dueDay != Task.NO_DATE && dueDay < todayEpochDay) {
+            out.append("En retard");
+        } else {
+            out.append("À faire");
+        }
+    }
+
+    /**
+     * Représentation d'une tâche sous forme de chaîne
+     *
+     * @param task La tâche à afficher
+     * @return La représentation de la tâche
+     */
+    public String render(Task task) {
+        return render(task, new StringBuilder(128)).toString();
+    }
+
+    /**
+     * Met en forme une date (dd/MM/yyyy) en passant par le cache
+     *
+     * @param date La date à mettre en forme
+     * @return La date mise en forme
+     */
+    public static String format(LocalDate date) {
+        return format(date.toEpochDay());
+    }
+
+    /**
+     * Met en forme une date donnée en jours depuis l'epoch (dd/MM/yyyy) en passant par le cache,
+     * sans créer de LocalDate si elle y est déjà
+     *
+     * @param epochDay La date en jours depuis l'epoch
+     * @return La date mise en forme
+     */
+    public static String format(long epochDay) {
+        int slot = (int) Math.floorMod(epochDay, (long) CACHE_SIZE);
+        FormattedDate cached = DATE_CACHE[slot];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+        String text = LocalDate.ofEpochDay(epochDay).format(DATE_FORMATTER);
+        DATE_CACHE[slot] = new FormattedDate(epochDay, text);
+        return text;
+    }
+}
@@ -0,0 +1,91 @@
+package model;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator sur les tâches de plusieurs catégories, sans copie.
+ * Le découpage répartit d'abord les catégories, puis découpe la liste
+ * d'une catégorie lorsqu'il n'en reste qu'une, ce qui permet aux flux
+ * parallèles d'utiliser tous les cœurs même avec peu de catégories.
+ */
+class TaskSpliterator implements Spliterator<Task> {
+    private final List<List<Task>> buckets;
+    private int next;
+    private final int end;
+    private Spliterator<Task> current;
+
+    /**
+     * @param buckets Les listes de tâches à parcourir, dans l'ordre
+     */
+    TaskSpliterator(List<List<Task>> buckets) {
+        this(buckets, 0, buckets.size());
+    }
+
+    private TaskSpliterator(List<List<Task>> buckets, int from, int to) {
+        this.buckets = buckets;
+        this.next = from;
+        this.end = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Task> action) {
+        while (true) {
+            if (current != null && current.tryAdvance(action)) {
+                return true;
+            }
+            if (next >= end) {
+                return false;
+            }
+            current = buckets.get(next++).spliterator();
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Task> action) {
+        if (current != null) {
+            current.forEachRemaining(action);
+            current = null;
+        }
+        while (next < end) {
+            buckets.get(next++).forEach(action);
+        }
+    }
+
+    @Override
+    public Spliterator<Task> trySplit() {
+        int remaining = end - next;
+        if (remaining >= 2 || (remaining == 1 && current != null)) {
+            // Découpage par catégories : la première moitié part dans le nouveau spliterator
+            if (current != null) {
+                Spliterator<Task> prefix = current;
+                current = null;
+                return prefix;
+            }
+            int middle = next + remaining / 2;
+            TaskSpliterator prefix = new TaskSpliterator(buckets, next, middle);
+            next = middle;
+            return prefix;
+        }
+        if (remaining == 1) {
+            current = buckets.get(next++).spliterator();
+        }
+        // Une seule catégorie : découpage de sa liste
+        return current == null ? null : current.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = current == null ? 0 : current.estimateSize();
+        for (int i = next; i < end; i++) {
+            size += buckets.get(i).size();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,178 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Opérations communes aux listes de tâches : TodoList (un seul thread à la fois, ou
+ * protégée par son moniteur) et ConcurrentTodoList (partagée entre plusieurs threads).
+ *
+ * Les listes renvoyées sont prises au moment de l'appel et ne suivent pas les modifications
+ * suivantes. Les vues getPendingTasks, getCompletedTasks, getOverdueTasks et getUpcomingTasks
+ * sont en lecture seule (elles peuvent être partagées par plusieurs appels, sans copie) : les
+ * copier avant de les trier ou de les modifier. Les autres listes sont des copies modifiables.
+ */
+public interface TaskStore {
+
+    /**
+     * Ajoute une nouvelle catégorie à la liste
+     *
+     * @param category La catégorie à ajouter
+     * @return true si la catégorie a été ajoutée, false si elle existait déjà
+     */
+    boolean addCategory(Category category);
+
+    /**
+     * Supprime une catégorie et toutes ses tâches associées
+     *
+     * @param category La catégorie à supprimer
+     * @return true si la catégorie a été supprimée, false sinon
+     */
+    boolean removeCategory(Category category);
+
+    /**
+     * Récupère toutes les catégories, dans l'ordre d'ajout
+     *
+     * @return La liste des catégories
+     */
+    List<Category> getCategories();
+
+    /**
+     * Trouve une catégorie par son nom, sans tenir compte de la casse
+     *
+     * @param name Le nom de la catégorie à rechercher
+     * @return La catégorie trouvée ou null si aucune correspondance
+     */
+    Category findCategoryByName(String name);
+
+    /**
+     * Trouve une catégorie par son identifiant
+     *
+     * @param categoryId L'identifiant de la catégorie à rechercher
+     * @return La catégorie trouvée ou null si aucune correspondance
+     */
+    Category findCategoryById(String categoryId);
+
+    /**
+     * Ajoute une tâche à la liste
+     *
+     * @param task La tâche à ajouter
+     * @return true si la tâche a été ajoutée, false si sa catégorie est inconnue, si son
+     *         identifiant est déjà présent ou si elle appartient à une autre liste
+     */
+    boolean addTask(Task task);
+
+    /**
+     * Supprime une tâche de la liste
+     *
+     * @param task La tâche à supprimer
+     * @return true si la tâche a été supprimée, false sinon
+     */
+    boolean removeTask(Task task);
+
+    /**
+     * Déplace une tâche de la liste vers une autre catégorie de la liste
+     *
+     * @param task La tâche à déplacer
+     * @param category La catégorie de destination
+     * @return true si la tâche a été déplacée (ou s'y trouvait déjà), false sinon
+     */
+    boolean moveTask(Task task, Category category);
+
+    /**
+     * Trouve une tâche par son identifiant
+     *
+     * @param taskId L'identifiant de la tâche à rechercher
+     * @return La tâche trouvée ou null si aucune correspondance
+     */
+    Task findTaskById(String taskId);
+
+    /**
+     * Récupère toutes les tâches d'une catégorie, dans l'ordre d'ajout
+     *
+     * @param category La catégorie dont on veut récupérer les tâches
+     * @return La liste des tâches de cette catégorie
+     */
+    List<Task> getTasksByCategory(Category category);
+
+    /**
+     * Récupère toutes les tâches, catégorie par catégorie
+     *
+     * @return La liste complète des tâches
+     */
+    List<Task> getAllTasks();
+
+    /**
+     * Récupère les tâches à faire (non terminées)
+     *
+     * @return La liste des tâches non terminées, en lecture seule
+     */
+    List<Task> getPendingTasks();
+
+    /**
+     * Récupère les tâches terminées
+     *
+     * @return La liste des tâches terminées, en lecture seule
+     */
+    List<Task> getCompletedTasks();
+
+    /**
+     * Récupère les tâches en retard (échéance dépassée et non terminées), par échéance croissante
+     *
+     * @return La liste des tâches en retard, en lecture seule
+     */
+    List<Task> getOverdueTasks();
+
+    /**
+     * Récupère les tâches non terminées dont l'échéance est dans les X prochains jours,
+     * par échéance croissante
+     *
+     * @param days Le nombre de jours considéré comme "proche"
+     * @return La liste des tâches avec échéance proche, en lecture seule
+     */
+    List<Task> getUpcomingTasks(int days);
+
+    /**
+     * Recherche des tâches par mot-clé : chaque mot du mot-clé doit être le début d'un mot
+     * du titre ou de la description (sans tenir compte de la casse ni des accents)
+     *
+     * @param keyword Le mot-clé à rechercher
+     * @return La liste des tâches correspondantes
+     */
+    List<Task> searchTasks(String keyword);
+
+    /**
+     * Compte le nombre total de tâches
+     *
+     * @return Le nombre de tâches
+     */
+    int getTaskCount();
+
+    /**
+     * Compte le nombre de tâches d'une catégorie
+     *
+     * @param category La catégorie
+     * @return Le nombre de tâches de cette catégorie (0 si elle n'existe pas)
+     */
+    int getTaskCount(Category category);
+
+    /**
+     * Compte le nombre de tâches terminées
+     *
+     * @return Le nombre de tâches terminées
+     */
+    int getCompletedCount();
+
+    /**
+     * Compte le nombre de tâches à faire (non terminées)
+     *
+     * @return Le nombre de tâches non terminées
+     */
+    int getPendingCount();
+
+    /**
+     * Calcul le pourcentage de tâches terminées
+     *
+     * @return Le pourcentage de tâches terminées
+     */
+    double getCompletionRate();
+}
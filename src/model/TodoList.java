@@ -1,25 +1,184 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Classe principale pour la gestion de la liste des tâches
  */
-public class TodoList implements Serializable {
+public class TodoList extends TaskOwner implements TaskStore, Serializable {
     private static final long serialVersionUID = 1L;
 
-    private Map<Category, List<Task>> tasksByCategory;
-    private List<Category> categories;
+    /** Forme sérialisée inchangée : tâches par catégorie et catégories écrites comme des List */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("tasksByCategory", Map.class),
+            new ObjectStreamField("categories", List.class)
+    };
+
+    /** Tâches de chaque catégorie, avec leurs colonnes */
+    private transient Map<Category, TaskBucket> tasksByCategory;
+
+    /** Catégories dans l'ordre d'ajout, indexées par identifiant et par nom */
+    private transient CategoryRegistry categories;
+
+    /** Index primaire id -> tâche, reconstruit après désérialisation */
+    private transient Map<String, Task> tasksById;
+
+    /** Index inversé plein texte utilisé par searchTasks */
+    private transient SearchIndex searchIndex;
+
+    /** Index trié des tâches en attente par date d'échéance */
+    private transient DueDateIndex dueDateIndex;
+
+    /** Nombre total de tâches terminées */
+    private transient int completedCount;
+
+    /** Observateurs des modifications (non sauvegardés) */
+    private transient List<TodoListListener> listeners;
+
+    /**
+     * Compteurs publiés à chaque modification, lisibles sans le verrou de la liste :
+     * nombre de tâches (32 bits de poids fort) et de tâches terminées, dans un seul
+     * champ pour qu'un lecteur les voie toujours cohérents entre eux
+     */
+    private transient volatile long publishedCounts;
+
+    /** Nombre de catégories publié à chaque modification */
+    private transient volatile int publishedCategoryCount;
+
+    /** Horloge qui donne le jour courant (celle du système pour une liste désérialisée) */
+    private transient Clock clock;
+
+    /** Résultats des vues à faire, terminées, en retard et à venir */
+    private transient ViewCache views;
 
     /**
      * Constructeur pour créer une nouvelle liste de tâches vide
      */
     public TodoList() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructeur d'une liste vide dont le jour courant (vues en retard et à venir, filtres
+     * sur l'échéance) suit une horloge donnée
+     *
+     * @param clock L'horloge (et son fuseau) qui donne le jour courant
+     */
+    public TodoList(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
         this.tasksByCategory = new HashMap<>();
-        this.categories = new ArrayList<>();
+        this.categories = new CategoryRegistry(this::categoryChanged);
+        this.tasksById = new HashMap<>();
+        this.searchIndex = new SearchIndex();
+        this.dueDateIndex = new DueDateIndex();
+        this.listeners = new ArrayList<>();
+        this.views = new ViewCache(clock);
+    }
+
+    /**
+     * Reconstruit les index transients après la lecture de l'objet
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        categories = new CategoryRegistry(this::categoryChanged);
+        for (Category category : (List<Category>) fields.get("categories", null)) {
+            categories.add(category);
+        }
+        rebuildIndexes((Map<Category, List<Task>>) fields.get("tasksByCategory", null));
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        Map<Category, List<Task>> stored = new HashMap<>();
+        for (Map.Entry<Category, TaskBucket> entry : tasksByCategory.entrySet()) {
+            stored.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        fields.put("tasksByCategory", stored);
+        fields.put("categories", new ArrayList<>(categories.view()));
+        out.writeFields();
+    }
+
+    /**
+     * Reconstruit le stockage par catégorie et les index à partir des listes sauvegardées
+     */
+    private void rebuildIndexes(Map<Category, List<Task>> stored) {
+        tasksByCategory = new HashMap<>();
+        tasksById = new HashMap<>();
+        searchIndex = new SearchIndex();
+        dueDateIndex = new DueDateIndex();
+        completedCount = 0;
+        listeners = new ArrayList<>();
+        if (clock == null) {
+            clock = Clock.systemDefaultZone();
+        }
+        views = new ViewCache(clock);
+        for (Map.Entry<Category, List<Task>> entry : stored.entrySet()) {
+            TaskBucket bucket = new TaskBucket();
+            tasksByCategory.put(entry.getKey(), bucket);
+            for (Task task : entry.getValue()) {
+                tasksById.put(task.getId(), task);
+                searchIndex.add(task);
+                dueDateIndex.add(task);
+                bucket.append(task);
+                task.setOwner(this);
+            }
+            completedCount += bucket.columns().completedCount();
+        }
+        publishCounts();
+    }
+
+    /**
+     * Après une modification de la liste : invalide les vues du cache qu'elle peut changer
+     * et publie les compteurs
+     *
+     * @param affectedViews Les vues à invalider (ViewCache.STATUS_VIEWS, DUE_VIEWS...)
+     */
+    private void changed(int affectedViews) {
+        views.invalidate(affectedViews);
+        publishCounts();
+    }
+
+    /**
+     * @return Les vues du cache qui contiennent ou peuvent contenir une tâche
+     */
+    private static int viewsOf(Task task) {
+        return task.isCompleted() || task.dueDay() == TaskColumns.NO_DATE
+                ? ViewCache.STATUS_VIEWS : ViewCache.ALL_VIEWS;
+    }
+
+    private void publishCounts() {
+        publishedCounts = (long) tasksById.size() << 32 | completedCount;
+        publishedCategoryCount = categories.size();
+    }
+
+    /**
+     * Enregistre un observateur des modifications de la liste
+     *
+     * @param listener L'observateur à ajouter
+     */
+    public void addListener(TodoListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Retire un observateur des modifications de la liste
+     *
+     * @param listener L'observateur à retirer
+     */
+    public void removeListener(TodoListListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -29,14 +188,27 @@ public class TodoList implements Serializable {
      * @return true si la catégorie a été ajoutée, false si elle existait déjà
      */
     public boolean addCategory(Category category) {
-        if (categories.contains(category)) {
+        if (!categories.add(category)) {
             return false;
         }
-        categories.add(category);
-        tasksByCategory.put(category, new ArrayList<>());
+        tasksByCategory.put(category, new TaskBucket());
+        changed(0);
+        for (TodoListListener listener : listeners) {
+            listener.categoryAdded(category);
+        }
         return true;
     }
 
+    /**
+     * Appelée par le registre des catégories après un changement de nom ou de couleur
+     */
+    private void categoryChanged(Category category) {
+        changed(0);
+        for (TodoListListener listener : listeners) {
+            listener.categoryUpdated(category);
+        }
+    }
+
     /**
      * Supprime une catégorie et toutes ses tâches associées
      *
@@ -44,11 +216,23 @@ public class TodoList implements Serializable {
      * @return true si la catégorie a été supprimée, false sinon
      */
     public boolean removeCategory(Category category) {
-        if (!categories.contains(category)) {
+        if (!tasksByCategory.containsKey(category)) {
             return false;
         }
         categories.remove(category);
-        tasksByCategory.remove(category);
+        TaskBucket bucket = tasksByCategory.remove(category);
+        completedCount -= bucket.columns().completedCount();
+        for (Task task : bucket) {
+            tasksById.remove(task.getId());
+            searchIndex.remove(task);
+            dueDateIndex.remove(task, task.dueDay());
+            task.setOwner(null);
+        }
+        bucket.detachAll();
+        changed(ViewCache.ALL_VIEWS);
+        for (TodoListListener listener : listeners) {
+            listener.categoryRemoved(category);
+        }
         return true;
     }
 
@@ -58,7 +242,7 @@ public class TodoList implements Serializable {
      * @return La liste des catégories
      */
     public List<Category> getCategories() {
-        return new ArrayList<>(categories);
+        return new ArrayList<>(categories.view());
     }
 
     /**
@@ -68,10 +252,17 @@ public class TodoList implements Serializable {
      * @return La catégorie trouvée ou null si aucune correspondance
      */
     public Category findCategoryByName(String name) {
-        return categories.stream()
-                .filter(c -> c.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        return categories.findByName(name);
+    }
+
+    /**
+     * Trouve une catégorie par son identifiant
+     *
+     * @param categoryId L'identifiant de la catégorie à rechercher
+     * @return La catégorie trouvée ou null si aucune correspondance
+     */
+    public Category findCategoryById(String categoryId) {
+        return categories.findById(categoryId);
     }
 
     /**
@@ -81,18 +272,26 @@ public class TodoList implements Serializable {
      * @return true si la tâche a été ajoutée, false sinon
      */
     public boolean addTask(Task task) {
+        long start = TodoMetrics.start();
         Category category = task.getCategory();
-        if (!categories.contains(category)) {
-            return false;
-        }
+        // Une tâche ne peut appartenir qu'à une seule liste à la fois
+        boolean accepted = tasksByCategory.containsKey(category)
+                && !tasksById.containsKey(task.getId())
+                && (task.getOwner() == null || task.getOwner() == this);
 
-        List<Task> tasks = tasksByCategory.get(category);
-        if (tasks.contains(task)) {
-            return false;
+        if (accepted) {
+            append(category, task);
+            tasksById.put(task.getId(), task);
+            searchIndex.add(task);
+            dueDateIndex.add(task);
+            task.setOwner(this);
+            changed(viewsOf(task));
+            for (TodoListListener listener : listeners) {
+                listener.taskAdded(task);
+            }
         }
-
-        tasks.add(task);
-        return true;
+        TodoMetrics.record(TodoMetrics.Operation.ADD_TASK, start);
+        return accepted;
     }
 
     /**
@@ -102,13 +301,262 @@ public class TodoList implements Serializable {
      * @return true si la tâche a été supprimée, false sinon
      */
     public boolean removeTask(Task task) {
-        Category category = task.getCategory();
-        if (!categories.contains(category)) {
+        long start = TodoMetrics.start();
+        Task stored = tasksById.remove(task.getId());
+        if (stored != null) {
+            detach(stored);
+            searchIndex.remove(stored);
+            dueDateIndex.remove(stored, stored.dueDay());
+            stored.setOwner(null);
+            changed(viewsOf(stored));
+            for (TodoListListener listener : listeners) {
+                listener.taskRemoved(stored);
+            }
+        }
+        TodoMetrics.record(TodoMetrics.Operation.REMOVE_TASK, start);
+        return stored != null;
+    }
+
+    /**
+     * Déplace une tâche de la liste vers une autre catégorie
+     *
+     * @param task La tâche à déplacer
+     * @param category La catégorie de destination
+     * @return true si la tâche a été déplacée, false sinon
+     */
+    public boolean moveTask(Task task, Category category) {
+        Task stored = tasksById.get(task.getId());
+        if (stored == null || !tasksByCategory.containsKey(category)) {
             return false;
         }
 
-        List<Task> tasks = tasksByCategory.get(category);
-        return tasks.remove(task);
+        Category current = stored.getCategory();
+        if (current.equals(category)) {
+            return true;
+        }
+
+        detach(stored);
+        stored.assignCategory(category);
+        append(category, stored);
+        changed(ViewCache.STATUS_VIEWS);
+        for (TodoListListener listener : listeners) {
+            listener.taskUpdated(stored);
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute un lot de tâches en une seule passe. Les tâches d'une catégorie inconnue,
+     * d'un identifiant déjà présent (dans la liste ou plus tôt dans le lot) ou appartenant
+     * à une autre liste sont ignorées. Les observateurs sont notifiés une seule fois.
+     *
+     * @param tasks Les tâches à ajouter
+     * @return Le nombre de tâches ajoutées
+     */
+    public int addTasks(Collection<? extends Task> tasks) {
+        List<Task> added = new ArrayList<>(tasks.size());
+        int affected = 0;
+        for (Task task : tasks) {
+            if (!tasksByCategory.containsKey(task.getCategory())
+                    || task.getOwner() != null && task.getOwner() != this
+                    || tasksById.putIfAbsent(task.getId(), task) != null) {
+                continue;
+            }
+            append(task.getCategory(), task);
+            searchIndex.add(task);
+            dueDateIndex.add(task);
+            task.setOwner(this);
+            added.add(task);
+            affected |= viewsOf(task);
+        }
+        if (!added.isEmpty()) {
+            changed(affected);
+            List<Task> view = Collections.unmodifiableList(added);
+            for (TodoListListener listener : listeners) {
+                listener.tasksAdded(view);
+            }
+        }
+        return added.size();
+    }
+
+    /**
+     * Supprime un lot de tâches par identifiant, chacune en temps constant.
+     * Les observateurs sont notifiés une seule fois.
+     *
+     * @param taskIds Les identifiants des tâches à supprimer (les inconnus sont ignorés)
+     * @return Le nombre de tâches supprimées
+     */
+    public int removeTasks(Collection<String> taskIds) {
+        List<Task> removed = new ArrayList<>();
+        int affected = 0;
+        for (String taskId : taskIds) {
+            Task task = tasksById.remove(taskId);
+            if (task == null) {
+                continue;
+            }
+            detach(task);
+            searchIndex.remove(task);
+            dueDateIndex.remove(task, task.dueDay());
+            task.setOwner(null);
+            removed.add(task);
+            affected |= viewsOf(task);
+        }
+        if (!removed.isEmpty()) {
+            changed(affected);
+            List<Task> view = Collections.unmodifiableList(removed);
+            for (TodoListListener listener : listeners) {
+                listener.tasksRemoved(view);
+            }
+        }
+        return removed.size();
+    }
+
+    /**
+     * Marque comme terminées toutes les tâches à faire qui satisfont un critère.
+     * Les observateurs sont notifiés une seule fois.
+     *
+     * @param filter Le critère
+     * @return Le nombre de tâches marquées comme terminées
+     */
+    public int completeTasks(Predicate<? super Task> filter) {
+        List<Task> changed = new ArrayList<>();
+        scan(TaskFilter.pending(), task -> {
+            if (filter.test(task)) {
+                changed.add(task);
+            }
+            return true;
+        });
+        int affected = 0;
+        for (Task task : changed) {
+            affected |= viewsOf(task);
+            task.assignCompleted(true);
+            dueDateIndex.remove(task, task.dueDay());
+            completedCount++;
+        }
+        if (!changed.isEmpty()) {
+            changed(affected);
+            List<Task> view = Collections.unmodifiableList(changed);
+            for (TodoListListener listener : listeners) {
+                listener.tasksCompletionChanged(view);
+            }
+        }
+        return changed.size();
+    }
+
+    /**
+     * Déplace un lot de tâches vers une catégorie.
+     * Les observateurs sont notifiés une seule fois.
+     *
+     * @param taskIds Les identifiants des tâches à déplacer (les inconnus sont ignorés)
+     * @param category La catégorie de destination
+     * @return Le nombre de tâches déplacées
+     */
+    public int moveTasks(Collection<String> taskIds, Category category) {
+        if (!tasksByCategory.containsKey(category)) {
+            return 0;
+        }
+        List<Task> moved = new ArrayList<>();
+        for (String taskId : taskIds) {
+            Task task = tasksById.get(taskId);
+            // Une tâche déjà déplacée plus tôt dans le lot est dans la catégorie de destination
+            if (task == null || task.getCategory().equals(category)) {
+                continue;
+            }
+            detach(task);
+            task.assignCategory(category);
+            append(category, task);
+            moved.add(task);
+        }
+        if (!moved.isEmpty()) {
+            changed(ViewCache.STATUS_VIEWS);
+            List<Task> view = Collections.unmodifiableList(moved);
+            for (TodoListListener listener : listeners) {
+                listener.tasksUpdated(view);
+            }
+        }
+        return moved.size();
+    }
+
+    /**
+     * Ajoute une tâche en fin de stockage de sa catégorie
+     */
+    private void append(Category category, Task task) {
+        tasksByCategory.get(category).append(task);
+        if (task.isCompleted()) {
+            completedCount++;
+        }
+    }
+
+    /**
+     * Retire une tâche du stockage de sa catégorie, en temps constant
+     */
+    private void detach(Task task) {
+        if (task.isCompleted()) {
+            completedCount--;
+        }
+        tasksByCategory.get(task.getCategory()).remove(task);
+    }
+
+    @Override
+    boolean moveOwnedTask(Task task, Category category) {
+        // Comme avant l'index des catégories, Task.setCategory accepte une catégorie pas encore ajoutée
+        if (category != null && !tasksByCategory.containsKey(category)) {
+            addCategory(category);
+        }
+        return moveTask(task, category);
+    }
+
+    /**
+     * Notifié par une tâche de la liste lorsque son titre ou sa description change
+     *
+     * @param task La tâche modifiée
+     * @param oldTitle L'ancien titre
+     * @param oldDescription L'ancienne description
+     */
+    @Override
+    void taskTextChanged(Task task, String oldTitle, String oldDescription) {
+        searchIndex.update(task, oldTitle, oldDescription);
+        changed(0);
+        for (TodoListListener listener : listeners) {
+            listener.taskUpdated(task);
+        }
+    }
+
+    /**
+     * Notifié par une tâche de la liste lorsque sa date d'échéance change
+     *
+     * @param task La tâche modifiée
+     * @param oldDueDate L'ancienne date d'échéance
+     */
+    @Override
+    void taskDueDateChanged(Task task, LocalDate oldDueDate) {
+        // La tâche a déjà écrit sa nouvelle échéance dans les colonnes
+        dueDateIndex.remove(task, oldDueDate);
+        dueDateIndex.add(task);
+        changed(task.isCompleted() ? 0 : ViewCache.DUE_VIEWS);
+        for (TodoListListener listener : listeners) {
+            listener.taskUpdated(task);
+        }
+    }
+
+    /**
+     * Notifié par une tâche de la liste lorsque son état terminé/non terminé change
+     *
+     * @param task La tâche modifiée
+     */
+    @Override
+    void taskCompletionChanged(Task task) {
+        if (task.isCompleted()) {
+            dueDateIndex.remove(task, task.dueDay());
+            completedCount++;
+        } else {
+            dueDateIndex.add(task);
+            completedCount--;
+        }
+        changed(ViewCache.STATUS_VIEWS | (task.dueDay() != TaskColumns.NO_DATE ? ViewCache.DUE_VIEWS : 0));
+        for (TodoListListener listener : listeners) {
+            listener.taskCompletionChanged(task);
+        }
     }
 
     /**
@@ -118,94 +566,466 @@ public class TodoList implements Serializable {
      * @return La liste des tâches de cette catégorie
      */
     public List<Task> getTasksByCategory(Category category) {
-        if (!categories.contains(category)) {
+        if (!tasksByCategory.containsKey(category)) {
             return new ArrayList<>();
         }
         return new ArrayList<>(tasksByCategory.get(category));
     }
 
+    /**
+     * Vue non modifiable et sans copie des tâches d'une catégorie.
+     * La vue reflète les modifications ultérieures de la liste.
+     *
+     * @param category La catégorie dont on veut les tâches
+     * @return Les tâches de cette catégorie (vide si elle n'existe pas)
+     */
+    public List<Task> getTasksView(Category category) {
+        TaskBucket tasks = tasksByCategory.get(category);
+        return tasks == null ? Collections.emptyList() : Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Vue non modifiable et sans copie des catégories
+     *
+     * @return Les catégories, dans l'ordre d'ajout
+     */
+    public List<Category> getCategoriesView() {
+        return categories.view();
+    }
+
+    /**
+     * Flux de toutes les tâches, catégorie par catégorie, sans copie intermédiaire.
+     * Les filtres appliqués au flux sont évalués à la demande, et le flux peut être
+     * rendu parallèle (parallel()) pour répartir le parcours sur plusieurs cœurs.
+     * La liste ne doit pas être modifiée pendant le parcours.
+     *
+     * @return Le flux des tâches
+     */
+    public Stream<Task> tasks() {
+        List<List<Task>> buckets = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            buckets.add(tasksByCategory.get(category));
+        }
+        return StreamSupport.stream(new TaskSpliterator(buckets), false);
+    }
+
+    /**
+     * Applique une action à chaque tâche, catégorie par catégorie, sans copie
+     *
+     * @param action L'action à appliquer
+     */
+    public void forEachTask(Consumer<? super Task> action) {
+        for (Category category : categories) {
+            tasksByCategory.get(category).forEach(action);
+        }
+    }
+
     /**
      * Récupère toutes les tâches de la liste
      *
      * @return La liste complète des tâches
      */
     public List<Task> getAllTasks() {
-        return tasksByCategory.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<Task> result = new ArrayList<>(getTaskCount());
+        forEachTask(result::add);
+        return result;
+    }
+
+    /**
+     * Récupère une page de tâches, dans l'ordre de getAllTasks(), sans parcourir
+     * les tâches qui précèdent la page (les catégories entières sont sautées)
+     *
+     * @param offset La position de la première tâche de la page
+     * @param limit Le nombre maximal de tâches de la page
+     * @return Les tâches de la page
+     */
+    public List<Task> getTasksPage(int offset, int limit) {
+        List<Task> page = new ArrayList<>(Math.min(limit, Math.max(0, getTaskCount() - offset)));
+        int skip = offset;
+        for (Category category : categories) {
+            if (page.size() >= limit) {
+                break;
+            }
+            TaskBucket tasks = tasksByCategory.get(category);
+            if (skip >= tasks.size()) {
+                skip -= tasks.size();
+                continue;
+            }
+            tasks.copyTo(page, skip, Math.min(tasks.size() - skip, limit - page.size()));
+            skip = 0;
+        }
+        return page;
+    }
+
+    /**
+     * Récupère une page des tâches retenues par un filtre, dans l'ordre de filterTasks(filter).
+     * Les tâches qui précèdent la page sont sautées par mots de 64 bits des colonnes
+     * (comptage des bits), sans être lues ni copiées.
+     *
+     * @param filter Le filtre, par exemple TaskFilter.pending()
+     * @param offset La position de la première tâche de la page parmi les tâches retenues
+     * @param limit Le nombre maximal de tâches de la page
+     * @return Les tâches de la page
+     */
+    public List<Task> getTasksPage(TaskFilter filter, int offset, int limit) {
+        int today = (int) views.today().toEpochDay();
+        List<Task> page = new ArrayList<>(Math.max(0, Math.min(limit, getTaskCount() - offset)));
+        int skip = offset;
+        for (Category category : categories) {
+            if (page.size() >= limit) {
+                break;
+            }
+            TaskFilter bound = filter.bind(category);
+            if (bound == TaskFilter.none()) {
+                continue;
+            }
+            TaskBucket tasks = tasksByCategory.get(category);
+            TaskColumns columns = tasks.columns();
+            if (bound == TaskFilter.all() && skip >= columns.size()) {
+                skip -= columns.size();
+                continue;
+            }
+            for (int w = 0, words = columns.words(); w < words && page.size() < limit; w++) {
+                long bits = bound.word(columns, w, today) & columns.validWord(w);
+                int matches = Long.bitCount(bits);
+                if (skip >= matches) {
+                    skip -= matches;
+                    continue;
+                }
+                for (; skip > 0; skip--) {
+                    bits &= bits - 1;
+                }
+                while (bits != 0 && page.size() < limit) {
+                    page.add(tasks.at((w << 6) + Long.numberOfTrailingZeros(bits)));
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return page;
     }
 
     /**
      * Récupère les tâches à faire (non terminées)
      *
-     * @return La liste des tâches non terminées
+     * @return La liste des tâches non terminées, en lecture seule (voir TaskStore)
      */
     public List<Task> getPendingTasks() {
-        return getAllTasks().stream()
-                .filter(task -> !task.isCompleted())
-                .collect(Collectors.toList());
+        long start = TodoMetrics.start();
+        long key = ViewCache.key(ViewCache.PENDING, 0);
+        List<Task> result = views.get(key);
+        if (result == null) {
+            result = views.put(key, collect(TaskFilter.pending(), views.today()));
+        }
+        TodoMetrics.record(TodoMetrics.Operation.PENDING, start);
+        return result;
     }
 
     /**
      * Récupère les tâches terminées
      *
-     * @return La liste des tâches terminées
+     * @return La liste des tâches terminées, en lecture seule (voir TaskStore)
      */
     public List<Task> getCompletedTasks() {
-        return getAllTasks().stream()
-                .filter(Task::isCompleted)
-                .collect(Collectors.toList());
+        long start = TodoMetrics.start();
+        long key = ViewCache.key(ViewCache.COMPLETED, 0);
+        List<Task> result = views.get(key);
+        if (result == null) {
+            result = views.put(key, collect(TaskFilter.completed(), views.today()));
+        }
+        TodoMetrics.record(TodoMetrics.Operation.COMPLETED, start);
+        return result;
+    }
+
+    /**
+     * Récupère les tâches retenues par un filtre, catégorie par catégorie
+     *
+     * @param filter Le filtre, par exemple TaskFilter.pending().and(TaskFilter.category(c))
+     * @return La liste des tâches retenues
+     */
+    public List<Task> filterTasks(TaskFilter filter) {
+        long start = TodoMetrics.start();
+        List<Task> result = collect(filter);
+        TodoMetrics.record(TodoMetrics.Operation.FILTER, start);
+        return result;
+    }
+
+    private List<Task> collect(TaskFilter filter) {
+        return collect(filter, views.today());
+    }
+
+    /**
+     * @param today Le jour de référence des critères sur l'échéance (celui du cache des vues
+     *              pour un résultat mis en cache)
+     */
+    private List<Task> collect(TaskFilter filter, LocalDate today) {
+        List<Task> result = new ArrayList<>();
+        scan(filter, today, task -> {
+            result.add(task);
+            return true;
+        });
+        return result;
     }
 
     /**
-     * Récupère les tâches en retard (échéance dépassée et non terminées)
+     * Applique une action aux seules tâches retenues par un filtre, catégorie par catégorie
      *
-     * @return La liste des tâches en retard
+     * @param filter Le filtre
+     * @param action L'action à appliquer
+     */
+    public void forEachTask(TaskFilter filter, Consumer<? super Task> action) {
+        scan(filter, task -> {
+            action.accept(task);
+            return true;
+        });
+    }
+
+    /**
+     * Parcourt les tâches retenues par un filtre jusqu'à ce que l'action renvoie false
+     *
+     * @return false si le parcours a été interrompu
+     */
+    private boolean scan(TaskFilter filter, Predicate<Task> action) {
+        return scan(filter, views.today(), action);
+    }
+
+    private boolean scan(TaskFilter filter, LocalDate day, Predicate<Task> action) {
+        int today = (int) day.toEpochDay();
+        for (Category category : categories) {
+            TaskFilter bound = filter.bind(category);
+            if (bound == TaskFilter.none()) {
+                continue;
+            }
+            TaskBucket tasks = tasksByCategory.get(category);
+            TaskColumns columns = tasks.columns();
+            for (int w = 0, words = columns.words(); w < words; w++) {
+                long bits = bound.word(columns, w, today) & columns.validWord(w);
+                while (bits != 0) {
+                    if (!action.test(tasks.at((w << 6) + Long.numberOfTrailingZeros(bits)))) {
+                        return false;
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compte les tâches retenues par un filtre sans les parcourir une à une
+     *
+     * @param filter Le filtre
+     * @return Le nombre de tâches retenues
+     */
+    public int countTasks(TaskFilter filter) {
+        long start = TodoMetrics.start();
+        int count = count(filter);
+        TodoMetrics.record(TodoMetrics.Operation.COUNT, start);
+        return count;
+    }
+
+    private int count(TaskFilter filter) {
+        int today = (int) views.today().toEpochDay();
+        int count = 0;
+        for (Category category : categories) {
+            TaskFilter bound = filter.bind(category);
+            if (bound == TaskFilter.none()) {
+                continue;
+            }
+            TaskColumns columns = tasksByCategory.get(category).columns();
+            if (bound == TaskFilter.all()) {
+                count += columns.size();
+                continue;
+            }
+            for (int w = 0, words = columns.words(); w < words; w++) {
+                count += Long.bitCount(bound.word(columns, w, today) & columns.validWord(w));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Exécute une requête combinant plusieurs critères.
+     *
+     * Le chemin d'accès est choisi selon le nombre de candidats qu'il produit :
+     * recherche directe par identifiant, index plein texte pour un mot-clé, index des
+     * échéances pour les tâches à faire dans une plage de dates, ou à défaut parcours
+     * des colonnes de bits (catégorie, état, présence d'une échéance). Les autres critères
+     * sont vérifiés sur chaque candidat. Avec une limite, le parcours s'arrête dès que
+     * possible et le tri ne garde que les meilleures tâches.
+     *
+     * @param query La requête
+     * @return Les tâches retenues, dans l'ordre demandé
+     */
+    public List<Task> query(TaskQuery query) {
+        long start = TodoMetrics.start();
+        List<Task> result = execute(query);
+        TodoMetrics.record(TodoMetrics.Operation.QUERY, start);
+        return result;
+    }
+
+    private List<Task> execute(TaskQuery query) {
+        // Égalités départagées par l'ordre de la liste : avec une limite, le tas borné
+        // retient alors les mêmes tâches que le début du résultat complet
+        Comparator<Task> listOrder = listOrder();
+        Comparator<Task> comparator = query.comparator();
+        if (comparator != null) {
+            comparator = comparator.thenComparing(listOrder);
+        }
+
+        if (query.getId() != null) {
+            QueryResults results = new QueryResults(null, query.getLimit());
+            Task task = tasksById.get(query.getId());
+            if (task != null && query.matches(task)) {
+                results.offer(task);
+            }
+            return results.toList();
+        }
+
+        // Chemin par défaut : colonnes de bits, dont le nombre de candidats se compte sans lire de tâche
+        TaskFilter filter = query.toFilter();
+        int bestCost = count(filter);
+        Set<String> keywordMatches = null;
+        Collection<String> keywordIds = null;
+        Collection<Set<Task>> dueRange = null;
+
+        if (query.getKeyword() != null) {
+            // Résultat de l'index gardé comme filtre du mot-clé, quel que soit le chemin choisi
+            keywordMatches = searchIndex.search(query.getKeyword());
+            if (keywordMatches.isEmpty()) {
+                return new ArrayList<>();
+            }
+            if (keywordMatches.size() < bestCost) {
+                bestCost = keywordMatches.size();
+                keywordIds = keywordMatches;
+            }
+        }
+        // L'index des échéances ne contient que les tâches à faire
+        if (query.getStatus() == TaskQuery.Status.PENDING && query.hasDueRange()) {
+            // Compte arrêté au-delà du meilleur coût : inutile de parcourir toute la plage
+            int count = dueDateIndex.count(query.dueFromDay(), query.dueToDay(), bestCost + 1);
+            boolean presorted = query.getSort() == TaskQuery.Sort.DUE_DATE && !query.isDescending();
+            if (count < bestCost || presorted && count <= bestCost) {
+                keywordIds = null;
+                dueRange = dueDateIndex.range(query.dueFromDay(), query.dueToDay());
+                if (presorted) {
+                    comparator = null;
+                }
+            }
+        }
+
+        Set<String> keywords = keywordMatches;
+        QueryResults results = new QueryResults(comparator, query.getLimit());
+        if (keywordIds != null) {
+            // Candidats remis dans l'ordre de la liste : sans tri, les N premiers ne dépendent pas du hachage
+            List<Task> candidates = new ArrayList<>(keywordIds.size());
+            for (String id : keywordIds) {
+                Task task = tasksById.get(id);
+                if (query.matches(task, keywords)) {
+                    candidates.add(task);
+                }
+            }
+            candidates.sort(listOrder);
+            for (Task task : candidates) {
+                if (!results.offer(task)) {
+                    break;
+                }
+            }
+        } else if (dueRange != null) {
+            // Un jour de l'index est dans l'ordre d'ajout : remis dans l'ordre de la liste, comme le tri
+            List<Task> day = new ArrayList<>();
+            collect:
+            for (Set<Task> tasks : dueRange) {
+                day.clear();
+                for (Task task : tasks) {
+                    if (query.matches(task, keywords)) {
+                        day.add(task);
+                    }
+                }
+                day.sort(listOrder);
+                for (Task task : day) {
+                    if (!results.offer(task)) {
+                        break collect;
+                    }
+                }
+            }
+        } else {
+            scan(filter, task -> !query.matches(task, keywords) || results.offer(task));
+        }
+        return results.toList();
+    }
+
+    /**
+     * Récupère les tâches en retard (échéance dépassée et non terminées).
+     * Elles sont triées par date d'échéance (puis par ordre d'ajout pour une même échéance),
+     * et non dans l'ordre de la liste comme getPendingTasks.
+     *
+     * @return La liste des tâches en retard, en lecture seule (voir TaskStore)
      */
     public List<Task> getOverdueTasks() {
-        return getAllTasks().stream()
-                .filter(Task::isOverdue)
-                .collect(Collectors.toList());
+        long start = TodoMetrics.start();
+        long key = ViewCache.key(ViewCache.OVERDUE, 0);
+        List<Task> result = views.get(key);
+        if (result == null) {
+            result = views.put(key, dueDateIndex.before(views.today()));
+        }
+        TodoMetrics.record(TodoMetrics.Operation.OVERDUE, start);
+        return result;
     }
 
     /**
-     * Récupère les tâches dont l'échéance est proche (moins de X jours)
+     * Récupère les tâches dont l'échéance est proche (moins de X jours),
+     * triées par date d'échéance (puis par ordre d'ajout pour une même échéance)
      *
      * @param days Le nombre de jours considéré comme "proche"
-     * @return La liste des tâches avec échéance proche
+     * @return La liste des tâches avec échéance proche, en lecture seule (voir TaskStore)
      */
     public List<Task> getUpcomingTasks(int days) {
-        LocalDate today = LocalDate.now();
-        LocalDate future = today.plusDays(days);
-
-        return getPendingTasks().stream()
-                .filter(task -> {
-                    LocalDate dueDate = task.getDueDate();
-                    return dueDate != null &&
-                            !dueDate.isBefore(today) &&
-                            !dueDate.isAfter(future);
-                })
-                .collect(Collectors.toList());
+        long start = TodoMetrics.start();
+        long key = ViewCache.key(ViewCache.UPCOMING, days);
+        List<Task> result = views.get(key);
+        if (result == null) {
+            LocalDate today = views.today();
+            result = views.put(key, dueDateIndex.between(today, today.plusDays(days)));
+        }
+        TodoMetrics.record(TodoMetrics.Operation.UPCOMING, start);
+        return result;
     }
 
     /**
-     * Recherche des tâches par mot-clé dans le titre ou la description
+     * Recherche des tâches par mot-clé dans le titre ou la description.
+     * Chaque mot du mot-clé doit être le début d'un mot du titre ou de la
+     * description (sans tenir compte de la casse ni des accents).
      *
      * @param keyword Le mot-clé à rechercher
-     * @return La liste des tâches correspondantes
+     * @return La liste des tâches correspondantes, dans l'ordre de la liste (catégorie, puis ajout)
      */
     public List<Task> searchTasks(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return new ArrayList<>();
         }
 
-        String searchTerm = keyword.toLowerCase();
+        long start = TodoMetrics.start();
+        List<Task> results = new ArrayList<>();
+        for (String taskId : searchIndex.search(keyword)) {
+            results.add(tasksById.get(taskId));
+        }
+        results.sort(listOrder());
+        TodoMetrics.record(TodoMetrics.Operation.SEARCH, start);
+        return results;
+    }
 
-        return getAllTasks().stream()
-                .filter(task ->
-                        task.getTitle().toLowerCase().contains(searchTerm) ||
-                                task.getDescription().toLowerCase().contains(searchTerm))
-                .collect(Collectors.toList());
+    /**
+     * Ordre des tâches dans la liste : ordre des catégories, puis emplacement dans la catégorie
+     * (ordre d'ajout). Les résultats issus des index sont triés ainsi pour ne pas dépendre
+     * du hachage des identifiants.
+     */
+    private Comparator<Task> listOrder() {
+        Map<Category, Integer> ranks = new HashMap<>();
+        for (Category category : categories) {
+            ranks.put(category, ranks.size());
+        }
+        return Comparator.<Task>comparingInt(task -> ranks.get(task.getCategory()))
+                .thenComparingInt(task -> task.slot);
     }
 
     /**
@@ -215,10 +1035,10 @@ public class TodoList implements Serializable {
      * @return La tâche trouvée ou null si aucune correspondance
      */
     public Task findTaskById(String taskId) {
-        return getAllTasks().stream()
-                .filter(task -> task.getId().equals(taskId))
-                .findFirst()
-                .orElse(null);
+        long start = TodoMetrics.start();
+        Task task = tasksById.get(taskId);
+        TodoMetrics.record(TodoMetrics.Operation.FIND_TASK, start);
+        return task;
     }
 
     /**
@@ -227,7 +1047,77 @@ public class TodoList implements Serializable {
      * @return Le nombre de tâches
      */
     public int getTaskCount() {
-        return getAllTasks().size();
+        return tasksById.size();
+    }
+
+    /**
+     * Nombre de tâches à la dernière modification terminée, lisible depuis n'importe quel
+     * thread sans tenir le verrou de la liste (pour les mesures)
+     *
+     * @return Le nombre de tâches
+     */
+    public int getPublishedTaskCount() {
+        return (int) (publishedCounts >>> 32);
+    }
+
+    /**
+     * Nombre de tâches terminées à la dernière modification terminée, lisible depuis
+     * n'importe quel thread sans tenir le verrou de la liste (pour les mesures)
+     *
+     * @return Le nombre de tâches terminées
+     */
+    public int getPublishedCompletedCount() {
+        return (int) publishedCounts;
+    }
+
+    /**
+     * Nombre de catégories à la dernière modification terminée, lisible depuis n'importe
+     * quel thread sans tenir le verrou de la liste (pour les mesures)
+     *
+     * @return Le nombre de catégories
+     */
+    public int getPublishedCategoryCount() {
+        return publishedCategoryCount;
+    }
+
+    /**
+     * Compte le nombre de tâches d'une catégorie
+     *
+     * @param category La catégorie
+     * @return Le nombre de tâches de cette catégorie (0 si elle n'existe pas)
+     */
+    public int getTaskCount(Category category) {
+        TaskBucket tasks = tasksByCategory.get(category);
+        return tasks == null ? 0 : tasks.size();
+    }
+
+    /**
+     * Compte le nombre de tâches terminées
+     *
+     * @return Le nombre de tâches terminées
+     */
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * Compte le nombre de tâches terminées d'une catégorie
+     *
+     * @param category La catégorie
+     * @return Le nombre de tâches terminées de cette catégorie
+     */
+    public int getCompletedCount(Category category) {
+        TaskBucket tasks = tasksByCategory.get(category);
+        return tasks == null ? 0 : tasks.columns().completedCount();
+    }
+
+    /**
+     * Compte le nombre de tâches à faire (non terminées)
+     *
+     * @return Le nombre de tâches non terminées
+     */
+    public int getPendingCount() {
+        return tasksById.size() - completedCount;
     }
 
     /**
@@ -241,7 +1131,6 @@ public class TodoList implements Serializable {
             return 0.0;
         }
 
-        int completed = getCompletedTasks().size();
-        return (double) completed / total * 100;
+        return (double) completedCount / total * 100;
     }
 }
\ No newline at end of file
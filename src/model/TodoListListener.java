@@ -0,0 +1,90 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Observateur des modifications d'une TodoList.
+ * Toutes les méthodes ont une implémentation vide par défaut ; les méthodes
+ * groupées (tasksAdded...) appellent par défaut la méthode unitaire pour chaque tâche.
+ */
+public interface TodoListListener {
+
+    /**
+     * Appelée après l'ajout d'une catégorie
+     */
+    default void categoryAdded(Category category) {
+    }
+
+    /**
+     * Appelée après la suppression d'une catégorie (et de ses tâches)
+     */
+    default void categoryRemoved(Category category) {
+    }
+
+    /**
+     * Appelée après la modification du nom ou de la couleur d'une catégorie
+     */
+    default void categoryUpdated(Category category) {
+    }
+
+    /**
+     * Appelée après l'ajout d'une tâche
+     */
+    default void taskAdded(Task task) {
+    }
+
+    /**
+     * Appelée après la suppression d'une tâche
+     */
+    default void taskRemoved(Task task) {
+    }
+
+    /**
+     * Appelée après le passage d'une tâche à l'état terminé ou non terminé
+     */
+    default void taskCompletionChanged(Task task) {
+    }
+
+    /**
+     * Appelée après la modification du titre, de la description,
+     * de la date d'échéance ou de la catégorie d'une tâche
+     */
+    default void taskUpdated(Task task) {
+    }
+
+    /**
+     * Appelée une fois après l'ajout groupé de tâches (TodoList.addTasks)
+     */
+    default void tasksAdded(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskAdded(task);
+        }
+    }
+
+    /**
+     * Appelée une fois après la suppression groupée de tâches (TodoList.removeTasks)
+     */
+    default void tasksRemoved(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskRemoved(task);
+        }
+    }
+
+    /**
+     * Appelée une fois après le changement d'état groupé de tâches (TodoList.completeTasks)
+     */
+    default void tasksCompletionChanged(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskCompletionChanged(task);
+        }
+    }
+
+    /**
+     * Appelée une fois après la modification groupée de tâches (TodoList.moveTasks)
+     */
+    default void tasksUpdated(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskUpdated(task);
+        }
+    }
+}
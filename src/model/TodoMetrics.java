@@ -0,0 +1,180 @@
+package model;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mesures des opérations de TodoList et de la persistance : nombre d'appels, histogramme
+ * des durées, octets lus et écrits.
+ *
+ * L'enregistrement d'une mesure ne fait ni allocation ni verrouillage : les compteurs sont
+ * des LongAdder (répartis entre les threads en cas de concurrence) et chaque opération a un
+ * LatencyHistogram à cases fixes, quatre par puissance de 2 de nanosecondes (largeur d'une
+ * case : au plus 25 % de sa borne inférieure).
+ * Les mesures sont globales à la JVM et peuvent être désactivées entièrement,
+ * au démarrage (-Dtodo.metrics=false) ou à tout moment (setEnabled).
+ *
+ * Utilisation dans une méthode mesurée :
+ * <pre>
+ * long start = TodoMetrics.start();
+ * ...
+ * TodoMetrics.record(TodoMetrics.Operation.SEARCH, start);
+ * </pre>
+ */
+public final class TodoMetrics {
+
+    /**
+     * Opérations mesurées
+     */
+    public enum Operation {
+        ADD_TASK, REMOVE_TASK, FIND_TASK, SEARCH, QUERY,
+        PENDING, COMPLETED, OVERDUE, UPCOMING, FILTER, COUNT,
+        SAVE, LOAD;
+
+        private final LatencyHistogram latencies = new LatencyHistogram(SUB_BUCKET_BITS);
+
+        /**
+         * @return Le nom de l'opération en minuscules (add_task, search...)
+         */
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Précision des histogrammes : quatre cases par puissance de 2 */
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty("todo.metrics"));
+
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+    private static final LongAdder BYTES_READ = new LongAdder();
+
+    private TodoMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active ou désactive l'enregistrement des mesures (les mesures déjà prises sont conservées)
+     */
+    public static void setEnabled(boolean enabled) {
+        TodoMetrics.enabled = enabled;
+    }
+
+    /**
+     * Début d'une opération mesurée
+     *
+     * @return L'instant de début, ou 0 si les mesures sont désactivées
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Fin d'une opération mesurée
+     *
+     * @param operation L'opération
+     * @param start La valeur renvoyée par start() (rien n'est enregistré si elle vaut 0)
+     */
+    public static void record(Operation operation, long start) {
+        if (start == 0) {
+            return;
+        }
+        operation.latencies.record(System.nanoTime() - start);
+    }
+
+    public static void addBytesWritten(long bytes) {
+        if (enabled) {
+            BYTES_WRITTEN.add(bytes);
+        }
+    }
+
+    public static void addBytesRead(long bytes) {
+        if (enabled) {
+            BYTES_READ.add(bytes);
+        }
+    }
+
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.sum();
+    }
+
+    public static long getBytesRead() {
+        return BYTES_READ.sum();
+    }
+
+    public static long getCallCount(Operation operation) {
+        return operation.latencies.getCount();
+    }
+
+    /**
+     * @return La durée moyenne d'une opération en nanosecondes (0 si aucun appel)
+     */
+    public static long getMeanNanos(Operation operation) {
+        return operation.latencies.getMean();
+    }
+
+    public static long getMaxNanos(Operation operation) {
+        return operation.latencies.getMax();
+    }
+
+    /**
+     * Estime un centile des durées d'une opération
+     *
+     * @param operation L'opération
+     * @param percentile Le centile (par exemple 99.9)
+     * @return La borne haute de la case contenant ce centile, en nanosecondes (0 si aucun appel)
+     */
+    public static long getPercentileNanos(Operation operation, double percentile) {
+        return operation.latencies.getPercentile(percentile);
+    }
+
+    /**
+     * Remet toutes les mesures à zéro
+     */
+    public static void reset() {
+        for (Operation operation : Operation.values()) {
+            operation.latencies.reset();
+        }
+        BYTES_WRITTEN.reset();
+        BYTES_READ.reset();
+    }
+
+    /**
+     * Résumé des mesures, une ligne par opération appelée au moins une fois
+     *
+     * @return Le texte du résumé
+     */
+    public static String report() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-12s %10s %10s %10s %10s %10s%n", "Opération", "Appels", "Moyenne", "p50", "p99", "max"));
+        for (Operation operation : Operation.values()) {
+            long calls = getCallCount(operation);
+            if (calls == 0) {
+                continue;
+            }
+            text.append(String.format("%-12s %10d %10s %10s %10s %10s%n", operation.key(), calls,
+                    formatNanos(getMeanNanos(operation)),
+                    formatNanos(getPercentileNanos(operation, 50)),
+                    formatNanos(getPercentileNanos(operation, 99)),
+                    formatNanos(getMaxNanos(operation))));
+        }
+        text.append(String.format("Octets écrits: %d, octets lus: %d%n", getBytesWritten(), getBytesRead()));
+        return text.toString();
+    }
+
+    /**
+     * Formate une durée en nanosecondes dans l'unité la plus lisible
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 10_000) {
+            return nanos + " ns";
+        }
+        if (nanos < 10_000_000) {
+            return nanos / 1_000 + " µs";
+        }
+        return nanos / 1_000_000 + " ms";
+    }
+}
@@ -0,0 +1,132 @@
+package model;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache des vues dérivées de TodoList : tâches à faire, terminées, en retard et à venir.
+ *
+ * Chaque modification de la liste invalide seulement les vues qu'elle peut changer
+ * (invalidate) : un changement d'échéance laisse en place les vues à faire et terminées,
+ * un déplacement de catégorie les vues par échéance. Le changement de jour invalide les
+ * vues par échéance. Les vues paramétrées (getUpcomingTasks(days)) sont limitées à
+ * MAX_ENTRIES résultats, le moins récemment lu étant évincé.
+ *
+ * Les résultats gardés ne sont plus jamais modifiés : TodoList les renvoie en lecture seule,
+ * sans copie. Le jour des résultats est calculé à partir de la même lecture de l'horloge que
+ * le contrôle de validité ; les vues qui dépendent de la date doivent être calculées pour
+ * today(), et non pour LocalDate.now().
+ */
+class ViewCache {
+    /** Nombre maximal de résultats gardés */
+    static final int MAX_ENTRIES = 32;
+
+    static final int PENDING = 0;
+    static final int COMPLETED = 1;
+    static final int OVERDUE = 2;
+    static final int UPCOMING = 3;
+
+    /** Vues qui dépendent de l'état et de l'ordre des tâches dans la liste */
+    static final int STATUS_VIEWS = 1 << PENDING | 1 << COMPLETED;
+    /** Vues qui dépendent des échéances des tâches à faire et du jour */
+    static final int DUE_VIEWS = 1 << OVERDUE | 1 << UPCOMING;
+    static final int ALL_VIEWS = STATUS_VIEWS | DUE_VIEWS;
+
+    private final Map<Long, List<Task>> results = new LinkedHashMap<Long, List<Task>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<Task>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final Clock clock;
+    /** Jour des résultats du cache et ses bornes, en millisecondes depuis l'epoch */
+    private LocalDate day;
+    private long dayStart;
+    private long dayEnd = Long.MIN_VALUE;
+
+    /**
+     * @param clock L'horloge (et son fuseau) qui donne le jour des vues par échéance
+     */
+    ViewCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param view La vue (PENDING, COMPLETED, OVERDUE, UPCOMING)
+     * @param parameter Le paramètre de la vue (0 si elle n'en a pas)
+     * @return La clé du résultat
+     */
+    static long key(int view, int parameter) {
+        return (long) view << 32 | parameter & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Récupère un résultat encore valable pour today()
+     *
+     * @param key La clé du résultat
+     * @return Le résultat, ou null s'il doit être calculé pour today()
+     */
+    List<Task> get(long key) {
+        today();
+        return results.get(key);
+    }
+
+    /**
+     * Donne le jour courant de l'horloge. Le changement de jour est détecté en comparant
+     * l'heure aux bornes du jour des résultats, sans calculer la date ; il retire les
+     * résultats des vues par échéance.
+     *
+     * @return Le jour pour lequel calculer un résultat manquant ou appliquer un filtre
+     */
+    LocalDate today() {
+        long now = clock.millis();
+        if (now < dayStart || now >= dayEnd) {
+            invalidate(DUE_VIEWS);
+            ZoneId zone = clock.getZone();
+            day = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+            dayStart = day.atStartOfDay(zone).toInstant().toEpochMilli();
+            dayEnd = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        return day;
+    }
+
+    /**
+     * Garde un résultat calculé pour le jour du dernier appel à today()
+     *
+     * @param key La clé du résultat
+     * @param result Le résultat calculé (ne doit plus être modifié)
+     * @return Le résultat en lecture seule, tel que le renverront les appels suivants à get
+     */
+    List<Task> put(long key, List<Task> result) {
+        List<Task> view = Collections.unmodifiableList(result);
+        results.put(key, view);
+        return view;
+    }
+
+    /**
+     * Retire les résultats de certaines vues, après une modification de la liste
+     *
+     * @param views Les vues à retirer (bits 1 << PENDING..., ou STATUS_VIEWS, DUE_VIEWS, ALL_VIEWS)
+     */
+    void invalidate(int views) {
+        if (views == ALL_VIEWS) {
+            results.clear();
+        } else if (views != 0 && !results.isEmpty()) {
+            results.keySet().removeIf(key -> (views & 1 << (int) (key >>> 32)) != 0);
+        }
+    }
+
+    /**
+     * @return Le nombre de résultats gardés
+     */
+    int size() {
+        return results.size();
+    }
+}
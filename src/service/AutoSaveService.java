@@ -0,0 +1,346 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import model.TodoListListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sauvegarde automatique d'une TodoList en arrière-plan.
+ *
+ * Chaque modification de la liste programme une sauvegarde : les modifications rapprochées
+ * sont regroupées (attente de debounceMillis sans nouvelle modification), sans jamais
+ * laisser une modification non sauvegardée plus de maxStalenessMillis.
+ * La sauvegarde se fait au format binaire, dans un fichier temporaire renommé ensuite sur
+ * le fichier cible, ce qui garantit qu'un arrêt brutal laisse toujours une sauvegarde complète.
+ *
+ * Une copie légère de la liste (références des chaînes, dates et état, voir
+ * BinarySnapshotFormat.Snapshot) est prise en tenant le verrou de l'objet TodoList :
+ * les threads qui modifient la liste doivent donc le faire dans un bloc
+ * synchronized (todoList). L'encodage et l'écriture sur disque se font ensuite sans verrou,
+ * directement dans le fichier temporaire.
+ */
+public class AutoSaveService implements TodoListListener, Closeable {
+    private final TodoList todoList;
+    private final Path target;
+    private final long debounceNanos;
+    private final long maxStalenessNanos;
+    private final ScheduledExecutorService executor;
+
+    // État protégé par le verrou du service
+    private boolean dirty;
+    private long firstChangeNanos;
+    private long lastChangeNanos;
+    private boolean scheduled;
+    private boolean closed;
+    private CompletableFuture<Void> nextSave = new CompletableFuture<>();
+    /** Promesse de la sauvegarde en cours d'écriture (null si aucune) */
+    private CompletableFuture<Void> saving;
+
+    // Statistiques
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private volatile long lastSaveBytes;
+    private volatile long lastSaveMillis;
+
+    /**
+     * Crée le service et l'abonne aux modifications de la liste
+     *
+     * @param todoList La liste à sauvegarder
+     * @param filename Le fichier de sauvegarde
+     * @param debounceMillis Délai sans modification avant de sauvegarder
+     * @param maxStalenessMillis Délai maximal entre une modification et sa sauvegarde
+     */
+    public AutoSaveService(TodoList todoList, String filename, long debounceMillis, long maxStalenessMillis) {
+        this.todoList = todoList;
+        this.target = Paths.get(filename);
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(debounceMillis, maxStalenessMillis));
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "todo-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        synchronized (todoList) {
+            todoList.addListener(this);
+        }
+    }
+
+    /**
+     * Statistiques de sauvegarde à un instant donné
+     */
+    public static class Metrics {
+        private final long changes;
+        private final long saves;
+        private final long failures;
+        private final long bytesWritten;
+        private final long lastSaveBytes;
+        private final long lastSaveMillis;
+
+        Metrics(long changes, long saves, long failures, long bytesWritten, long lastSaveBytes, long lastSaveMillis) {
+            this.changes = changes;
+            this.saves = saves;
+            this.failures = failures;
+            this.bytesWritten = bytesWritten;
+            this.lastSaveBytes = lastSaveBytes;
+            this.lastSaveMillis = lastSaveMillis;
+        }
+
+        /** Nombre de modifications reçues */
+        public long getChanges() {
+            return changes;
+        }
+
+        /** Nombre de sauvegardes réussies */
+        public long getSaves() {
+            return saves;
+        }
+
+        /** Nombre de sauvegardes en échec */
+        public long getFailures() {
+            return failures;
+        }
+
+        /** Nombre total d'octets écrits */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /** Taille de la dernière sauvegarde en octets */
+        public long getLastSaveBytes() {
+            return lastSaveBytes;
+        }
+
+        /** Durée de la dernière sauvegarde en millisecondes */
+        public long getLastSaveMillis() {
+            return lastSaveMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d modifications, %d sauvegardes, %d échecs, %d octets écrits (dernière: %d octets en %d ms)",
+                    changes, saves, failures, bytesWritten, lastSaveBytes, lastSaveMillis);
+        }
+    }
+
+    // Modifications de la liste
+
+    @Override
+    public void categoryAdded(Category category) {
+        changed();
+    }
+
+    @Override
+    public void categoryRemoved(Category category) {
+        changed();
+    }
+
+    @Override
+    public void categoryUpdated(Category category) {
+        changed();
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        changed();
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        changed();
+    }
+
+    @Override
+    public void taskCompletionChanged(Task task) {
+        changed();
+    }
+
+    @Override
+    public void taskUpdated(Task task) {
+        changed();
+    }
+
+    // Modifications groupées : une seule reprogrammation par lot
+
+    @Override
+    public void tasksAdded(List<Task> tasks) {
+        changed(tasks.size());
+    }
+
+    @Override
+    public void tasksRemoved(List<Task> tasks) {
+        changed(tasks.size());
+    }
+
+    @Override
+    public void tasksCompletionChanged(List<Task> tasks) {
+        changed(tasks.size());
+    }
+
+    @Override
+    public void tasksUpdated(List<Task> tasks) {
+        changed(tasks.size());
+    }
+
+    /**
+     * Demande une sauvegarde dès que possible, sans attendre le délai de regroupement
+     *
+     * @return Une promesse terminée lorsque la sauvegarde est écrite sur disque
+     */
+    public synchronized CompletableFuture<Void> saveNow() {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("Sauvegarde automatique arrêtée"));
+        }
+        long now = System.nanoTime();
+        dirty = true;
+        firstChangeNanos = now - maxStalenessNanos;
+        lastChangeNanos = now;
+        CompletableFuture<Void> future = nextSave;
+        executor.execute(this::runSave);
+        scheduled = true;
+        return future;
+    }
+
+    /**
+     * Récupère la promesse de la prochaine sauvegarde
+     *
+     * @return Une promesse terminée lorsque les modifications en attente sont sauvegardées
+     */
+    public synchronized CompletableFuture<Void> nextSave() {
+        if (dirty || scheduled) {
+            return nextSave;
+        }
+        return saving != null ? saving : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Récupère les statistiques de sauvegarde
+     *
+     * @return Les statistiques courantes
+     */
+    public Metrics getMetrics() {
+        return new Metrics(changeCount.get(), saveCount.get(), failureCount.get(),
+                bytesWritten.get(), lastSaveBytes, lastSaveMillis);
+    }
+
+    /**
+     * Se désabonne de la liste, sauvegarde les modifications en attente et arrête le service
+     *
+     * @throws IOException si la dernière sauvegarde a échoué
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (todoList) {
+            todoList.removeListener(this);
+        }
+        CompletableFuture<Void> last;
+        synchronized (this) {
+            last = dirty ? saveNow() : nextSave();
+            closed = true;
+        }
+        try {
+            last.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException("Échec de la dernière sauvegarde", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void changed() {
+        changed(1);
+    }
+
+    private synchronized void changed(int count) {
+        changeCount.addAndGet(count);
+        long now = System.nanoTime();
+        if (!dirty) {
+            dirty = true;
+            firstChangeNanos = now;
+        }
+        lastChangeNanos = now;
+        if (!scheduled && !closed) {
+            scheduled = true;
+            executor.schedule(this::runSave, debounceNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Exécutée sur le thread de sauvegarde : sauvegarde si l'échéance est atteinte,
+     * sinon se reprogramme pour l'échéance courante
+     */
+    private void runSave() {
+        CompletableFuture<Void> completion;
+        synchronized (this) {
+            if (!dirty) {
+                scheduled = false;
+                return;
+            }
+            long now = System.nanoTime();
+            long deadline = Math.min(lastChangeNanos + debounceNanos, firstChangeNanos + maxStalenessNanos);
+            if (now < deadline) {
+                executor.schedule(this::runSave, deadline - now, TimeUnit.NANOSECONDS);
+                return;
+            }
+            dirty = false;
+            scheduled = false;
+            completion = nextSave;
+            nextSave = new CompletableFuture<>();
+            saving = completion;
+        }
+
+        long start = System.nanoTime();
+        try {
+            BinarySnapshotFormat.Snapshot snapshot;
+            synchronized (todoList) {
+                snapshot = BinarySnapshotFormat.Snapshot.of(todoList);
+            }
+            long[] size = new long[1];
+            FileManager.writeAtomically(target, channel -> {
+                BinarySnapshotFormat.write(snapshot, channel);
+                size[0] = channel.position();
+            });
+            lastSaveBytes = size[0];
+            lastSaveMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            bytesWritten.addAndGet(size[0]);
+            saveCount.incrementAndGet();
+            synchronized (this) {
+                saving = null;
+            }
+            completion.complete(null);
+        } catch (IOException | RuntimeException e) {
+            failureCount.incrementAndGet();
+            System.err.println("Erreur lors de la sauvegarde automatique: " + e.getMessage());
+            // Les modifications restent à sauvegarder : nouvel essai après le délai de regroupement
+            synchronized (this) {
+                saving = null;
+                if (!dirty) {
+                    dirty = true;
+                    firstChangeNanos = start;
+                    lastChangeNanos = start;
+                }
+                if (!scheduled && !closed) {
+                    scheduled = true;
+                    executor.schedule(this::runSave, debounceNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            completion.completeExceptionally(e);
+        }
+    }
+}
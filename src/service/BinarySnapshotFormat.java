@@ -0,0 +1,484 @@
+package service;
+
+import model.Category;
+import model.ConcurrentTodoList;
+import model.Task;
+import model.TaskStore;
+import model.TodoList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Format binaire compact et versionné pour la sauvegarde d'une TodoList.
+ *
+ * <pre>
+ * en-tête      : magic (int "TDLB"), version (short)
+ * catégories   : nombre (int), puis pour chacune id, nom, couleur (chaînes)
+ * tâches       : nombre (int), puis pour chacune
+ *                id, titre, description (chaînes),
+ *                échéance (int, jour epoch ou NO_DATE), création (int, jour epoch),
+ *                drapeaux (byte, bit 0 = terminée), ordinal de catégorie (int)
+ * index (v2)   : position dans le fichier de chaque tâche (long)
+ * pied (v2)    : position de l'index (long), magic (int)
+ * </pre>
+ *
+ * Les chaînes sont écrites en UTF-8 précédées de leur longueur en octets (int, -1 pour null).
+ * Les tâches sont écrites catégorie par catégorie pour conserver l'ordre au rechargement.
+ * L'index de fin de fichier permet à MappedSnapshot d'accéder directement à une tâche
+ * sans lire les précédentes ; les fichiers en version 1 (sans index) restent lisibles.
+ */
+public final class BinarySnapshotFormat {
+    /** "TDLB" en ASCII */
+    public static final int MAGIC = 0x54444C42;
+    public static final short VERSION = 2;
+
+    /** Taille de l'en-tête (magic + version) */
+    static final int HEADER_SIZE = 6;
+    /** Taille du pied de fichier (position de l'index + magic), à partir de la version 2 */
+    static final int FOOTER_SIZE = 12;
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+    static final byte FLAG_COMPLETED = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinarySnapshotFormat() {
+    }
+
+    /**
+     * Indique si des octets commencent par l'en-tête du format binaire
+     *
+     * @param header Les premiers octets d'un fichier
+     * @return true si l'en-tête correspond au format binaire
+     */
+    public static boolean hasMagic(byte[] header) {
+        return header.length >= 4 && ByteBuffer.wrap(header).getInt() == MAGIC;
+    }
+
+    /**
+     * Écrit une liste de tâches dans un canal
+     *
+     * @param todoList La liste à écrire
+     * @param channel Le canal de destination (non fermé par cette méthode)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void write(TodoList todoList, WritableByteChannel channel) throws IOException {
+        write(Snapshot.of(todoList), channel);
+    }
+
+    /**
+     * Écrit une liste partagée entre plusieurs threads, sans bloquer ses autres utilisateurs :
+     * chaque catégorie est copiée sous son propre verrou (voir Snapshot.of(ConcurrentTodoList))
+     *
+     * @param todoList La liste à écrire
+     * @param channel Le canal de destination (non fermé par cette méthode)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void write(ConcurrentTodoList todoList, WritableByteChannel channel) throws IOException {
+        write(Snapshot.of(todoList), channel);
+    }
+
+    /**
+     * Écrit une copie de liste prise plus tôt, sans accéder à la liste elle-même
+     *
+     * @param snapshot La copie à écrire
+     * @param channel Le canal de destination (non fermé par cette méthode)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    static void write(Snapshot snapshot, WritableByteChannel channel) throws IOException {
+        ChannelWriter out = new ChannelWriter(channel);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+
+        int categoryCount = snapshot.categoryIds.length;
+        out.putInt(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            out.putString(snapshot.categoryIds[i]);
+            out.putString(snapshot.categoryNames[i]);
+            out.putString(snapshot.categoryColors[i]);
+        }
+
+        int taskCount = snapshot.ids.length;
+        long[] offsets = new long[taskCount];
+        out.putInt(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            offsets[i] = out.position();
+            out.putString(snapshot.ids[i]);
+            out.putString(snapshot.titles[i]);
+            out.putString(snapshot.descriptions[i]);
+            out.putInt(snapshot.dueDays[i]);
+            out.putInt(snapshot.creationDays[i]);
+            out.putByte(snapshot.flags[i]);
+            out.putInt(snapshot.ordinals[i]);
+        }
+
+        long indexOffset = out.position();
+        for (long offset : offsets) {
+            out.putLong(offset);
+        }
+        out.putLong(indexOffset);
+        out.putInt(MAGIC);
+        out.flush();
+    }
+
+    /**
+     * Lit une liste de tâches depuis un canal
+     *
+     * @param channel Le canal source (non fermé par cette méthode)
+     * @return La liste lue
+     * @throws IOException si le contenu n'est pas au format attendu (dont un identifiant de tâche
+     *                     en double) ou en cas d'erreur de lecture
+     */
+    public static TodoList read(ReadableByteChannel channel) throws IOException {
+        TodoList todoList = new TodoList();
+        readInto(channel, todoList);
+        return todoList;
+    }
+
+    /**
+     * Lit une liste de tâches depuis un canal dans une liste partagée entre plusieurs threads
+     *
+     * @param channel Le canal source (non fermé par cette méthode)
+     * @return La liste lue
+     * @throws IOException si le contenu n'est pas au format attendu ou en cas d'erreur de lecture
+     */
+    public static ConcurrentTodoList readConcurrent(ReadableByteChannel channel) throws IOException {
+        ConcurrentTodoList todoList = new ConcurrentTodoList();
+        readInto(channel, todoList);
+        return todoList;
+    }
+
+    private static void readInto(ReadableByteChannel channel, TaskStore todoList) throws IOException {
+        ChannelReader in = new ChannelReader(channel);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Le fichier n'est pas une sauvegarde binaire de liste de tâches");
+        }
+        short version = in.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Version de sauvegarde non supportée: " + version);
+        }
+
+        int categoryCount = readCount(in);
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = new Category(in.getString(), in.getString(), in.getString());
+            if (!todoList.addCategory(category)) {
+                throw new IOException("Sauvegarde binaire corrompue: identifiant de catégorie en double: "
+                        + category.getId() + " (" + category.getName() + ")");
+            }
+            categories.add(category);
+        }
+
+        int taskCount = readCount(in);
+        for (int i = 0; i < taskCount; i++) {
+            String id = in.getString();
+            String title = in.getString();
+            String description = in.getString();
+            LocalDate dueDate = fromEpochDay(in.getInt());
+            LocalDate creationDate = fromEpochDay(in.getInt());
+            boolean completed = (in.getByte() & FLAG_COMPLETED) != 0;
+            int ordinal = in.getInt();
+            if (ordinal < 0 || ordinal >= categories.size()) {
+                throw new IOException("Sauvegarde binaire corrompue: catégorie inconnue: " + ordinal);
+            }
+            Category category = categories.get(ordinal);
+            if (!todoList.addTask(new Task(id, title, description, dueDate, category, completed, creationDate))) {
+                throw new IOException("Sauvegarde binaire corrompue: identifiant de tâche en double: " + id);
+            }
+        }
+    }
+
+    private static int readCount(ChannelReader in) throws IOException {
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IOException("Sauvegarde binaire corrompue: nombre d'éléments invalide: " + count);
+        }
+        return count;
+    }
+
+    static LocalDate fromEpochDay(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /** Échéance d'une tâche au format de la sauvegarde, lue sans créer de LocalDate */
+    static int dueEpochDay(Task task) {
+        int day = task.dueDay();
+        return day == Task.NO_DATE ? NO_DATE : day;
+    }
+
+    /** Date de création d'une tâche au format de la sauvegarde, lue sans créer de LocalDate */
+    static int creationEpochDay(Task task) {
+        int day = task.creationDay();
+        return day == Task.NO_DATE ? NO_DATE : day;
+    }
+
+    /**
+     * Copie des valeurs d'une liste, telles qu'elles seront écrites : références vers les
+     * chaînes (immuables), dates en jours et état terminé. La prendre coûte une copie de
+     * tableaux, bien moins qu'un encodage ; un thread qui tient le verrou de la liste peut
+     * ainsi la relâcher avant d'encoder et d'écrire la copie.
+     */
+    static final class Snapshot {
+        private final String[] categoryIds;
+        private final String[] categoryNames;
+        private final String[] categoryColors;
+        private final String[] ids;
+        private final String[] titles;
+        private final String[] descriptions;
+        private final int[] dueDays;
+        private final int[] creationDays;
+        private final byte[] flags;
+        private final int[] ordinals;
+
+        private Snapshot(int categoryCount, int taskCount) {
+            categoryIds = new String[categoryCount];
+            categoryNames = new String[categoryCount];
+            categoryColors = new String[categoryCount];
+            ids = new String[taskCount];
+            titles = new String[taskCount];
+            descriptions = new String[taskCount];
+            dueDays = new int[taskCount];
+            creationDays = new int[taskCount];
+            flags = new byte[taskCount];
+            ordinals = new int[taskCount];
+        }
+
+        /**
+         * Copie une liste, catégorie par catégorie (à appeler en tenant le verrou de la liste)
+         *
+         * @param todoList La liste à copier
+         * @return La copie
+         */
+        static Snapshot of(TodoList todoList) {
+            List<Category> categories = todoList.getCategoriesView();
+            List<List<Task>> tasks = new ArrayList<>(categories.size());
+            for (Category category : categories) {
+                tasks.add(todoList.getTasksView(category));
+            }
+            return of(categories, tasks, todoList.getTaskCount());
+        }
+
+        /**
+         * Copie une liste partagée entre plusieurs threads. Chaque catégorie est copiée sous
+         * son propre verrou : la copie de chaque catégorie est cohérente, mais une tâche déplacée
+         * pendant la copie peut figurer dans ses deux catégories ou dans aucune (elle n'est
+         * alors écrite qu'une fois, ou pas du tout).
+         *
+         * @param todoList La liste à copier
+         * @return La copie
+         */
+        static Snapshot of(ConcurrentTodoList todoList) {
+            List<Category> categories = todoList.getCategories();
+            List<List<Task>> tasks = new ArrayList<>(categories.size());
+            Set<String> seen = new HashSet<>();
+            int taskCount = 0;
+            for (Category category : categories) {
+                List<Task> copy = todoList.getTasksByCategory(category);
+                copy.removeIf(task -> !seen.add(task.getId()));
+                tasks.add(copy);
+                taskCount += copy.size();
+            }
+            return of(categories, tasks, taskCount);
+        }
+
+        private static Snapshot of(List<Category> categories, List<List<Task>> tasks, int taskCount) {
+            Snapshot snapshot = new Snapshot(categories.size(), taskCount);
+            int index = 0;
+            for (int ordinal = 0; ordinal < categories.size(); ordinal++) {
+                Category category = categories.get(ordinal);
+                snapshot.categoryIds[ordinal] = category.getId();
+                snapshot.categoryNames[ordinal] = category.getName();
+                snapshot.categoryColors[ordinal] = category.getColor();
+                for (Task task : tasks.get(ordinal)) {
+                    snapshot.ids[index] = task.getId();
+                    snapshot.titles[index] = task.getTitle();
+                    snapshot.descriptions[index] = task.getDescription();
+                    snapshot.dueDays[index] = dueEpochDay(task);
+                    snapshot.creationDays[index] = creationEpochDay(task);
+                    snapshot.flags[index] = task.isCompleted() ? FLAG_COMPLETED : 0;
+                    snapshot.ordinals[index] = ordinal;
+                    index++;
+                }
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Écriture tamponnée de valeurs primitives dans un canal
+     */
+    private static final class ChannelWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long flushed;
+
+        ChannelWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Nombre d'octets écrits depuis le début du flux
+         */
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putShort(short value) throws IOException {
+            ensure(2);
+            buffer.putShort(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            flushed += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Lecture tamponnée de valeurs primitives depuis un canal.
+     * Pour un canal de taille connue (fichier), une longueur de chaîne qui dépasse
+     * la fin du fichier est rejetée avant toute allocation ; sinon le tableau de la
+     * chaîne grandit au fur et à mesure des octets effectivement lus.
+     */
+    private static final class ChannelReader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        /** Octets restant à lire dans le canal, hors tampon (Long.MAX_VALUE si inconnu) */
+        private long unread;
+
+        ChannelReader(ReadableByteChannel channel) throws IOException {
+            this.channel = channel;
+            if (channel instanceof SeekableByteChannel) {
+                SeekableByteChannel seekable = (SeekableByteChannel) channel;
+                unread = Math.max(0, seekable.size() - seekable.position());
+            } else {
+                unread = Long.MAX_VALUE;
+            }
+            buffer.limit(0);
+        }
+
+        byte getByte() throws IOException {
+            require(1);
+            return buffer.get();
+        }
+
+        short getShort() throws IOException {
+            require(2);
+            return buffer.getShort();
+        }
+
+        int getInt() throws IOException {
+            require(4);
+            return buffer.getInt();
+        }
+
+        String getString() throws IOException {
+            int length = getInt();
+            if (length < 0) {
+                if (length != -1) {
+                    throw new IOException("Sauvegarde binaire corrompue: longueur de chaîne invalide: " + length);
+                }
+                return null;
+            }
+            if (unread != Long.MAX_VALUE && length > buffer.remaining() + unread) {
+                throw new IOException("Sauvegarde binaire corrompue: chaîne de " + length
+                        + " octets au-delà de la fin du fichier");
+            }
+            if (length <= buffer.capacity()) {
+                require(length);
+                String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            byte[] bytes = new byte[unread == Long.MAX_VALUE ? buffer.capacity() : length];
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) {
+                    require(1);
+                }
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                if (offset + chunk > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+                }
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Garantit qu'au moins n octets sont disponibles dans le tampon
+         */
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    throw new EOFException("Fin de fichier inattendue");
+                }
+                if (unread != Long.MAX_VALUE) {
+                    unread -= read;
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
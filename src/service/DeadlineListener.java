@@ -0,0 +1,30 @@
+package service;
+
+import model.Task;
+
+import java.time.Duration;
+
+/**
+ * Observateur des échéances surveillées par un DeadlineScheduler.
+ * Les méthodes sont appelées sur le thread qui fait avancer le planificateur,
+ * sans tenir le verrou de la liste.
+ */
+public interface DeadlineListener {
+
+    /**
+     * Appelée lorsqu'une tâche à faire arrive à un de ses rappels
+     *
+     * @param task La tâche
+     * @param remaining Le décalage du rappel : temps restant avant que la tâche soit en retard
+     */
+    default void taskDueSoon(Task task, Duration remaining) {
+    }
+
+    /**
+     * Appelée lorsqu'une tâche à faire passe en retard (fin du jour de son échéance)
+     *
+     * @param task La tâche
+     */
+    default void taskOverdue(Task task) {
+    }
+}
@@ -0,0 +1,308 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TaskFilter;
+import model.TodoList;
+import model.TodoListListener;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surveillance des échéances d'une TodoList : signale aux observateurs (DeadlineListener)
+ * les tâches à faire qui arrivent à un rappel ("échéance proche") puis passent en retard.
+ *
+ * Une tâche passe en retard à la fin du jour de son échéance, dans le fuseau de l'horloge.
+ * Chaque rappel est un décalage avant cet instant (par exemple 1 jour : au début du jour
+ * de l'échéance). Chaque tâche à faire avec une échéance a un seul minuteur, celui de son
+ * prochain événement, dans une roue temporelle hiérarchique (TimingWheel) : programmer,
+ * annuler et déclencher un événement se font en temps constant, sans parcourir la liste.
+ *
+ * Le planificateur s'abonne aux modifications de la liste : une tâche ajoutée, terminée,
+ * rouverte ou dont l'échéance change est reprogrammée. Si des rappels sont déjà passés lors
+ * de la programmation (par exemple une tâche qui arrive à échéance le jour du lancement),
+ * le dernier d'entre eux est émis au pas suivant. Une tâche déjà en retard lors de la
+ * programmation n'est pas signalée. Si l'horloge saute plusieurs événements d'une tâche,
+ * seul le dernier est émis.
+ *
+ * Le temps vient d'une Clock injectable : advance() traite les événements échus à l'instant
+ * de l'horloge, et start() l'appelle à chaque pas sur un thread dédié. Comme pour
+ * AutoSaveService, les threads qui modifient la liste doivent le faire dans un bloc
+ * synchronized (todoList).
+ */
+public class DeadlineScheduler implements TodoListListener, Closeable {
+    private final TodoList todoList;
+    private final Clock clock;
+    private final long tickMillis;
+    /** Décalages des rappels, du plus grand au plus petit (ordre chronologique des événements) */
+    private final Duration[] reminders;
+    private final List<DeadlineListener> listeners = new CopyOnWriteArrayList<>();
+
+    // État protégé par le verrou du planificateur
+    private final TimingWheel<Deadline> wheel;
+    private final Map<Task, Deadline> deadlines = new HashMap<>();
+    private ScheduledExecutorService executor;
+
+    /**
+     * Prochain événement d'une tâche
+     */
+    private static final class Deadline {
+        final Task task;
+        final LocalDate dueDate;
+        /** Instant du passage en retard, en millisecondes depuis l'epoch */
+        final long overdueMillis;
+        /** Indice du prochain événement : un rappel, ou reminders.length pour le passage en retard */
+        int next;
+        TimingWheel.Timer<Deadline> timer;
+
+        Deadline(Task task, long overdueMillis) {
+            this.task = task;
+            this.dueDate = task.getDueDate();
+            this.overdueMillis = overdueMillis;
+        }
+    }
+
+    /**
+     * Événement à transmettre aux observateurs, hors du verrou
+     */
+    private static final class Event {
+        final Task task;
+        /** Le décalage du rappel, ou null pour le passage en retard */
+        final Duration remaining;
+
+        Event(Task task, Duration remaining) {
+            this.task = task;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * Crée le planificateur, l'abonne aux modifications de la liste et programme les
+     * tâches à faire existantes. Aucun thread n'est lancé avant start().
+     *
+     * @param todoList La liste à surveiller
+     * @param clock L'horloge (et son fuseau) utilisée pour les échéances
+     * @param tick La précision des événements, par exemple une minute
+     * @param reminders Les décalages des rappels avant le passage en retard (positifs)
+     */
+    public DeadlineScheduler(TodoList todoList, Clock clock, Duration tick, Duration... reminders) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Pas invalide: " + tick);
+        }
+        for (Duration reminder : reminders) {
+            if (reminder.isNegative() || reminder.isZero()) {
+                throw new IllegalArgumentException("Rappel invalide: " + reminder);
+            }
+        }
+        this.todoList = todoList;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.reminders = Arrays.stream(reminders).distinct()
+                .sorted(Comparator.reverseOrder()).toArray(Duration[]::new);
+        this.wheel = new TimingWheel<>(Math.floorDiv(clock.millis(), tickMillis));
+        synchronized (todoList) {
+            todoList.addListener(this);
+            synchronized (this) {
+                todoList.forEachTask(TaskFilter.pending(), this::schedule);
+            }
+        }
+    }
+
+    /**
+     * Enregistre un observateur des échéances
+     */
+    public void addListener(DeadlineListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Retire un observateur des échéances
+     */
+    public void removeListener(DeadlineListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Lance un thread qui appelle advance() à chaque pas
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "todo-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Émet les événements échus à l'instant de l'horloge et programme les suivants
+     *
+     * @return Le nombre d'événements émis
+     */
+    public int advance() {
+        List<Event> events = new ArrayList<>();
+        synchronized (this) {
+            long now = clock.millis();
+            wheel.advance(Math.floorDiv(now, tickMillis), deadline -> expired(deadline, now, events));
+        }
+        for (Event event : events) {
+            for (DeadlineListener listener : listeners) {
+                try {
+                    if (event.remaining == null) {
+                        listener.taskOverdue(event.task);
+                    } else {
+                        listener.taskDueSoon(event.task, event.remaining);
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Erreur dans un observateur des échéances: " + e.getMessage());
+                }
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * @return Le nombre de tâches dont un événement est programmé
+     */
+    public synchronized int getScheduledCount() {
+        return deadlines.size();
+    }
+
+    // Modifications de la liste
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public synchronized void taskCompletionChanged(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskUpdated(Task task) {
+        // Titre, description ou catégorie : l'échéance ne change pas, rien à reprogrammer
+        Deadline deadline = deadlines.get(task);
+        if (deadline == null || !deadline.dueDate.equals(task.getDueDate())) {
+            schedule(task);
+        }
+    }
+
+    @Override
+    public synchronized void categoryRemoved(Category category) {
+        // Les tâches de la catégorie sont retirées sans notification individuelle
+        Iterator<Deadline> iterator = deadlines.values().iterator();
+        while (iterator.hasNext()) {
+            Deadline deadline = iterator.next();
+            if (deadline.task.getCategory().equals(category)) {
+                wheel.cancel(deadline.timer);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Se désabonne de la liste, annule les événements programmés et arrête le thread
+     */
+    @Override
+    public void close() {
+        synchronized (todoList) {
+            todoList.removeListener(this);
+        }
+        synchronized (this) {
+            for (Deadline deadline : deadlines.values()) {
+                wheel.cancel(deadline.timer);
+            }
+            deadlines.clear();
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * (Re)programme le prochain événement d'une tâche : le dernier rappel déjà passé
+     * (émis au pas suivant), sinon le premier événement à venir
+     */
+    private void schedule(Task task) {
+        cancel(task);
+        if (task.isCompleted() || task.getDueDate() == null) {
+            return;
+        }
+        long overdueMillis = task.getDueDate().plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        Deadline deadline = new Deadline(task, overdueMillis);
+        long now = clock.millis();
+        while (deadline.next <= reminders.length && eventMillis(deadline, deadline.next) <= now) {
+            deadline.next++;
+        }
+        if (deadline.next > reminders.length) {
+            return; // Déjà en retard : non signalée
+        }
+        if (deadline.next > 0) {
+            // Rappel déjà passé : la roue programme un pas passé au pas suivant
+            deadline.next--;
+        }
+        deadline.timer = wheel.schedule(tickOf(eventMillis(deadline, deadline.next)), deadline);
+        deadlines.put(task, deadline);
+    }
+
+    private void cancel(Task task) {
+        Deadline deadline = deadlines.remove(task);
+        if (deadline != null) {
+            wheel.cancel(deadline.timer);
+        }
+    }
+
+    /**
+     * Minuteur expiré : émet le dernier événement échu de la tâche et programme le suivant
+     */
+    private void expired(Deadline deadline, long now, List<Event> events) {
+        int last = deadline.next;
+        while (last < reminders.length && eventMillis(deadline, last + 1) <= now) {
+            last++;
+        }
+        events.add(new Event(deadline.task, last < reminders.length ? reminders[last] : null));
+        deadline.next = last + 1;
+        if (deadline.next <= reminders.length) {
+            deadline.timer = wheel.schedule(tickOf(eventMillis(deadline, deadline.next)), deadline);
+        } else {
+            deadlines.remove(deadline.task);
+        }
+    }
+
+    private long eventMillis(Deadline deadline, int index) {
+        return index < reminders.length
+                ? deadline.overdueMillis - reminders[index].toMillis()
+                : deadline.overdueMillis;
+    }
+
+    /**
+     * Premier pas auquel l'instant est atteint
+     */
+    private long tickOf(long millis) {
+        return Math.floorDiv(millis + tickMillis - 1, tickMillis);
+    }
+}
@@ -1,29 +1,117 @@
 package service;
 
+import model.ConcurrentTodoList;
+import model.IdGenerators;
 import model.TodoList;
+import model.TodoMetrics;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.SecureRandom;
 
 public class FileManager {
     private static final String DEFAULT_SAVE_PATH = "todolist.ser";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Formats de sauvegarde disponibles
+     */
+    public enum Format {
+        /** Sérialisation Java de l'objet TodoList (format historique) */
+        SERIALIZATION,
+        /** Format binaire compact et versionné (voir BinarySnapshotFormat) */
+        BINARY
+    }
+
+    /** Format des sauvegardes sans format explicite : le format historique, relu par les versions précédentes */
+    private static final Format DEFAULT_FORMAT = Format.SERIALIZATION;
+
+    /**
+     * Écriture du contenu d'un fichier dans un canal
+     */
+    interface ChannelWriteAction {
+        void writeTo(FileChannel channel) throws IOException;
+    }
 
     public static void saveTodoList(TodoList todoList, String filename)
             throws IOException {
-        try (ObjectOutputStream out = new ObjectOutputStream(
-                new FileOutputStream(filename))) {
-            out.writeObject(todoList);
-            System.out.println("Liste de tâches sauvegardée avec succès dans " + filename);
+        saveTodoList(todoList, filename, DEFAULT_FORMAT);
+    }
+
+    public static void saveTodoList(TodoList todoList, String filename, Format format)
+            throws IOException {
+        long start = TodoMetrics.start();
+        try {
+            if (format == Format.BINARY) {
+                writeAtomically(Paths.get(filename), channel -> BinarySnapshotFormat.write(todoList, channel));
+            } else {
+                writeAtomically(Paths.get(filename), channel -> {
+                    // Vidé sans être fermé : writeAtomically force puis ferme le canal
+                    ObjectOutputStream out = new ObjectOutputStream(
+                            new BufferedOutputStream(Channels.newOutputStream(channel)));
+                    out.writeObject(todoList);
+                    out.flush();
+                });
+            }
+            TodoMetrics.record(TodoMetrics.Operation.SAVE, start);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la sauvegarde: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Sauvegarde au format binaire une liste partagée entre plusieurs threads qui la modifient
+     * dans un bloc synchronized (todoList), comme AutoSaveService : seule la copie légère de la
+     * liste (BinarySnapshotFormat.Snapshot) est prise sous le verrou, l'encodage et l'écriture
+     * sur disque se font sans le tenir.
+     */
+    public static void saveSharedTodoList(TodoList todoList, String filename) throws IOException {
+        long start = TodoMetrics.start();
+        try {
+            BinarySnapshotFormat.Snapshot snapshot;
+            synchronized (todoList) {
+                snapshot = BinarySnapshotFormat.Snapshot.of(todoList);
+            }
+            writeAtomically(Paths.get(filename), channel -> BinarySnapshotFormat.write(snapshot, channel));
+            TodoMetrics.record(TodoMetrics.Operation.SAVE, start);
         } catch (IOException e) {
             System.err.println("Erreur lors de la sauvegarde: " + e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Charge une liste de tâches, quel que soit son format de sauvegarde. Le générateur
+     * d'identifiants par défaut ne reproduira pas les identifiants chargés (IdGenerators.reserveIds).
+     */
     public static TodoList loadTodoList(String filename)
             throws IOException, ClassNotFoundException {
-        try (ObjectInputStream in = new ObjectInputStream(
-                new FileInputStream(filename))) {
-            TodoList todoList = (TodoList) in.readObject();
+        long start = TodoMetrics.start();
+        try {
+            TodoList todoList;
+            if (detectFormat(filename) == Format.BINARY) {
+                try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+                    todoList = BinarySnapshotFormat.read(channel);
+                }
+            } else {
+                try (ObjectInputStream in = new ObjectInputStream(
+                        new BufferedInputStream(new FileInputStream(filename)))) {
+                    todoList = (TodoList) in.readObject();
+                }
+            }
+            IdGenerators.reserveIds(todoList);
+            TodoMetrics.addBytesRead(Files.size(Paths.get(filename)));
+            TodoMetrics.record(TodoMetrics.Operation.LOAD, start);
             System.out.println("Liste de tâches chargée avec succès depuis " + filename);
             return todoList;
         } catch (FileNotFoundException e) {
@@ -35,6 +123,143 @@ public class FileManager {
         }
     }
 
+    /**
+     * Sauvegarde une liste partagée entre plusieurs threads, au format binaire (seul format
+     * disponible : ConcurrentTodoList n'est pas sérialisable). Les autres threads peuvent
+     * continuer à modifier la liste pendant la sauvegarde.
+     */
+    public static void saveTodoList(ConcurrentTodoList todoList, String filename) throws IOException {
+        long start = TodoMetrics.start();
+        try {
+            writeAtomically(Paths.get(filename), channel -> BinarySnapshotFormat.write(todoList, channel));
+            TodoMetrics.record(TodoMetrics.Operation.SAVE, start);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la sauvegarde: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Charge une sauvegarde binaire dans une liste partagée entre plusieurs threads
+     */
+    public static ConcurrentTodoList loadConcurrentTodoList(String filename) throws IOException {
+        long start = TodoMetrics.start();
+        try {
+            if (detectFormat(filename) != Format.BINARY) {
+                throw new IOException("Seules les sauvegardes binaires peuvent être chargées dans une liste partagée: "
+                        + filename);
+            }
+            ConcurrentTodoList todoList;
+            try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+                todoList = BinarySnapshotFormat.readConcurrent(channel);
+            }
+            IdGenerators.reserveIds(todoList);
+            TodoMetrics.addBytesRead(Files.size(Paths.get(filename)));
+            TodoMetrics.record(TodoMetrics.Operation.LOAD, start);
+            System.out.println("Liste de tâches chargée avec succès depuis " + filename);
+            return todoList;
+        } catch (IOException e) {
+            System.err.println("Erreur lors du chargement: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Ouvre une sauvegarde binaire en lecture seule, projetée en mémoire :
+     * les tâches ne sont créées qu'à la demande
+     */
+    public static MappedSnapshot openMapped(String filename) throws IOException {
+        try {
+            MappedSnapshot snapshot = MappedSnapshot.open(filename);
+            System.out.println("Sauvegarde ouverte en lecture seule depuis " + filename);
+            return snapshot;
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'ouverture: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Écrit un fichier sans jamais laisser de version partielle : le contenu est écrit dans
+     * un fichier temporaire, forcé sur disque, puis renommé sur le fichier cible.
+     *
+     * Chaque écriture a son propre fichier temporaire (nom unique dans le répertoire cible) :
+     * deux écritures simultanées du même fichier, par exemple une sauvegarde manuelle et une
+     * sauvegarde automatique, laissent chacune un fichier complet, le dernier renommage l'emportant.
+     * Le fichier temporaire est créé avec les droits par défaut (umask), comme une écriture
+     * directe, puis reçoit les droits du fichier cible s'il existe : le renommage ne change pas
+     * les droits de la sauvegarde.
+     *
+     * @param target Le fichier à écrire
+     * @param action L'écriture du contenu
+     * @throws IOException en cas d'erreur d'écriture (le fichier cible reste alors intact)
+     */
+    static void writeAtomically(Path target, ChannelWriteAction action) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = createTempFile(directory, target.getFileName().toString());
+        try {
+            copyPermissions(target, temp);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                action.writeTo(channel);
+                channel.force(true);
+                TodoMetrics.addBytesWritten(channel.size());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        // Rend le renommage durable (non supporté sur certains systèmes, sans gravité)
+        if (directory != null) {
+            try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+                dir.force(true);
+            } catch (IOException ignored) {
+                // ignoré
+            }
+        }
+    }
+
+    /**
+     * Crée un fichier temporaire de nom unique à côté de la cible. Contrairement à
+     * Files.createTempFile (droits 0600), les droits par défaut du système s'appliquent.
+     */
+    private static Path createTempFile(Path directory, String name) throws IOException {
+        while (true) {
+            Path temp = directory.resolve(name + "." + Long.toUnsignedString(RANDOM.nextLong(), 36) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            } catch (FileAlreadyExistsException e) {
+                // nom déjà pris : nouveau tirage
+            }
+        }
+    }
+
+    /**
+     * Donne au fichier temporaire les droits POSIX du fichier qu'il va remplacer
+     */
+    private static void copyPermissions(Path target, Path temp) throws IOException {
+        if (Files.exists(target) && Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+        }
+    }
+
+    /**
+     * Détermine le format d'un fichier de sauvegarde d'après son en-tête
+     */
+    public static Format detectFormat(String filename) throws IOException {
+        byte[] header = new byte[4];
+        try (InputStream in = new FileInputStream(filename)) {
+            int read = in.readNBytes(header, 0, header.length);
+            return read == header.length && BinarySnapshotFormat.hasMagic(header)
+                    ? Format.BINARY : Format.SERIALIZATION;
+        }
+    }
+
     // Méthodes avec chemins par défaut
     public static void saveTodoList(TodoList todoList) throws IOException {
         saveTodoList(todoList, DEFAULT_SAVE_PATH);
@@ -0,0 +1,469 @@
+package service;
+
+import model.Category;
+import model.IdGenerators;
+import model.Task;
+import model.TodoList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Vue en lecture seule d'une sauvegarde binaire (BinarySnapshotFormat), projetée en mémoire.
+ *
+ * L'ouverture ne lit que l'en-tête, les catégories et l'index des tâches : une tâche
+ * n'est créée que lorsqu'elle est demandée, et les filtres sur l'état ou l'échéance
+ * lisent directement les octets du fichier. Le contenu reste dans le cache du système
+ * plutôt que dans le tas Java. Les tâches obtenues ne sont rattachées à aucune liste ;
+ * pour modifier la liste, utiliser toTodoList().
+ *
+ * L'ouverture vérifie que l'en-tête, les catégories, le pied et l'index tiennent dans le
+ * fichier. Les enregistrements des tâches ne sont vérifiés qu'à leur lecture : un
+ * enregistrement corrompu lève alors une UncheckedIOException (IOException pour toTodoList()).
+ *
+ * Une vue n'est pas sûre en environnement multi-thread : les tâches déjà créées et la table
+ * des identifiants sont construites à la demande sans synchronisation. Chaque thread doit
+ * ouvrir sa propre vue, ou les accès doivent être synchronisés par l'appelant.
+ */
+public class MappedSnapshot {
+    /** Taille minimale d'une catégorie : 3 longueurs de chaîne */
+    private static final int MIN_CATEGORY_SIZE = 12;
+    /** Taille minimale d'une tâche : 3 longueurs de chaîne et les champs de taille fixe */
+    private static final int MIN_RECORD_SIZE = 12 + 13;
+
+    private final ByteBuffer data;
+    private final List<Category> categories;
+    private final int taskCount;
+    /** Position de chaque tâche dans le fichier (vue sur l'index du fichier en version 2) */
+    private final LongBuffer offsets;
+    /** Fin de la zone des tâches (début de l'index en version 2) */
+    private final int tasksEnd;
+    private final Task[] materialized;
+    /** Table de hachage des identifiants (indice de tâche + 1, 0 pour une case vide), construite à la première recherche */
+    private int[] idTable;
+
+    private MappedSnapshot(ByteBuffer data, List<Category> categories, int taskCount, LongBuffer offsets, int tasksEnd) {
+        this.data = data;
+        this.categories = categories;
+        this.taskCount = taskCount;
+        this.offsets = offsets;
+        this.tasksEnd = tasksEnd;
+        this.materialized = new Task[taskCount];
+    }
+
+    /**
+     * Projette une sauvegarde binaire en mémoire
+     *
+     * @param filename Le fichier de sauvegarde
+     * @return La vue sur la sauvegarde
+     * @throws IOException si le fichier n'est pas une sauvegarde binaire valide (ou est tronqué)
+     */
+    public static MappedSnapshot open(String filename) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Sauvegarde trop volumineuse pour être projetée en mémoire: " + filename);
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (data.limit() < BinarySnapshotFormat.HEADER_SIZE || data.getInt(0) != BinarySnapshotFormat.MAGIC) {
+            throw new IOException("Le fichier n'est pas une sauvegarde binaire de liste de tâches");
+        }
+        short version = data.getShort(4);
+        if (version < 1 || version > BinarySnapshotFormat.VERSION) {
+            throw new IOException("Version de sauvegarde non supportée: " + version);
+        }
+
+        int position = BinarySnapshotFormat.HEADER_SIZE;
+        int end = data.limit();
+        int footer = 0;
+        if (version >= 2) {
+            // Le pied délimite la zone des catégories et des tâches : on le lit en premier
+            footer = end - BinarySnapshotFormat.FOOTER_SIZE;
+            if (footer < position || data.getInt(footer + 8) != BinarySnapshotFormat.MAGIC) {
+                throw corrupt("pied de fichier absent");
+            }
+            long indexOffset = data.getLong(footer);
+            if (indexOffset < position || indexOffset > footer || (footer - indexOffset) % 8 != 0) {
+                throw corrupt("position de l'index invalide");
+            }
+            end = (int) indexOffset;
+        }
+
+        int categoryCount = readCount(data, position, end, MIN_CATEGORY_SIZE);
+        position += 4;
+        List<Category> categories = new ArrayList<>(categoryCount);
+        Set<String> categoryIds = new HashSet<>();
+        for (int i = 0; i < categoryCount; i++) {
+            String id = readString(data, position, end);
+            position = skipString(data, position, end);
+            String name = readString(data, position, end);
+            position = skipString(data, position, end);
+            String color = readString(data, position, end);
+            position = skipString(data, position, end);
+            if (!categoryIds.add(id)) {
+                throw corrupt("identifiant de catégorie en double: " + id + " (" + name + ")");
+            }
+            categories.add(new Category(id, name, color));
+        }
+
+        int taskCount = readCount(data, position, end, MIN_RECORD_SIZE);
+        position += 4;
+
+        LongBuffer offsets;
+        if (version >= 2) {
+            if ((footer - end) / 8 != taskCount) {
+                throw corrupt("l'index ne correspond pas au nombre de tâches");
+            }
+            offsets = data.duplicate().position(end).limit(footer).slice().asLongBuffer();
+            // Positions croissantes et dans la zone des tâches : chaque enregistrement est borné par le suivant
+            long previous = position;
+            for (int i = 0; i < taskCount; i++) {
+                long offset = offsets.get(i);
+                if (offset < previous || offset > end - MIN_RECORD_SIZE) {
+                    throw corrupt("position de la tâche " + i + " invalide");
+                }
+                previous = offset + MIN_RECORD_SIZE;
+            }
+        } else {
+            // Pas d'index dans le fichier : on le construit en sautant les enregistrements
+            offsets = LongBuffer.allocate(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                offsets.put(i, position);
+                position = recordEnd(data, position, end);
+            }
+            end = position;
+        }
+        return new MappedSnapshot(data, Collections.unmodifiableList(categories), taskCount, offsets, end);
+    }
+
+    /**
+     * Récupère les catégories de la sauvegarde
+     *
+     * @return La liste (non modifiable) des catégories
+     */
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Compte le nombre de tâches de la sauvegarde
+     *
+     * @return Le nombre de tâches
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Récupère une tâche par sa position dans la sauvegarde, en la créant au premier accès
+     *
+     * @param index La position de la tâche (de 0 à getTaskCount() - 1)
+     * @return La tâche
+     * @throws UncheckedIOException si l'enregistrement de la tâche est corrompu
+     */
+    public Task getTask(int index) {
+        Task task = materialized[index];
+        if (task == null) {
+            task = readTask(index);
+            materialized[index] = task;
+        }
+        return task;
+    }
+
+    /**
+     * Trouve une tâche par son identifiant, sans créer les autres tâches.
+     *
+     * La première recherche construit une table de hachage des identifiants à partir de
+     * l'index (deux entiers par tâche, calculés sur les octets du fichier) ; les suivantes
+     * ne comparent que les identifiants de même hachage.
+     *
+     * @param taskId L'identifiant de la tâche à rechercher
+     * @return La tâche trouvée ou null si aucune correspondance (ou si l'identifiant est null)
+     * @throws UncheckedIOException si l'enregistrement d'une tâche est corrompu
+     */
+    public Task findTaskById(String taskId) {
+        if (taskId == null) {
+            return null;
+        }
+        byte[] wanted = taskId.getBytes(StandardCharsets.UTF_8);
+        int[] table = idTable();
+        int mask = table.length - 1;
+        for (int slot = hash(wanted) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            int position = offset(index);
+            if (data.getInt(position) == wanted.length && bytesEqual(position + 4, wanted)) {
+                return getTask(index);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parcourt les tâches de la sauvegarde, créées au fur et à mesure
+     *
+     * @return Un flux des tâches, dans l'ordre de la sauvegarde
+     */
+    public Stream<Task> tasks() {
+        return IntStream.range(0, taskCount).mapToObj(this::getTask);
+    }
+
+    /**
+     * Applique une action à chaque tâche de la sauvegarde
+     *
+     * @param action L'action à appliquer
+     */
+    public void forEachTask(Consumer<Task> action) {
+        for (int i = 0; i < taskCount; i++) {
+            action.accept(getTask(i));
+        }
+    }
+
+    /**
+     * Compte les tâches terminées sans créer de tâche
+     *
+     * @return Le nombre de tâches terminées
+     */
+    public int getCompletedCount() {
+        int completed = 0;
+        for (int i = 0; i < taskCount; i++) {
+            if (isCompleted(fixedFields(i))) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Récupère les tâches non terminées ; seules les tâches retenues sont créées
+     *
+     * @return La liste des tâches non terminées
+     */
+    public List<Task> getPendingTasks() {
+        List<Task> result = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            if (!isCompleted(fixedFields(i))) {
+                result.add(getTask(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Récupère les tâches en retard ; seules les tâches retenues sont créées
+     *
+     * @return La liste des tâches en retard
+     */
+    public List<Task> getOverdueTasks() {
+        long today = LocalDate.now().toEpochDay();
+        List<Task> result = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            int fields = fixedFields(i);
+            int due = data.getInt(fields);
+            if (!isCompleted(fields) && due != BinarySnapshotFormat.NO_DATE && due < today) {
+                result.add(getTask(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Crée une TodoList modifiable contenant toutes les tâches de la sauvegarde
+     *
+     * @return La liste complète
+     * @throws IOException si l'enregistrement d'une tâche est corrompu ou si un identifiant
+     *                     de tâche est en double (comme BinarySnapshotFormat.read)
+     */
+    public TodoList toTodoList() throws IOException {
+        TodoList todoList = new TodoList();
+        for (Category category : categories) {
+            todoList.addCategory(category);
+        }
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                // Nouvelle instance : une tâche de la vue ne doit pas être partagée avec la liste modifiable
+                Task task = readTask(i);
+                if (!todoList.addTask(task)) {
+                    throw new IOException("Sauvegarde binaire corrompue: identifiant de tâche en double: "
+                            + task.getId());
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        IdGenerators.reserveIds(todoList);
+        return todoList;
+    }
+
+    private int offset(int index) {
+        return (int) offsets.get(index);
+    }
+
+    /**
+     * Fin de l'enregistrement d'une tâche : début du suivant, ou fin de la zone des tâches
+     */
+    private int recordLimit(int index) {
+        return index + 1 < taskCount ? offset(index + 1) : tasksEnd;
+    }
+
+    private Task readTask(int index) {
+        int position = offset(index);
+        int limit = recordLimit(index);
+        try {
+            String id = readString(data, position, limit);
+            position = skipString(data, position, limit);
+            String title = readString(data, position, limit);
+            position = skipString(data, position, limit);
+            String description = readString(data, position, limit);
+            position = skipString(data, position, limit);
+            checkRange(position, 13, limit);
+            LocalDate dueDate = BinarySnapshotFormat.fromEpochDay(data.getInt(position));
+            LocalDate creationDate = BinarySnapshotFormat.fromEpochDay(data.getInt(position + 4));
+            boolean completed = (data.get(position + 8) & BinarySnapshotFormat.FLAG_COMPLETED) != 0;
+            int ordinal = data.getInt(position + 9);
+            if (ordinal < 0 || ordinal >= categories.size()) {
+                throw corrupt("catégorie inconnue: " + ordinal);
+            }
+            return new Task(id, title, description, dueDate, categories.get(ordinal), completed, creationDate);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Position des champs de taille fixe (échéance, création, drapeaux, catégorie) d'une tâche
+     */
+    private int fixedFields(int index) {
+        int limit = recordLimit(index);
+        try {
+            int position = skipString(data, skipString(data, skipString(data, offset(index), limit), limit), limit);
+            checkRange(position, 13, limit);
+            return position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isCompleted(int fixedFields) {
+        return (data.get(fixedFields + 8) & BinarySnapshotFormat.FLAG_COMPLETED) != 0;
+    }
+
+    private int[] idTable() {
+        if (idTable == null) {
+            int capacity = 2;
+            while (capacity < taskCount * 2) {
+                capacity <<= 1;
+            }
+            int[] table = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < taskCount; i++) {
+                int position = offset(i);
+                try {
+                    skipString(data, position, recordLimit(i));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // Sondage linéaire : à hachage égal, la première tâche de la sauvegarde est trouvée en premier
+                int slot = hash(position + 4, Math.max(data.getInt(position), 0)) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+            idTable = table;
+        }
+        return idTable;
+    }
+
+    private int hash(int position, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + data.get(position + i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = 1;
+        for (byte b : bytes) {
+            hash = 31 * hash + b;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean bytesEqual(int position, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (data.get(position + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int recordEnd(ByteBuffer data, int position, int limit) throws IOException {
+        // 3 chaînes puis échéance, création, drapeaux et catégorie
+        position = skipString(data, skipString(data, skipString(data, position, limit), limit), limit);
+        checkRange(position, 13, limit);
+        return position + 13;
+    }
+
+    /**
+     * Lit un nombre d'éléments en vérifiant qu'ils peuvent tenir avant la limite
+     */
+    private static int readCount(ByteBuffer data, int position, int limit, int minElementSize) throws IOException {
+        checkRange(position, 4, limit);
+        int count = data.getInt(position);
+        if (count < 0 || count > (limit - position - 4) / minElementSize) {
+            throw corrupt("nombre d'éléments invalide: " + count);
+        }
+        return count;
+    }
+
+    private static int skipString(ByteBuffer data, int position, int limit) throws IOException {
+        checkRange(position, 4, limit);
+        int length = data.getInt(position);
+        if (length < -1) {
+            throw corrupt("longueur de chaîne invalide: " + length);
+        }
+        checkRange(position + 4, Math.max(length, 0), limit);
+        return position + 4 + Math.max(length, 0);
+    }
+
+    private static String readString(ByteBuffer data, int position, int limit) throws IOException {
+        skipString(data, position, limit);
+        int length = data.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkRange(int position, int length, int limit) throws IOException {
+        if (position < 0 || length > limit - position) {
+            throw corrupt("données tronquées à la position " + position);
+        }
+    }
+
+    private static IOException corrupt(String detail) {
+        return new IOException("Sauvegarde binaire corrompue: " + detail);
+    }
+}
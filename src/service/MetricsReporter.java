@@ -0,0 +1,170 @@
+package service;
+
+import model.TodoList;
+import model.TodoMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Publication des mesures de TodoMetrics : objet JMX (consultable avec jconsole ou
+ * VisualVM) et, si demandé, rapport texte périodique.
+ *
+ * Les compteurs de tâches et de catégories sont ceux que la liste courante publie à
+ * chaque modification (TodoList.getPublishedTaskCount...) : une lecture JMX ne prend pas
+ * le verrou de la liste et n'attend donc jamais une sauvegarde ou une opération longue.
+ */
+public class MetricsReporter implements MetricsReporterMBean, Closeable {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final Supplier<TodoList> todoList;
+    private final ObjectName name;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Publie les mesures d'une liste
+     *
+     * @see #MetricsReporter(Supplier, long, PrintStream)
+     */
+    public MetricsReporter(TodoList todoList, long dumpIntervalMillis, PrintStream out) {
+        this(() -> todoList, dumpIntervalMillis, out);
+    }
+
+    /**
+     * Enregistre l'objet JMX et lance le rapport périodique
+     *
+     * @param todoList Fournit la liste courante (qui peut changer, après un chargement par exemple)
+     * @param dumpIntervalMillis Intervalle entre deux rapports texte (0 : pas de rapport)
+     * @param out La sortie des rapports texte
+     */
+    public MetricsReporter(Supplier<TodoList> todoList, long dumpIntervalMillis, PrintStream out) {
+        this.todoList = todoList;
+        try {
+            this.name = new ObjectName("tp.todolist:type=Metrics,name=TodoList-" + SEQUENCE.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Enregistrement JMX impossible: " + e.getMessage(), e);
+        }
+        if (dumpIntervalMillis > 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "todo-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(() -> out.print(dump()),
+                    dumpIntervalMillis, dumpIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * @return Le nom de l'objet JMX
+     */
+    public ObjectName getObjectName() {
+        return name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return TodoMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        TodoMetrics.setEnabled(enabled);
+    }
+
+    @Override
+    public int getTaskCount() {
+        return todoList.get().getPublishedTaskCount();
+    }
+
+    @Override
+    public int getCompletedCount() {
+        return todoList.get().getPublishedCompletedCount();
+    }
+
+    @Override
+    public int getCategoryCount() {
+        return todoList.get().getPublishedCategoryCount();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return TodoMetrics.getBytesWritten();
+    }
+
+    @Override
+    public long getBytesRead() {
+        return TodoMetrics.getBytesRead();
+    }
+
+    @Override
+    public String[] getOperations() {
+        TodoMetrics.Operation[] operations = TodoMetrics.Operation.values();
+        String[] lines = new String[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            TodoMetrics.Operation operation = operations[i];
+            lines[i] = String.format("%s: %d appels, moyenne %s, p50 %s, p99 %s, p99.9 %s, max %s",
+                    operation.key(), TodoMetrics.getCallCount(operation),
+                    TodoMetrics.formatNanos(TodoMetrics.getMeanNanos(operation)),
+                    TodoMetrics.formatNanos(TodoMetrics.getPercentileNanos(operation, 50)),
+                    TodoMetrics.formatNanos(TodoMetrics.getPercentileNanos(operation, 99)),
+                    TodoMetrics.formatNanos(TodoMetrics.getPercentileNanos(operation, 99.9)),
+                    TodoMetrics.formatNanos(TodoMetrics.getMaxNanos(operation)));
+        }
+        return lines;
+    }
+
+    @Override
+    public long callCount(String operation) {
+        return TodoMetrics.getCallCount(operation(operation));
+    }
+
+    @Override
+    public long percentileNanos(String operation, double percentile) {
+        return TodoMetrics.getPercentileNanos(operation(operation), percentile);
+    }
+
+    @Override
+    public void reset() {
+        TodoMetrics.reset();
+    }
+
+    @Override
+    public String dump() {
+        return String.format("===== Mesures =====%n%d tâches (%d terminées), %d catégories%n%s",
+                getTaskCount(), getCompletedCount(), getCategoryCount(), TodoMetrics.report());
+    }
+
+    private static TodoMetrics.Operation operation(String name) {
+        return TodoMetrics.Operation.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Retire l'objet JMX et arrête le rapport périodique
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            // Déjà retiré
+        }
+    }
+}
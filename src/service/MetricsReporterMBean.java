@@ -0,0 +1,49 @@
+package service;
+
+/**
+ * Interface JMX de MetricsReporter (objet "tp.todolist:type=Metrics")
+ */
+public interface MetricsReporterMBean {
+
+    /** Enregistrement des mesures actif */
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /** Nombre de tâches de la liste */
+    int getTaskCount();
+
+    /** Nombre de tâches terminées de la liste */
+    int getCompletedCount();
+
+    /** Nombre de catégories de la liste */
+    int getCategoryCount();
+
+    /** Octets écrits par la persistance (sauvegardes, journal, exports) */
+    long getBytesWritten();
+
+    /** Octets lus par la persistance (chargements, journal) */
+    long getBytesRead();
+
+    /** Résumé de chaque opération mesurée : appels, moyenne, p50, p99, p99.9, max */
+    String[] getOperations();
+
+    /**
+     * @param operation Le nom de l'opération (add_task, search, save...)
+     * @return Le nombre d'appels mesurés
+     */
+    long callCount(String operation);
+
+    /**
+     * @param operation Le nom de l'opération (add_task, search, save...)
+     * @param percentile Le centile (par exemple 99.9)
+     * @return La durée correspondante en nanosecondes
+     */
+    long percentileNanos(String operation, double percentile);
+
+    /** Remet les mesures à zéro */
+    void reset();
+
+    /** Texte du résumé complet, tel qu'affiché par le rapport périodique */
+    String dump();
+}
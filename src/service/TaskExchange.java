@@ -0,0 +1,455 @@
+package service;
+
+import model.Category;
+import model.IdGenerators;
+import model.Task;
+import model.TodoList;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Import et export en flux des tâches aux formats CSV et JSON Lines.
+ *
+ * Les deux formats portent les mêmes champs : id, title, description, dueDate,
+ * category, completed et creationDate (dates au format yyyy-MM-dd). La mémoire utilisée
+ * ne dépend pas de la taille du fichier : l'export écrit les tâches directement depuis
+ * la liste, et l'import les ajoute par lots. Une description absente (champ vide ou null)
+ * est importée comme une chaîne vide.
+ */
+public class TaskExchange {
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String DEFAULT_CATEGORY_COLOR = "GRAY";
+
+    /**
+     * Formats d'échange disponibles
+     */
+    public enum Format {
+        /** Valeurs séparées par des virgules, avec ligne d'en-tête */
+        CSV,
+        /** Un objet JSON par ligne */
+        JSON_LINES;
+
+        /**
+         * Détermine le format d'après l'extension du fichier (.csv, sinon JSON Lines)
+         *
+         * @param filename Le nom du fichier
+         * @return Le format correspondant
+         */
+        public static Format fromFilename(String filename) {
+            return filename.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : JSON_LINES;
+        }
+    }
+
+    /**
+     * Bilan d'un import
+     */
+    public static class Report {
+        private int imported;
+        private int rejected;
+        private int categoriesCreated;
+        private final List<String> errors = new ArrayList<>();
+
+        private void reject(int line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Ligne " + line + ": " + message);
+            }
+        }
+
+        /** Nombre de tâches ajoutées */
+        public int getImported() {
+            return imported;
+        }
+
+        /** Nombre de lignes rejetées */
+        public int getRejected() {
+            return rejected;
+        }
+
+        /** Nombre de catégories créées */
+        public int getCategoriesCreated() {
+            return categoriesCreated;
+        }
+
+        /** Détail des premières lignes rejetées */
+        public List<String> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+
+        @Override
+        public String toString() {
+            return imported + " tâches importées, " + rejected + " lignes rejetées, "
+                    + categoriesCreated + " catégories créées";
+        }
+    }
+
+    // Export
+
+    /**
+     * Exporte toutes les tâches dans un fichier (remplacé de façon atomique)
+     *
+     * @param todoList La liste à exporter
+     * @param filename Le fichier de destination
+     * @param format Le format d'export
+     * @return Le nombre de tâches exportées
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static int exportTasks(TodoList todoList, String filename, Format format) throws IOException {
+        int[] count = new int[1];
+        FileManager.writeAtomically(Paths.get(filename), channel -> {
+            Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), 64 * 1024);
+            count[0] = exportTasks(todoList, out, format);
+            out.flush();
+        });
+        return count[0];
+    }
+
+    /**
+     * Exporte toutes les tâches, catégorie par catégorie, sans copie de la liste.
+     * Le verrou de l'objet TodoList est tenu pendant l'export.
+     *
+     * @param todoList La liste à exporter
+     * @param out La destination (non fermée)
+     * @param format Le format d'export
+     * @return Le nombre de tâches exportées
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static int exportTasks(TodoList todoList, Writer out, Format format) throws IOException {
+        int count = 0;
+        if (format == Format.CSV) {
+            out.write(String.join(",", TaskRecordReader.COLUMN_NAMES));
+            out.write('\n');
+        }
+        synchronized (todoList) {
+            for (Category category : todoList.getCategoriesView()) {
+                for (Task task : todoList.getTasksView(category)) {
+                    if (format == Format.CSV) {
+                        writeCsv(task, out);
+                    } else {
+                        writeJson(task, out);
+                    }
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static void writeCsv(Task task, Writer out) throws IOException {
+        writeCsvField(task.getId(), out);
+        out.write(',');
+        writeCsvField(task.getTitle(), out);
+        out.write(',');
+        writeCsvField(task.getDescription(), out);
+        out.write(',');
+        writeDate(task.getDueDate(), out);
+        out.write(',');
+        writeCsvField(task.getCategory().getName(), out);
+        out.write(',');
+        out.write(task.isCompleted() ? "true" : "false");
+        out.write(',');
+        writeDate(task.getCreationDate(), out);
+        out.write('\n');
+    }
+
+    /**
+     * Écrit une valeur CSV : null donne un champ vide, la chaîne vide un champ "" (relu comme "")
+     */
+    private static void writeCsvField(String value, Writer out) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.isEmpty();
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static void writeJson(Task task, Writer out) throws IOException {
+        out.write("{\"id\":");
+        writeJsonString(task.getId(), out);
+        out.write(",\"title\":");
+        writeJsonString(task.getTitle(), out);
+        out.write(",\"description\":");
+        writeJsonString(task.getDescription(), out);
+        out.write(",\"dueDate\":");
+        writeJsonDate(task.getDueDate(), out);
+        out.write(",\"category\":");
+        writeJsonString(task.getCategory().getName(), out);
+        out.write(",\"completed\":");
+        out.write(task.isCompleted() ? "true" : "false");
+        out.write(",\"creationDate\":");
+        writeJsonDate(task.getCreationDate(), out);
+        out.write("}\n");
+    }
+
+    private static void writeJsonString(String value, Writer out) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+
+    private static void writeJsonDate(LocalDate date, Writer out) throws IOException {
+        if (date == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        writeDate(date, out);
+        out.write('"');
+    }
+
+    /**
+     * Écrit une date au format yyyy-MM-dd, chiffre par chiffre
+     */
+    private static void writeDate(LocalDate date, Writer out) throws IOException {
+        if (date == null) {
+            return;
+        }
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            out.write(date.toString());
+            return;
+        }
+        writeDigits(year, 4, out);
+        out.write('-');
+        writeDigits(date.getMonthValue(), 2, out);
+        out.write('-');
+        writeDigits(date.getDayOfMonth(), 2, out);
+    }
+
+    private static void writeDigits(int value, int width, Writer out) throws IOException {
+        for (int divisor = width == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            out.write('0' + value / divisor % 10);
+        }
+    }
+
+    // Import
+
+    /**
+     * Importe les tâches d'un fichier UTF-8
+     *
+     * @param todoList La liste dans laquelle ajouter les tâches
+     * @param filename Le fichier à importer
+     * @param format Le format du fichier
+     * @return Le bilan de l'import
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public static Report importTasks(TodoList todoList, String filename, Format format) throws IOException {
+        try (Reader reader = new InputStreamReader(Files.newInputStream(Paths.get(filename)), StandardCharsets.UTF_8)) {
+            return importTasks(todoList, reader, format);
+        }
+    }
+
+    /**
+     * Importe des tâches depuis un flux de texte.
+     *
+     * Les catégories sont retrouvées par nom (sans tenir compte de la casse) et créées
+     * si besoin. Une tâche sans identifiant en reçoit un nouveau ; une tâche dont
+     * l'identifiant existe déjà est rejetée. Les tâches sont ajoutées par lots, chaque
+     * lot sous le verrou de l'objet TodoList.
+     *
+     * @param todoList La liste dans laquelle ajouter les tâches
+     * @param in Le flux à lire (non fermé)
+     * @param format Le format du flux
+     * @return Le bilan de l'import
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public static Report importTasks(TodoList todoList, Reader in, Format format) throws IOException {
+        TaskRecordReader reader = format == Format.CSV ? new TaskRecordReader.Csv(in) : new TaskRecordReader.JsonLines(in);
+        Report report = new Report();
+        Map<String, Category> categories = new HashMap<>();
+        String[] fields = new String[TaskRecordReader.COLUMN_NAMES.length];
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        int[] batchLines = new int[BATCH_SIZE];
+
+        while (true) {
+            try {
+                if (!reader.next(fields)) {
+                    break;
+                }
+                Task task = toTask(todoList, fields, categories, report, reader.getRecordLine());
+                batchLines[batch.size()] = reader.getRecordLine();
+                batch.add(task);
+                if (batch.size() == BATCH_SIZE) {
+                    flush(todoList, batch, batchLines, report);
+                }
+            } catch (TaskRecordReader.BadRecordException e) {
+                report.reject(e.getLine(), e.getMessage());
+            }
+        }
+        flush(todoList, batch, batchLines, report);
+        return report;
+    }
+
+    /**
+     * Ajoute un lot de tâches à la liste
+     */
+    private static void flush(TodoList todoList, List<Task> batch, int[] lines, Report report) {
+        synchronized (todoList) {
+            int added = todoList.addTasks(batch);
+            report.imported += added;
+            if (added < batch.size()) {
+                // Certaines tâches ont été refusées : on retrouve lesquelles
+                for (int i = 0; i < batch.size(); i++) {
+                    Task task = batch.get(i);
+                    if (todoList.findTaskById(task.getId()) != task) {
+                        report.reject(lines[i], "Identifiant déjà présent: " + task.getId());
+                    }
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Construit une tâche à partir des valeurs d'un enregistrement
+     */
+    private static Task toTask(TodoList todoList, String[] fields, Map<String, Category> categories,
+                               Report report, int line) throws TaskRecordReader.BadRecordException {
+        String title = fields[TaskRecordReader.TITLE];
+        if (title == null || title.trim().isEmpty()) {
+            throw new TaskRecordReader.BadRecordException(line, "Titre manquant");
+        }
+        String categoryName = fields[TaskRecordReader.CATEGORY];
+        if (categoryName == null || categoryName.trim().isEmpty()) {
+            throw new TaskRecordReader.BadRecordException(line, "Catégorie manquante");
+        }
+        LocalDate dueDate = parseDate(fields[TaskRecordReader.DUE_DATE], line);
+        LocalDate creationDate = parseDate(fields[TaskRecordReader.CREATION_DATE], line);
+        boolean completed = parseBoolean(fields[TaskRecordReader.COMPLETED], line);
+        String id = fields[TaskRecordReader.ID];
+        if (id == null || id.isEmpty()) {
+            id = IdGenerators.getDefault().nextId("TASK-");
+        }
+
+        Category category = resolveCategory(todoList, categoryName.trim(), categories, report);
+        // Description absente : chaîne vide, comme pour une tâche saisie sans description
+        String description = fields[TaskRecordReader.DESCRIPTION];
+        return new Task(id, title, description != null ? description : "", dueDate, category, completed,
+                creationDate != null ? creationDate : LocalDate.now());
+    }
+
+    /**
+     * Retrouve une catégorie par son nom, ou la crée
+     */
+    private static Category resolveCategory(TodoList todoList, String name, Map<String, Category> categories, Report report) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Category category = categories.get(key);
+        if (category == null) {
+            synchronized (todoList) {
+                category = todoList.findCategoryByName(name);
+                if (category == null) {
+                    category = new Category(name, DEFAULT_CATEGORY_COLOR);
+                    todoList.addCategory(category);
+                    report.categoriesCreated++;
+                }
+            }
+            categories.put(key, category);
+        }
+        return category;
+    }
+
+    /**
+     * Lit une date yyyy-MM-dd (ou dd/MM/yyyy, comme dans le menu) sans analyseur générique
+     */
+    private static LocalDate parseDate(String text, int line) throws TaskRecordReader.BadRecordException {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        try {
+            if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                return LocalDate.of(digits(text, 0, 4), digits(text, 5, 7), digits(text, 8, 10));
+            }
+            if (text.length() == 10 && text.charAt(2) == '/' && text.charAt(5) == '/') {
+                return LocalDate.of(digits(text, 6, 10), digits(text, 3, 5), digits(text, 0, 2));
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            // Date invalide, signalée ci-dessous
+        }
+        throw new TaskRecordReader.BadRecordException(line, "Date invalide: " + text);
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(text);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean parseBoolean(String text, int line) throws TaskRecordReader.BadRecordException {
+        if (text == null || text.isEmpty() || text.equalsIgnoreCase("false") || text.equals("0")
+                || text.equalsIgnoreCase("non")) {
+            return false;
+        }
+        if (text.equalsIgnoreCase("true") || text.equals("1") || text.equalsIgnoreCase("oui")) {
+            return true;
+        }
+        throw new TaskRecordReader.BadRecordException(line, "Valeur 'completed' invalide: " + text);
+    }
+}
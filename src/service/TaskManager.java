@@ -2,8 +2,18 @@ package service;
 
 import model.Category;
 import model.Task;
+import model.TaskFilter;
+import model.TaskQuery;
+import model.TaskRenderer;
 import model.TodoList;
-
+import model.TodoMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -17,6 +27,30 @@ public class TaskManager {
     private TodoList todoList;
     private Scanner scanner;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final long AUTOSAVE_DEBOUNCE_MILLIS = 500;
+    private static final long AUTOSAVE_MAX_STALENESS_MILLIS = 5000;
+    private static final int PRINT_BUFFER_SIZE = 16 * 1024;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final Duration DEADLINE_TICK = Duration.ofMinutes(1);
+    private static final Duration DEADLINE_REMINDER = Duration.ofDays(1);
+
+    /** Nombre de tâches affichées par page dans les listes longues */
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    /** Sauvegarde automatique vers le dernier fichier sauvegardé ou chargé (null si aucun) */
+    private AutoSaveService autoSave;
+
+    /** Journal des modifications de la liste courante (null si la liste n'est pas journalisée) */
+    private TodoJournal journal;
+
+    /** Dernière erreur signalée par le journal, affichée avant le menu suivant */
+    private volatile IOException journalFailure;
+
+    /** Rappels des échéances proches et des tâches passées en retard */
+    private DeadlineScheduler deadlines;
+
+    /** Publication JMX des mesures (null si les mesures sont désactivées) */
+    private MetricsReporter metrics;
 
     /**
      * Constructeur du gestionnaire de tâches
@@ -25,6 +59,11 @@ public class TaskManager {
         this.todoList = new TodoList();
         this.scanner = new Scanner(System.in);
         initializeDefaultCategories();
+        startDeadlines();
+        if (TodoMetrics.isEnabled()) {
+            // -Dtodo.metrics.dumpMillis=N affiche en plus un rapport toutes les N ms
+            this.metrics = new MetricsReporter(() -> todoList, Long.getLong("todo.metrics.dumpMillis", 0), System.out);
+        }
     }
 
     /**
@@ -49,10 +88,43 @@ public class TaskManager {
      */
     public void setTodoList(TodoList loadedList) {
         if (loadedList != null) {
+            stopAutoSave();
+            closeJournal();
             this.todoList = loadedList;
+            startDeadlines();
         }
     }
 
+    /**
+     * Ouvre un journal des modifications et en fait la liste courante : la liste est
+     * rechargée depuis la dernière sauvegarde complète et le journal, puis chaque
+     * modification est enregistrée immédiatement
+     *
+     * @param baseName Le chemin de base des fichiers du journal (sans extension)
+     * @throws IOException si le journal ne peut pas être ouvert
+     */
+    public void openJournal(String baseName) throws IOException {
+        TodoJournal opened = TodoJournal.open(baseName,
+                new TodoJournal.Options().onFailure(e -> journalFailure = e));
+        stopAutoSave();
+        closeJournal();
+        this.journal = opened;
+        this.todoList = opened.getTodoList();
+        if (todoList.getCategories().isEmpty()) {
+            initializeDefaultCategories();
+        }
+        startDeadlines();
+    }
+
+    /**
+     * Définit le nombre de tâches affichées par page
+     *
+     * @param pageSize Le nombre de tâches par page (au moins 1)
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = Math.max(1, pageSize);
+    }
+
     /**
      * Récupère la liste de tâches actuelle
      *
@@ -69,6 +141,11 @@ public class TaskManager {
         boolean exit = false;
 
         while (!exit) {
+            IOException failure = journalFailure;
+            if (failure != null) {
+                journalFailure = null;
+                System.out.println("\nErreur du journal des modifications: " + failure.getMessage());
+            }
             System.out.println("\n===== TO-DO LIST APPLICATION =====");
             System.out.println("1. Afficher toutes les tâches");
             System.out.println("2. Afficher les tâches par catégorie");
@@ -82,6 +159,11 @@ public class TaskManager {
             System.out.println("10. Gérer les catégories");
             System.out.println("11. Sauvegarder la liste");
             System.out.println("12. Charger une liste");
+            System.out.println("13. Recherche avancée");
+            System.out.println("14. Importer des tâches (CSV / JSON Lines)");
+            System.out.println("15. Exporter les tâches (CSV / JSON Lines)");
+            System.out.println("16. Afficher les mesures de performance");
+            System.out.println("17. Consulter une sauvegarde (lecture seule)");
             System.out.println("0. Quitter");
             System.out.print("\nChoisissez une option: ");
 
@@ -93,73 +175,144 @@ public class TaskManager {
                 continue;
             }
 
-            switch (choice) {
-                case 1:
-                    displayAllTasks();
-                    break;
-                case 2:
-                    displayTasksByCategory();
-                    break;
-                case 3:
-                    displayPendingTasks();
-                    break;
-                case 4:
-                    displayOverdueTasks();
-                    break;
-                case 5:
-                    displayUpcomingTasks();
-                    break;
-                case 6:
-                    addNewTask();
-                    break;
-                case 7:
-                    markTaskAsCompleted();
-                    break;
-                case 8:
-                    deleteTask();
-                    break;
-                case 9:
-                    searchTasks();
-                    break;
-                case 10:
-                    manageCategoriesMenu();
-                    break;
-                case 11:
-                    saveToFile();
-                    break;
-                case 12:
-                    loadFromFile();
-                    break;
-                case 0:
-                    exit = true;
-                    System.out.println("Au revoir!");
-                    break;
-                default:
-                    System.out.println("Option invalide. Veuillez réessayer.");
-            }
+            exit = dispatch(choice);
         }
     }
 
+    /**
+     * Exécute une option du menu principal
+     *
+     * @param choice L'option choisie
+     * @return true si l'utilisateur quitte l'application
+     */
+    private boolean dispatch(int choice) {
+        boolean exit = false;
+        switch (choice) {
+            case 1:
+                displayAllTasks();
+                break;
+            case 2:
+                displayTasksByCategory();
+                break;
+            case 3:
+                displayPendingTasks();
+                break;
+            case 4:
+                displayOverdueTasks();
+                break;
+            case 5:
+                displayUpcomingTasks();
+                break;
+            case 6:
+                addNewTask();
+                break;
+            case 7:
+                markTaskAsCompleted();
+                break;
+            case 8:
+                deleteTask();
+                break;
+            case 9:
+                searchTasks();
+                break;
+            case 10:
+                manageCategoriesMenu();
+                break;
+            case 11:
+                saveToFile();
+                break;
+            case 12:
+                loadFromFile();
+                break;
+            case 13:
+                advancedSearch();
+                break;
+            case 14:
+                importTasks();
+                break;
+            case 15:
+                exportTasks();
+                break;
+            case 16:
+                displayMetrics();
+                break;
+            case 17:
+                browseSnapshot();
+                break;
+            case 0:
+                exit = true;
+                stopAutoSave();
+                closeJournal();
+                deadlines.close();
+                if (metrics != null) {
+                    metrics.close();
+                }
+                System.out.println("Au revoir!");
+                break;
+            default:
+                System.out.println("Option invalide. Veuillez réessayer.");
+        }
+        return exit;
+    }
+
     /**
      * Affiche toutes les tâches
      */
     private void displayAllTasks() {
-        List<Task> tasks = todoList.getAllTasks();
-
-        if (tasks.isEmpty()) {
+        if (todoList.getTaskCount() == 0) {
             System.out.println("Aucune tâche à afficher.");
             return;
         }
 
         System.out.println("\n===== TOUTES LES TÂCHES =====");
-        for (Task task : tasks) {
-            System.out.println(task);
-        }
+        allTasksPager().display("");
 
-        System.out.println("\nNombre total de tâches: " + tasks.size());
+        System.out.println("\nNombre total de tâches: " + todoList.getTaskCount());
         System.out.printf("Taux de complétion: %.1f%%\n", todoList.getCompletionRate());
     }
 
+    /**
+     * Pagination sur toutes les tâches
+     */
+    private TaskPager allTasksPager() {
+        return new TaskPager(new TaskPager.Source() {
+            @Override
+            public int size() {
+                return todoList.getTaskCount();
+            }
+
+            @Override
+            public List<Task> page(int offset, int limit) {
+                return todoList.getTasksPage(offset, limit);
+            }
+        }, pageSize, scanner, System.out);
+    }
+
+    /**
+     * Pagination sur les tâches non terminées
+     */
+    private TaskPager pendingTasksPager() {
+        return new TaskPager(new TaskPager.Source() {
+            @Override
+            public int size() {
+                return todoList.getPendingCount();
+            }
+
+            @Override
+            public List<Task> page(int offset, int limit) {
+                // Parcours des colonnes de bits : seules les tâches de la page sont lues
+                return todoList.getTasksPage(TaskFilter.pending(), offset, limit);
+            }
+        }, pageSize, scanner, System.out);
+    }
+
+    /**
+     * Pagination sur des tâches déjà obtenues (tâches en retard, à venir, résultats de recherche)
+     */
+    private TaskPager resultsPager(List<Task> tasks) {
+        return new TaskPager(TaskPager.Source.of(tasks), pageSize, scanner, System.out);
+    }
+
     /**
      * Affiche les tâches par catégorie
      */
@@ -173,35 +326,51 @@ public class TaskManager {
 
         System.out.println("\n===== TÂCHES PAR CATÉGORIE =====");
 
+        TaskRenderer renderer = TaskRenderer.forToday();
         for (Category category : categories) {
-            List<Task> tasks = todoList.getTasksByCategory(category);
+            List<Task> tasks = todoList.getTasksView(category);
             System.out.println("\nCatégorie: " + category.getName() + " [" + tasks.size() + " tâches]");
 
             if (tasks.isEmpty()) {
                 System.out.println("  Aucune tâche dans cette catégorie.");
             } else {
-                for (Task task : tasks) {
-                    System.out.println("  - " + task);
-                }
+                printTasks(renderer, tasks, "  - ");
             }
         }
     }
 
+    /**
+     * Affiche une liste de tâches, ligne par ligne, en regroupant les écritures console
+     *
+     * @param renderer Le moteur de rendu (date du jour fixée pour tout l'affichage)
+     * @param tasks Les tâches à afficher
+     * @param prefix Préfixe de chaque ligne
+     */
+    private static void printTasks(TaskRenderer renderer, List<Task> tasks, String prefix) {
+        StringBuilder buffer = new StringBuilder(PRINT_BUFFER_SIZE + 256);
+        String lineSeparator = System.lineSeparator();
+        for (Task task : tasks) {
+            buffer.append(prefix);
+            renderer.render(task, buffer).append(lineSeparator);
+            if (buffer.length() >= PRINT_BUFFER_SIZE) {
+                System.out.print(buffer);
+                buffer.setLength(0);
+            }
+        }
+        System.out.print(buffer);
+    }
+
     /**
      * Affiche les tâches non terminées
      */
     private void displayPendingTasks() {
-        List<Task> pendingTasks = todoList.getPendingTasks();
-
-        if (pendingTasks.isEmpty()) {
+        if (todoList.getPendingCount() == 0) {
             System.out.println("Aucune tâche en attente.");
             return;
         }
 
         System.out.println("\n===== TÂCHES À FAIRE =====");
-        for (Task task : pendingTasks) {
-            System.out.println(task);
-        }
+        pendingTasksPager().display("");
     }
 
     /**
@@ -216,9 +385,7 @@ public class TaskManager {
         }
 
         System.out.println("\n===== TÂCHES EN RETARD =====");
-        for (Task task : overdueTasks) {
-            System.out.println(task);
-        }
+        resultsPager(overdueTasks).display("");
     }
 
     /**
@@ -233,9 +400,7 @@ public class TaskManager {
         }
 
         System.out.println("\n===== TÂCHES À VENIR (7 JOURS) =====");
-        for (Task task : upcomingTasks) {
-            System.out.println(task);
-        }
+        resultsPager(upcomingTasks).display("");
     }
 
     /**
@@ -295,7 +460,12 @@ public class TaskManager {
         Category selectedCategory = categories.get(categoryIndex);
         Task newTask = new Task(title, description, dueDate, selectedCategory);
 
-        if (todoList.addTask(newTask)) {
+        boolean added;
+        synchronized (todoList) {
+            added = todoList.addTask(newTask);
+        }
+
+        if (added) {
             System.out.println("Tâche ajoutée avec succès!");
         } else {
             System.out.println("Erreur lors de l'ajout de la tâche.");
@@ -306,9 +476,7 @@ public class TaskManager {
      * Marque une tâche comme terminée
      */
     private void markTaskAsCompleted() {
-        List<Task> pendingTasks = todoList.getPendingTasks();
-
-        if (pendingTasks.isEmpty()) {
+        if (todoList.getPendingCount() == 0) {
             System.out.println("Aucune tâche en attente.");
             return;
         }
@@ -316,25 +484,14 @@ public class TaskManager {
         System.out.println("\n===== MARQUER UNE TÂCHE COMME TERMINÉE =====");
         System.out.println("Tâches en attente:");
 
-        for (int i = 0; i < pendingTasks.size(); i++) {
-            System.out.println((i + 1) + ". " + pendingTasks.get(i));
-        }
-
-        System.out.print("Choisissez une tâche à marquer comme terminée (numéro): ");
-        int taskIndex;
-        try {
-            taskIndex = Integer.parseInt(scanner.nextLine()) - 1;
-            if (taskIndex < 0 || taskIndex >= pendingTasks.size()) {
-                System.out.println("Tâche invalide. Opération annulée.");
-                return;
-            }
-        } catch (NumberFormatException e) {
-            System.out.println("Entrée invalide. Opération annulée.");
+        Task selectedTask = pendingTasksPager().select("Choisissez une tâche à marquer comme terminée (numéro): ");
+        if (selectedTask == null) {
             return;
         }
 
-        Task selectedTask = pendingTasks.get(taskIndex);
-        selectedTask.markAsCompleted();
+        synchronized (todoList) {
+            selectedTask.markAsCompleted();
+        }
         System.out.println("Tâche marquée comme terminée!");
     }
 
@@ -342,9 +499,7 @@ public class TaskManager {
      * Supprime une tâche
      */
     private void deleteTask() {
-        List<Task> allTasks = todoList.getAllTasks();
-
-        if (allTasks.isEmpty()) {
+        if (todoList.getTaskCount() == 0) {
             System.out.println("Aucune tâche à supprimer.");
             return;
         }
@@ -352,30 +507,21 @@ public class TaskManager {
         System.out.println("\n===== SUPPRIMER UNE TÂCHE =====");
         System.out.println("Tâches disponibles:");
 
-        for (int i = 0; i < allTasks.size(); i++) {
-            System.out.println((i + 1) + ". " + allTasks.get(i));
-        }
-
-        System.out.print("Choisissez une tâche à supprimer (numéro): ");
-        int taskIndex;
-        try {
-            taskIndex = Integer.parseInt(scanner.nextLine()) - 1;
-            if (taskIndex < 0 || taskIndex >= allTasks.size()) {
-                System.out.println("Tâche invalide. Opération annulée.");
-                return;
-            }
-        } catch (NumberFormatException e) {
-            System.out.println("Entrée invalide. Opération annulée.");
+        Task selectedTask = allTasksPager().select("Choisissez une tâche à supprimer (numéro): ");
+        if (selectedTask == null) {
             return;
         }
 
-        Task selectedTask = allTasks.get(taskIndex);
-
         System.out.print("Êtes-vous sûr de vouloir supprimer cette tâche? (O/N): ");
         String confirmation = scanner.nextLine().trim().toUpperCase();
 
         if (confirmation.equals("O")) {
-            if (todoList.removeTask(selectedTask)) {
+            boolean removed;
+            synchronized (todoList) {
+                removed = todoList.removeTask(selectedTask);
+            }
+
+            if (removed) {
                 System.out.println("Tâche supprimée avec succès!");
             } else {
                 System.out.println("Erreur lors de la suppression de la tâche.");
@@ -404,13 +550,61 @@ public class TaskManager {
             System.out.println("Aucun résultat trouvé pour '" + keyword + "'.");
         } else {
             System.out.println("\nRésultats de recherche pour '" + keyword + "':");
-            for (Task task : results) {
-                System.out.println(task);
-            }
+            resultsPager(results).display("");
             System.out.println("\nNombre de résultats: " + results.size());
         }
     }
 
+    /**
+     * Recherche combinant catégorie, état, échéance et mot-clé, triée par échéance
+     */
+    private void advancedSearch() {
+        TaskQuery.Builder query = TaskQuery.builder().sortBy(TaskQuery.Sort.DUE_DATE);
+
+        System.out.println("\n===== RECHERCHE AVANCÉE =====");
+        System.out.print("Catégorie (laisser vide pour toutes): ");
+        String categoryName = scanner.nextLine().trim();
+        if (!categoryName.isEmpty()) {
+            Category category = todoList.findCategoryByName(categoryName);
+            if (category == null) {
+                System.out.println("Catégorie introuvable. Recherche annulée.");
+                return;
+            }
+            query.category(category);
+        }
+
+        System.out.print("État ([a] à faire, [t] terminées, laisser vide pour toutes): ");
+        String status = scanner.nextLine().trim().toLowerCase();
+        if (status.equals("a")) {
+            query.status(TaskQuery.Status.PENDING);
+        } else if (status.equals("t")) {
+            query.status(TaskQuery.Status.COMPLETED);
+        }
+
+        System.out.print("Échéance dans les N prochains jours (laisser vide pour ignorer): ");
+        String days = scanner.nextLine().trim();
+        if (!days.isEmpty()) {
+            try {
+                LocalDate today = LocalDate.now();
+                query.dueBetween(today, today.plusDays(Integer.parseInt(days)));
+            } catch (NumberFormatException e) {
+                System.out.println("Nombre de jours invalide. Recherche annulée.");
+                return;
+            }
+        }
+
+        System.out.print("Mot-clé (laisser vide pour ignorer): ");
+        query.keyword(scanner.nextLine().trim());
+
+        List<Task> results = todoList.query(query.limit(pageSize).build());
+        if (results.isEmpty()) {
+            System.out.println("Aucun résultat trouvé.");
+        } else {
+            System.out.println("\nRésultats (" + pageSize + " au maximum, par échéance):");
+            printTasks(TaskRenderer.forToday(), results, "");
+        }
+    }
+
     /**
      * Affiche le menu de gestion des catégories
      */
@@ -466,7 +660,7 @@ public class TaskManager {
         System.out.println("\n===== CATÉGORIES =====");
         for (int i = 0; i < categories.size(); i++) {
             Category category = categories.get(i);
-            int taskCount = todoList.getTasksByCategory(category).size();
+            int taskCount = todoList.getTaskCount(category);
             System.out.println((i + 1) + ". " + category.getName() +
                     " (Couleur: " + category.getColor() + ", " +
                     taskCount + " tâches)");
@@ -498,8 +692,12 @@ public class TaskManager {
         }
 
         Category newCategory = new Category(name, color.toUpperCase());
+        boolean added;
+        synchronized (todoList) {
+            added = todoList.addCategory(newCategory);
+        }
 
-        if (todoList.addCategory(newCategory)) {
+        if (added) {
             System.out.println("Catégorie ajoutée avec succès!");
         } else {
             System.out.println("Erreur lors de l'ajout de la catégorie.");
@@ -522,7 +720,7 @@ public class TaskManager {
 
         for (int i = 0; i < categories.size(); i++) {
             Category category = categories.get(i);
-            int taskCount = todoList.getTasksByCategory(category).size();
+            int taskCount = todoList.getTaskCount(category);
             System.out.println((i + 1) + ". " + category.getName() + " (" + taskCount + " tâches)");
         }
 
@@ -540,7 +738,7 @@ public class TaskManager {
         }
 
         Category selectedCategory = categories.get(categoryIndex);
-        int taskCount = todoList.getTasksByCategory(selectedCategory).size();
+        int taskCount = todoList.getTaskCount(selectedCategory);
 
         if (taskCount > 0) {
             System.out.println("ATTENTION: Cette catégorie contient " + taskCount + " tâche(s).");
@@ -551,7 +749,12 @@ public class TaskManager {
         String confirmation = scanner.nextLine().trim().toUpperCase();
 
         if (confirmation.equals("O")) {
-            if (todoList.removeCategory(selectedCategory)) {
+            boolean removed;
+            synchronized (todoList) {
+                removed = todoList.removeCategory(selectedCategory);
+            }
+
+            if (removed) {
                 System.out.println("Catégorie supprimée avec succès!");
             } else {
                 System.out.println("Erreur lors de la suppression de la catégorie.");
@@ -577,9 +780,13 @@ public class TaskManager {
             filename += ".dat";
         }
 
+        // Sauvegarde immédiate, puis automatique à chaque modification vers ce fichier
+        stopAutoSave();
         try {
-            FileManager.saveTodoList(todoList, filename);
+            FileManager.saveTodoList(todoList, filename, FileManager.Format.BINARY);
             System.out.println("Liste sauvegardée avec succès dans '" + filename + "'!");
+            startAutoSave(filename);
+            System.out.println("Les prochaines modifications seront sauvegardées automatiquement.");
         } catch (Exception e) {
             System.out.println("Erreur lors de la sauvegarde: " + e.getMessage());
         }
@@ -602,10 +809,21 @@ public class TaskManager {
         }
 
         try {
+            // Un fichier absent donne une liste vide : la sauvegarde automatique n'est activée
+            // qu'après le chargement d'une sauvegarde existante (ou une sauvegarde explicite)
+            boolean exists = Files.isRegularFile(Paths.get(filename));
             TodoList loadedList = FileManager.loadTodoList(filename);
             if (loadedList != null) {
+                stopAutoSave();
+                closeJournal();
                 this.todoList = loadedList;
-                System.out.println("Liste chargée avec succès depuis '" + filename + "'!");
+                startDeadlines();
+                if (exists) {
+                    startAutoSave(filename);
+                    System.out.println("Liste chargée avec succès depuis '" + filename + "'!");
+                } else {
+                    System.out.println("Fichier '" + filename + "' introuvable : nouvelle liste vide, non sauvegardée.");
+                }
             } else {
                 System.out.println("Erreur: Le fichier ne contient pas de liste valide.");
             }
@@ -613,4 +831,193 @@ public class TaskManager {
             System.out.println("Erreur lors du chargement: " + e.getMessage());
         }
     }
+
+    /**
+     * Consulte une sauvegarde binaire sans la charger : le fichier est projeté en mémoire
+     * et seules les tâches affichées sont lues
+     */
+    private void browseSnapshot() {
+        System.out.println("\n===== CONSULTER UNE SAUVEGARDE =====");
+        System.out.print("Nom du fichier: ");
+        String filename = scanner.nextLine().trim();
+
+        if (filename.isEmpty()) {
+            filename = "todolist.dat"; // Nom par défaut
+        }
+
+        if (!filename.endsWith(".dat")) {
+            filename += ".dat";
+        }
+
+        try {
+            MappedSnapshot snapshot = FileManager.openMapped(filename);
+            System.out.println("Tâches: " + snapshot.getTaskCount()
+                    + " (dont " + snapshot.getCompletedCount() + " terminées), catégories: "
+                    + snapshot.getCategories().size());
+
+            List<Task> overdueTasks = snapshot.getOverdueTasks();
+            if (!overdueTasks.isEmpty()) {
+                System.out.println("\nTâches en retard:");
+                printTasks(TaskRenderer.forToday(), overdueTasks, "  - ");
+            }
+
+            while (true) {
+                System.out.print("\nID de la tâche à afficher (vide pour revenir au menu): ");
+                String taskId = scanner.nextLine().trim();
+                if (taskId.isEmpty()) {
+                    break;
+                }
+                Task task = snapshot.findTaskById(taskId);
+                if (task == null) {
+                    System.out.println("Aucune tâche trouvée avec cet ID.");
+                } else {
+                    printTasks(TaskRenderer.forToday(), List.of(task), "");
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Erreur lors de l'ouverture: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            System.out.println("Erreur lors de la lecture: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Importe des tâches depuis un fichier CSV (.csv) ou JSON Lines
+     */
+    private void importTasks() {
+        System.out.println("\n===== IMPORTER DES TÂCHES =====");
+        System.out.print("Nom du fichier (.csv ou .jsonl): ");
+        String filename = scanner.nextLine().trim();
+        if (filename.isEmpty()) {
+            System.out.println("Nom de fichier vide. Import annulé.");
+            return;
+        }
+
+        try {
+            TaskExchange.Report report = TaskExchange.importTasks(todoList, filename,
+                    TaskExchange.Format.fromFilename(filename));
+            System.out.println("Import terminé: " + report);
+            for (String error : report.getErrors()) {
+                System.out.println("  " + error);
+            }
+            if (report.getRejected() > report.getErrors().size()) {
+                System.out.println("  ... (" + (report.getRejected() - report.getErrors().size()) + " autres lignes rejetées)");
+            }
+        } catch (IOException e) {
+            System.out.println("Erreur lors de l'import: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Exporte toutes les tâches vers un fichier CSV (.csv) ou JSON Lines
+     */
+    private void exportTasks() {
+        System.out.println("\n===== EXPORTER LES TÂCHES =====");
+        System.out.print("Nom du fichier (.csv ou .jsonl): ");
+        String filename = scanner.nextLine().trim();
+        if (filename.isEmpty()) {
+            System.out.println("Nom de fichier vide. Export annulé.");
+            return;
+        }
+
+        try {
+            int count = TaskExchange.exportTasks(todoList, filename, TaskExchange.Format.fromFilename(filename));
+            System.out.println(count + " tâches exportées dans '" + filename + "'.");
+        } catch (IOException e) {
+            System.out.println("Erreur lors de l'export: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Active la sauvegarde automatique de la liste courante vers un fichier
+     *
+     * @param filename Le fichier de sauvegarde
+     */
+    private void startAutoSave(String filename) {
+        stopAutoSave();
+        autoSave = new AutoSaveService(todoList, filename, AUTOSAVE_DEBOUNCE_MILLIS, AUTOSAVE_MAX_STALENESS_MILLIS);
+    }
+
+    /**
+     * Arrête la sauvegarde automatique après avoir sauvegardé les modifications en attente
+     */
+    private void stopAutoSave() {
+        if (autoSave == null) {
+            return;
+        }
+        try {
+            autoSave.close();
+        } catch (Exception e) {
+            System.out.println("Erreur lors de la sauvegarde automatique: " + e.getMessage());
+        }
+        autoSave = null;
+    }
+
+    /**
+     * Ferme le journal de la liste courante (s'il y en a un)
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Erreur lors de la fermeture du journal: " + e.getMessage());
+        }
+        journal = null;
+    }
+
+    /**
+     * Surveille les échéances de la liste courante : rappel au début du jour de l'échéance
+     * (un jour avant le passage en retard) et signalement du passage en retard.
+     * Les rappels arrivent sur le thread du planificateur : la tâche est relue sous le verrou
+     * de la liste, et le rappel est ignoré si elle a été terminée ou n'a plus d'échéance entre-temps.
+     */
+    private void startDeadlines() {
+        if (deadlines != null) {
+            deadlines.close();
+        }
+        TodoList list = todoList;
+        deadlines = new DeadlineScheduler(list, Clock.systemDefaultZone(), DEADLINE_TICK, DEADLINE_REMINDER);
+        deadlines.addListener(new DeadlineListener() {
+            @Override
+            public void taskDueSoon(Task task, Duration remaining) {
+                String title;
+                LocalDate dueDate;
+                synchronized (list) {
+                    title = task.getTitle();
+                    dueDate = task.isCompleted() ? null : task.getDueDate();
+                }
+                if (dueDate != null) {
+                    System.out.println("\n[Rappel] La tâche '" + title + "' arrive à échéance le "
+                            + dueDate.format(DATE_FORMATTER));
+                }
+            }
+
+            @Override
+            public void taskOverdue(Task task) {
+                String title;
+                synchronized (list) {
+                    if (task.isCompleted()) {
+                        return;
+                    }
+                    title = task.getTitle();
+                }
+                System.out.println("\n[Rappel] La tâche '" + title + "' est en retard");
+            }
+        });
+        deadlines.start();
+    }
+
+    /**
+     * Affiche les mesures des opérations et de la persistance
+     */
+    private void displayMetrics() {
+        if (metrics == null) {
+            System.out.println("Les mesures sont désactivées (-Dtodo.metrics=false).");
+            return;
+        }
+        System.out.print(metrics.dump());
+    }
 }
@@ -0,0 +1,179 @@
+package service;
+
+import model.Task;
+import model.TaskRenderer;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Affichage paginé d'une liste de tâches dans la console.
+ *
+ * Seules les tâches de la page visible sont demandées à la source, et chaque page
+ * est préparée dans un tampon écrit en une seule fois sur la sortie de la console
+ * (la même que celle du reste du menu, avec son encodage). Les messages d'erreur
+ * passent par la même sortie.
+ */
+class TaskPager {
+
+    /**
+     * Source des tâches à afficher, accessible par position
+     */
+    interface Source {
+        /**
+         * @return Le nombre total de tâches
+         */
+        int size();
+
+        /**
+         * @param offset La position de la première tâche
+         * @param limit Le nombre maximal de tâches
+         * @return Les tâches de la page
+         */
+        List<Task> page(int offset, int limit);
+
+        /**
+         * Source sur des tâches déjà obtenues (résultats d'une recherche, tâches en retard...)
+         *
+         * @param tasks Les tâches, qui ne doivent pas changer pendant l'affichage
+         * @return La source
+         */
+        static Source of(List<Task> tasks) {
+            return new Source() {
+                @Override
+                public int size() {
+                    return tasks.size();
+                }
+
+                @Override
+                public List<Task> page(int offset, int limit) {
+                    int from = Math.min(offset, tasks.size());
+                    return new ArrayList<>(tasks.subList(from, Math.min(tasks.size(), from + limit)));
+                }
+            };
+        }
+    }
+
+    private final Source source;
+    private final int pageSize;
+    private final Scanner scanner;
+    private final PrintStream out;
+    private final StringBuilder screen = new StringBuilder(4 * 1024);
+
+    TaskPager(Source source, int pageSize, Scanner scanner, PrintStream out) {
+        this.source = source;
+        this.pageSize = pageSize;
+        this.scanner = scanner;
+        this.out = out;
+    }
+
+    /**
+     * Affiche les tâches page par page jusqu'à ce que l'utilisateur quitte
+     *
+     * @param prefix Préfixe de chaque ligne
+     */
+    void display(String prefix) {
+        browse(prefix, null);
+    }
+
+    /**
+     * Affiche les tâches numérotées page par page et demande d'en choisir une
+     *
+     * @param prompt Le message de choix
+     * @return La tâche choisie, ou null si l'opération est annulée (le message est déjà affiché)
+     */
+    Task select(String prompt) {
+        return browse(null, prompt);
+    }
+
+    private Task browse(String prefix, String selectPrompt) {
+        boolean selectable = selectPrompt != null;
+        int total = source.size();
+        int pageCount = Math.max(1, (total + pageSize - 1) / pageSize);
+        int page = 0;
+
+        String lineSeparator = System.lineSeparator();
+
+        while (true) {
+            int offset = page * pageSize;
+            List<Task> tasks = source.page(offset, pageSize);
+            TaskRenderer renderer = TaskRenderer.forToday();
+            screen.setLength(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                if (selectable) {
+                    screen.append(offset + i + 1).append(". ");
+                } else {
+                    screen.append(prefix);
+                }
+                renderer.render(tasks.get(i), screen).append(lineSeparator);
+            }
+
+            if (pageCount > 1) {
+                screen.append("-- Page ").append(page + 1).append('/').append(pageCount)
+                        .append(" (").append(total).append(" tâches) --").append(lineSeparator);
+                screen.append("[s] suivante, [p] précédente, [g N] aller à la page N");
+                screen.append(selectable ? ", [q] annuler" : ", [Entrée] terminer").append(lineSeparator);
+            } else if (!selectable) {
+                out.print(screen);
+                out.flush();
+                return null;
+            }
+            if (selectable) {
+                screen.append(selectPrompt);
+            }
+            out.print(screen);
+            out.flush();
+
+            String input = scanner.nextLine().trim().toLowerCase();
+            if (pageCount > 1) {
+                if (input.equals("s")) {
+                    page = Math.min(page + 1, pageCount - 1);
+                    continue;
+                }
+                if (input.equals("p")) {
+                    page = Math.max(page - 1, 0);
+                    continue;
+                }
+                if (input.startsWith("g")) {
+                    try {
+                        int target = Integer.parseInt(input.substring(1).trim()) - 1;
+                        page = Math.max(0, Math.min(target, pageCount - 1));
+                    } catch (NumberFormatException e) {
+                        out.println("Numéro de page invalide.");
+                    }
+                    continue;
+                }
+                if (!selectable || input.equals("q")) {
+                    if (selectable) {
+                        out.println("Opération annulée.");
+                    }
+                    return null;
+                }
+            }
+
+            int taskIndex;
+            try {
+                taskIndex = Integer.parseInt(input) - 1;
+            } catch (NumberFormatException e) {
+                out.println("Entrée invalide. Opération annulée.");
+                return null;
+            }
+            if (taskIndex < 0 || taskIndex >= total) {
+                out.println("Tâche invalide. Opération annulée.");
+                return null;
+            }
+            // En général la tâche choisie est sur la page affichée : pas de nouvel accès à la source
+            if (taskIndex >= offset && taskIndex < offset + tasks.size()) {
+                return tasks.get(taskIndex - offset);
+            }
+            List<Task> selected = source.page(taskIndex, 1);
+            if (selected.isEmpty()) {
+                out.println("Tâche invalide. Opération annulée.");
+                return null;
+            }
+            return selected.get(0);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Lecture en flux des enregistrements de tâches d'un fichier texte (CSV ou JSON Lines).
+ *
+ * Le texte est lu par blocs dans un tampon de caractères réutilisé, et chaque valeur
+ * est accumulée dans un même StringBuilder : seules les chaînes des valeurs lues sont
+ * allouées. Un enregistrement invalide est signalé par BadRecordException, et la
+ * lecture reprend à la ligne suivante.
+ */
+abstract class TaskRecordReader implements Closeable {
+    static final int ID = 0;
+    static final int TITLE = 1;
+    static final int DESCRIPTION = 2;
+    static final int DUE_DATE = 3;
+    static final int CATEGORY = 4;
+    static final int COMPLETED = 5;
+    static final int CREATION_DATE = 6;
+
+    /** Noms des colonnes (en-tête CSV, clés JSON), dans l'ordre des indices ci-dessus */
+    static final String[] COLUMN_NAMES = {"id", "title", "description", "dueDate", "category", "completed", "creationDate"};
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+    private int currentLine = 1;
+    private int recordLine;
+    private int last;
+
+    /** Valeur en cours de lecture */
+    final StringBuilder value = new StringBuilder(256);
+
+    /**
+     * Enregistrement invalide
+     */
+    static class BadRecordException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int line;
+
+        BadRecordException(int line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        int getLine() {
+            return line;
+        }
+    }
+
+    TaskRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lit l'enregistrement suivant
+     *
+     * @param fields Les valeurs lues, rangées par indice de colonne (null si absente)
+     * @return false à la fin du fichier
+     * @throws BadRecordException si l'enregistrement est invalide (la lecture peut continuer)
+     * @throws IOException en cas d'erreur de lecture
+     */
+    final boolean next(String[] fields) throws IOException, BadRecordException {
+        while (true) {
+            Arrays.fill(fields, null);
+            int c;
+            while ((c = peek()) == '\n' || c == '\r') {
+                read();
+            }
+            if (c == EOF) {
+                return false;
+            }
+            recordLine = currentLine;
+            try {
+                if (readRecord(fields)) {
+                    return true;
+                }
+            } catch (BadRecordException e) {
+                if (last != '\n' && last != EOF) {
+                    skipLine();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Lit une ligne non vide
+     *
+     * @return false si la ligne ne contient pas de tâche (en-tête)
+     */
+    abstract boolean readRecord(String[] fields) throws IOException, BadRecordException;
+
+    /**
+     * @return Le numéro de ligne du début de l'enregistrement en cours
+     */
+    int getRecordLine() {
+        return recordLine;
+    }
+
+    BadRecordException error(String message) {
+        return new BadRecordException(recordLine, message);
+    }
+
+    int read() throws IOException {
+        if (position == limit && !fill()) {
+            last = EOF;
+            return EOF;
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            currentLine++;
+        }
+        last = c;
+        return c;
+    }
+
+    int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Ignore la fin de la ligne courante
+     */
+    void skipLine() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != '\n' && c != EOF);
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    /**
+     * @return L'indice de la colonne dont le nom est la valeur en cours, ou -1
+     */
+    int columnOfValue() {
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            if (COLUMN_NAMES[i].contentEquals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * CSV (RFC 4180) avec ligne d'en-tête : les colonnes peuvent être dans un ordre
+     * quelconque et les colonnes inconnues sont ignorées
+     */
+    static class Csv extends TaskRecordReader {
+        private int[] columns;
+
+        Csv(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        boolean readRecord(String[] fields) throws IOException, BadRecordException {
+            if (columns == null) {
+                readHeader();
+                return false;
+            }
+            int index = 0;
+            while (true) {
+                boolean quoted = readField();
+                if (index < columns.length && columns[index] >= 0 && (quoted || value.length() > 0)) {
+                    fields[columns[index]] = value.toString();
+                }
+                index++;
+                int c = read();
+                if (c == ',') {
+                    continue;
+                }
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                return true;
+            }
+        }
+
+        /**
+         * Lit la ligne d'en-tête et retient la colonne de chaque champ
+         */
+        private void readHeader() throws IOException, BadRecordException {
+            int[] found = new int[16];
+            int count = 0;
+            boolean hasTitle = false;
+            if (peek() == '\uFEFF') {
+                read();
+            }
+            while (true) {
+                readField();
+                int column = columnOfValue();
+                hasTitle |= column == TITLE;
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = column;
+                int c = read();
+                if (c == ',') {
+                    continue;
+                }
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                break;
+            }
+            if (!hasTitle) {
+                throw new IOException("En-tête CSV invalide: colonne 'title' absente (ligne " + getRecordLine() + ")");
+            }
+            columns = Arrays.copyOf(found, count);
+        }
+
+        /**
+         * Lit un champ dans value ; s'arrête avant le séparateur ou la fin de ligne
+         *
+         * @return true si le champ était entre guillemets
+         */
+        private boolean readField() throws IOException, BadRecordException {
+            value.setLength(0);
+            if (peek() != '"') {
+                int c;
+                while ((c = peek()) != ',' && c != '\n' && c != '\r' && c != EOF) {
+                    value.append((char) read());
+                }
+                return false;
+            }
+            read();
+            while (true) {
+                int c = read();
+                if (c == EOF) {
+                    throw error("Guillemet fermant manquant");
+                }
+                if (c == '"') {
+                    if (peek() != '"') {
+                        break;
+                    }
+                    read();
+                }
+                value.append((char) c);
+            }
+            int next = peek();
+            if (next != ',' && next != '\n' && next != '\r' && next != EOF) {
+                throw error("Caractère inattendu après un champ entre guillemets");
+            }
+            return true;
+        }
+    }
+
+    /**
+     * JSON Lines : un objet JSON plat par ligne, dont les valeurs sont des chaînes,
+     * des booléens, des nombres ou null ; les clés inconnues sont ignorées
+     */
+    static class JsonLines extends TaskRecordReader {
+
+        JsonLines(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        boolean readRecord(String[] fields) throws IOException, BadRecordException {
+            skipSpaces();
+            if (read() != '{') {
+                throw error("Objet JSON attendu");
+            }
+            skipSpaces();
+            if (peek() == '}') {
+                read();
+            } else {
+                while (true) {
+                    skipSpaces();
+                    if (read() != '"') {
+                        throw error("Clé JSON attendue");
+                    }
+                    readString();
+                    int column = columnOfValue();
+                    skipSpaces();
+                    if (read() != ':') {
+                        throw error("':' attendu après la clé");
+                    }
+                    skipSpaces();
+                    String text = readValue();
+                    if (column >= 0) {
+                        fields[column] = text;
+                    }
+                    skipSpaces();
+                    int c = read();
+                    if (c == '}') {
+                        break;
+                    }
+                    if (c != ',') {
+                        throw error("',' ou '}' attendu");
+                    }
+                }
+            }
+            skipSpaces();
+            int c = read();
+            if (c == '\r') {
+                c = read();
+            }
+            if (c != '\n' && c != EOF) {
+                throw error("Texte inattendu après l'objet JSON");
+            }
+            return true;
+        }
+
+        private void skipSpaces() throws IOException {
+            int c;
+            while ((c = peek()) == ' ' || c == '\t') {
+                read();
+            }
+        }
+
+        /**
+         * Lit une valeur : chaîne (sans les guillemets), littéral ou nombre (texte brut), null
+         */
+        private String readValue() throws IOException, BadRecordException {
+            int c = peek();
+            if (c == '"') {
+                read();
+                readString();
+                return value.toString();
+            }
+            value.setLength(0);
+            while ((c = peek()) >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'E') {
+                value.append((char) read());
+            }
+            if (value.length() == 0) {
+                throw error("Valeur JSON non prise en charge");
+            }
+            if ("null".contentEquals(value)) {
+                return null;
+            }
+            return value.toString();
+        }
+
+        /**
+         * Lit une chaîne dans value, le guillemet ouvrant étant déjà lu
+         */
+        private void readString() throws IOException, BadRecordException {
+            value.setLength(0);
+            while (true) {
+                int c = read();
+                if (c == '"') {
+                    return;
+                }
+                if (c == EOF || c == '\n') {
+                    throw error("Chaîne JSON non terminée");
+                }
+                if (c != '\\') {
+                    value.append((char) c);
+                    continue;
+                }
+                c = read();
+                switch (c) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append((char) c);
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw error("Séquence \\u invalide");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        value.append((char) code);
+                        break;
+                    default:
+                        throw error("Séquence d'échappement invalide");
+                }
+            }
+        }
+    }
+}
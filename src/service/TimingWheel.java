@@ -0,0 +1,187 @@
+package service;
+
+import java.util.function.Consumer;
+
+/**
+ * Roue temporelle hiérarchique : programmation, annulation et déclenchement d'un minuteur
+ * en temps constant, quel que soit le nombre de minuteurs.
+ *
+ * Le temps est compté en pas (ticks). Chaque niveau a 64 cases ; une case du niveau L couvre
+ * 64^L pas. Un minuteur est rangé au niveau du chiffre (en base 64) le plus élevé où son pas
+ * diffère du pas courant, dans la case de ce chiffre. Quand le pas courant atteint le début
+ * d'une case d'un niveau supérieur, les minuteurs de cette case redescendent d'un ou plusieurs
+ * niveaux ; ceux du niveau 0 expirent au pas de leur case. Chaque minuteur redescend au plus
+ * une fois par niveau (11 niveaux couvrent tous les pas d'un long).
+ *
+ * Les cases sont des listes doublement chaînées (retrait en temps constant) et l'occupation
+ * de chaque niveau est un masque de 64 bits, qui permet de sauter d'un coup les pas sans
+ * minuteur. La roue n'est pas thread-safe.
+ *
+ * @param <T> Le type des valeurs associées aux minuteurs
+ */
+class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    /**
+     * Minuteur programmé dans la roue
+     */
+    static final class Timer<T> {
+        private final T value;
+        private final long tick;
+        private int level = -1;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value, long tick) {
+            this.value = value;
+            this.tick = tick;
+        }
+
+        /**
+         * @return Le pas auquel le minuteur expire
+         */
+        long tick() {
+            return tick;
+        }
+
+        /**
+         * @return true tant que le minuteur n'a ni expiré ni été annulé
+         */
+        boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Timer<T>[][] slots = new Timer[LEVELS][SLOTS];
+    private final long[] occupied = new long[LEVELS];
+    private long current;
+    private int size;
+
+    /**
+     * @param start Le pas courant initial
+     */
+    TimingWheel(long start) {
+        this.current = start;
+    }
+
+    /**
+     * @return Le nombre de minuteurs programmés
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Programme un minuteur. Un pas déjà passé expire au pas suivant.
+     *
+     * @param tick Le pas d'expiration
+     * @param value La valeur transmise à l'expiration
+     * @return Le minuteur, pour pouvoir l'annuler
+     */
+    Timer<T> schedule(long tick, T value) {
+        Timer<T> timer = new Timer<>(value, Math.max(tick, current + 1));
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Annule un minuteur (sans effet s'il a déjà expiré ou été annulé)
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Avance jusqu'à un pas et fait expirer les minuteurs atteints, dans l'ordre de leurs pas.
+     * L'action peut programmer de nouveaux minuteurs.
+     *
+     * @param tick Le pas à atteindre
+     * @param expired L'action appliquée à la valeur de chaque minuteur expiré
+     */
+    void advance(long tick, Consumer<? super T> expired) {
+        while (current < tick) {
+            if (size == 0) {
+                current = tick;
+                return;
+            }
+            if (occupied[0] == 0) {
+                // Rien au niveau 0 : aucun minuteur n'expire avant le début de la prochaine case du niveau 1
+                long boundary = (current | SLOT_MASK) + 1;
+                if (boundary > tick) {
+                    current = tick;
+                    return;
+                }
+                current = boundary - 1;
+            }
+            current++;
+            cascade();
+            int slot = (int) current & SLOT_MASK;
+            Timer<T> timer;
+            while ((timer = slots[0][slot]) != null) {
+                unlink(timer);
+                size--;
+                expired.accept(timer.value);
+            }
+        }
+    }
+
+    /**
+     * Redescend les minuteurs des cases qui commencent au pas courant, du plus haut niveau au plus bas
+     */
+    private void cascade() {
+        int top = Math.min(LEVELS - 1, Long.numberOfTrailingZeros(current) / SLOT_BITS);
+        for (int level = top; level > 0; level--) {
+            int slot = (int) (current >>> (level * SLOT_BITS)) & SLOT_MASK;
+            Timer<T> timer = slots[level][slot];
+            slots[level][slot] = null;
+            occupied[level] &= ~(1L << slot);
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long difference = timer.tick ^ current;
+        int level = difference == 0 ? 0 : (63 - Long.numberOfLeadingZeros(difference)) / SLOT_BITS;
+        int slot = (int) (timer.tick >>> (level * SLOT_BITS)) & SLOT_MASK;
+        Timer<T> head = slots[level][slot];
+        timer.level = level;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+        occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(Timer<T> timer) {
+        int level = timer.level;
+        int slot = (int) (timer.tick >>> (level * SLOT_BITS)) & SLOT_MASK;
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[level][slot] = timer.next;
+            if (timer.next == null) {
+                occupied[level] &= ~(1L << slot);
+            }
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+}
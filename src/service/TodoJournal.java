@@ -0,0 +1,719 @@
+package service;
+
+import model.Category;
+import model.IdGenerators;
+import model.Task;
+import model.TodoList;
+import model.TodoListListener;
+import model.TodoMetrics;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Journal des modifications d'une TodoList, en ajout seul.
+ *
+ * Chaque modification de la liste est écrite sous forme d'un petit enregistrement dans
+ * le fichier "&lt;base&gt;.journal". Les synchronisations sur disque (fsync) sont groupées :
+ * par défaut, au plus 100 enregistrements ou 100 ms d'enregistrements peuvent être perdus
+ * lors d'un arrêt brutal du système (Options.syncEveryRecords(1) pour un fsync par modification).
+ *
+ * Le journal est régulièrement compacté en arrière-plan : une copie légère de la liste est
+ * prise en tenant son verrou, les enregistrements qu'elle contient passent dans
+ * "&lt;base&gt;.journal.old" et le journal est vidé ; la copie est ensuite écrite dans
+ * "&lt;base&gt;.snapshot" (format BinarySnapshotFormat) sans verrou, puis le journal précédent
+ * est supprimé. Au démarrage, la dernière sauvegarde complète est chargée puis les
+ * enregistrements du journal précédent et du journal sont rejoués par-dessus.
+ *
+ * Format d'un enregistrement : longueur (int), CRC32 (int), type (byte), données.
+ * Un enregistrement incomplet ou corrompu en fin de fichier (arrêt brutal) est ignoré.
+ * Le rejeu est idempotent, ce qui permet de rejouer sans risque un journal déjà
+ * intégré à la sauvegarde complète si l'arrêt a eu lieu pendant une compaction.
+ *
+ * Les notifications de la liste ne lèvent jamais d'exception : une erreur est signalée à
+ * Options.onFailure et consultable avec getFailure(). Après une erreur d'écriture du journal,
+ * plus rien n'est enregistré (les modifications restent appliquées à la liste en mémoire).
+ * Une compaction en échec laisse le journal utilisable : le journal précédent est conservé
+ * et la compaction suivante le complète.
+ *
+ * Comme pour AutoSaveService, les threads qui modifient la liste doivent le faire dans un
+ * bloc synchronized (todoList).
+ */
+public class TodoJournal implements TodoListListener, Closeable {
+    private static final byte ADD_CATEGORY = 1;
+    private static final byte REMOVE_CATEGORY = 2;
+    private static final byte ADD_TASK = 3;
+    private static final byte REMOVE_TASK = 4;
+    private static final byte COMPLETE = 5;
+    private static final byte EDIT = 6;
+    private static final byte UPDATE_CATEGORY = 7;
+
+    private static final int RECORD_HEADER_SIZE = 8;
+    /** Taille du tampon au-delà de laquelle un lot est écrit sans attendre sa fin */
+    private static final int BATCH_FLUSH_BYTES = 1024 * 1024;
+
+    /**
+     * Paramètres du journal
+     */
+    public static class Options {
+        private int syncEveryRecords = 100;
+        private long syncIntervalMillis = 100;
+        private int compactEveryRecords = 10_000;
+        private Consumer<IOException> failureHandler;
+
+        /**
+         * Nombre d'enregistrements regroupés avant un fsync (1 = fsync à chaque modification,
+         * 0 = jamais sur ce critère)
+         */
+        public Options syncEveryRecords(int records) {
+            this.syncEveryRecords = records;
+            return this;
+        }
+
+        /**
+         * Délai maximal en millisecondes avant le fsync des enregistrements en attente
+         * (0 = pas de fsync périodique)
+         */
+        public Options syncIntervalMillis(long millis) {
+            this.syncIntervalMillis = millis;
+            return this;
+        }
+
+        /**
+         * Nombre d'enregistrements après lequel le journal est compacté dans une sauvegarde
+         * complète (0 = compaction manuelle uniquement)
+         */
+        public Options compactEveryRecords(int records) {
+            this.compactEveryRecords = records;
+            return this;
+        }
+
+        /**
+         * Traitement des erreurs d'écriture ou de compaction, appelé sur le thread qui
+         * modifie la liste ou sur celui du journal : il doit rester bref et ne pas modifier la liste
+         */
+        public Options onFailure(Consumer<IOException> handler) {
+            this.failureHandler = handler;
+            return this;
+        }
+    }
+
+    private final TodoList todoList;
+    private final Path snapshotPath;
+    private final Path previousPath;
+    private final FileChannel channel;
+    private final Options options;
+    /** Synchronisations périodiques et compactions */
+    private final ScheduledExecutorService executor;
+    /** Une seule compaction à la fois, pris avant les verrous de la liste et du journal */
+    private final Object compactionLock = new Object();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer record = ByteBuffer.allocate(1024);
+
+    /** Début de l'enregistrement en cours dans le tampon */
+    private int recordStart;
+    /** Pendant une notification groupée, les enregistrements s'accumulent dans le tampon */
+    private boolean batching;
+
+    private int unsyncedRecords;
+    private int recordsSinceSnapshot;
+    private boolean compactionPending;
+    private IOException failure;
+
+    private TodoJournal(TodoList todoList, Path snapshotPath, Path previousPath, FileChannel channel,
+                        Options options) {
+        this.todoList = todoList;
+        this.snapshotPath = snapshotPath;
+        this.previousPath = previousPath;
+        this.channel = channel;
+        this.options = options;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "todo-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Abonne le journal à la liste et lance la synchronisation périodique
+     * (une fois le journal entièrement construit)
+     */
+    private synchronized void start() {
+        todoList.addListener(this);
+        if (options.syncIntervalMillis > 0) {
+            executor.scheduleWithFixedDelay(this::syncQuietly,
+                    options.syncIntervalMillis, options.syncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Ouvre un journal avec les paramètres par défaut
+     *
+     * @see #open(String, Options)
+     */
+    public static TodoJournal open(String baseName) throws IOException {
+        return open(baseName, new Options());
+    }
+
+    /**
+     * Ouvre (ou crée) un journal : recharge la dernière sauvegarde complète, rejoue le journal
+     * puis enregistre toutes les modifications ultérieures de la liste
+     *
+     * @param baseName Le chemin de base des fichiers (sans extension)
+     * @param options Les paramètres du journal
+     * @return Le journal ouvert
+     * @throws IOException en cas d'erreur de lecture ou de sauvegarde corrompue
+     */
+    public static TodoJournal open(String baseName, Options options) throws IOException {
+        Path snapshotPath = Paths.get(baseName + ".snapshot");
+        Path previousPath = Paths.get(baseName + ".journal.old");
+        Path journalPath = Paths.get(baseName + ".journal");
+
+        TodoList todoList;
+        if (Files.exists(snapshotPath)) {
+            try (FileChannel in = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+                todoList = BinarySnapshotFormat.read(in);
+                TodoMetrics.addBytesRead(in.size());
+            }
+        } else {
+            todoList = new TodoList();
+        }
+
+        // Journal précédent d'une compaction interrompue : rejoué avant le journal courant
+        if (Files.exists(previousPath)) {
+            try (FileChannel previous = FileChannel.open(previousPath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                previous.truncate(replay(todoList, previous));
+            }
+        }
+
+        FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long validEnd = replay(todoList, channel);
+            channel.truncate(validEnd);
+            channel.position(validEnd);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        IdGenerators.reserveIds(todoList);
+
+        TodoJournal journal = new TodoJournal(todoList, snapshotPath, previousPath, channel, options);
+        journal.start();
+        return journal;
+    }
+
+    /**
+     * Récupère la liste de tâches journalisée
+     *
+     * @return La liste, à jour après le rejeu du journal
+     */
+    public TodoList getTodoList() {
+        return todoList;
+    }
+
+    /**
+     * Récupère l'erreur d'écriture qui a arrêté le journal
+     *
+     * @return L'erreur, ou null si le journal enregistre normalement
+     */
+    public synchronized IOException getFailure() {
+        return failure;
+    }
+
+    // Enregistrement des modifications
+
+    @Override
+    public synchronized void categoryAdded(Category category) {
+        beginRecord(ADD_CATEGORY);
+        putString(category.getId());
+        putString(category.getName());
+        putString(category.getColor());
+        endRecord();
+    }
+
+    @Override
+    public synchronized void categoryRemoved(Category category) {
+        beginRecord(REMOVE_CATEGORY);
+        putString(category.getId());
+        endRecord();
+    }
+
+    @Override
+    public synchronized void categoryUpdated(Category category) {
+        beginRecord(UPDATE_CATEGORY);
+        putString(category.getId());
+        putString(category.getName());
+        putString(category.getColor());
+        endRecord();
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        beginRecord(ADD_TASK);
+        putString(task.getId());
+        putString(task.getTitle());
+        putString(task.getDescription());
+        putInt(BinarySnapshotFormat.dueEpochDay(task));
+        putInt(BinarySnapshotFormat.creationEpochDay(task));
+        putByte(task.isCompleted() ? BinarySnapshotFormat.FLAG_COMPLETED : 0);
+        putString(task.getCategory().getId());
+        endRecord();
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        beginRecord(REMOVE_TASK);
+        putString(task.getId());
+        endRecord();
+    }
+
+    @Override
+    public synchronized void taskCompletionChanged(Task task) {
+        beginRecord(COMPLETE);
+        putString(task.getId());
+        putByte(task.isCompleted() ? BinarySnapshotFormat.FLAG_COMPLETED : 0);
+        endRecord();
+    }
+
+    // Notifications groupées : les enregistrements du lot sont écrits ensemble,
+    // avec au plus une synchronisation sur disque
+
+    @Override
+    public synchronized void tasksAdded(List<Task> tasks) {
+        beginBatch();
+        try {
+            for (Task task : tasks) {
+                taskAdded(task);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public synchronized void tasksRemoved(List<Task> tasks) {
+        beginBatch();
+        try {
+            for (Task task : tasks) {
+                taskRemoved(task);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public synchronized void tasksCompletionChanged(List<Task> tasks) {
+        beginBatch();
+        try {
+            for (Task task : tasks) {
+                taskCompletionChanged(task);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public synchronized void tasksUpdated(List<Task> tasks) {
+        beginBatch();
+        try {
+            for (Task task : tasks) {
+                taskUpdated(task);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public synchronized void taskUpdated(Task task) {
+        beginRecord(EDIT);
+        putString(task.getId());
+        putString(task.getTitle());
+        putString(task.getDescription());
+        putInt(BinarySnapshotFormat.dueEpochDay(task));
+        putString(task.getCategory().getId());
+        endRecord();
+    }
+
+    /**
+     * Force l'écriture sur disque des enregistrements en attente
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public synchronized void sync() throws IOException {
+        checkFailure();
+        if (unsyncedRecords > 0) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                fail(e);
+                throw e;
+            }
+            unsyncedRecords = 0;
+        }
+    }
+
+    /**
+     * Écrit une sauvegarde complète de la liste puis vide le journal, sur le thread appelant.
+     * La liste n'est verrouillée que le temps d'en prendre une copie légère ; l'appelant
+     * ne doit donc pas tenir le verrou de la liste.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            BinarySnapshotFormat.Snapshot snapshot;
+            synchronized (todoList) {
+                synchronized (this) {
+                    checkFailure();
+                    snapshot = BinarySnapshotFormat.Snapshot.of(todoList);
+                    rotate();
+                }
+            }
+            FileManager.writeAtomically(snapshotPath, out -> BinarySnapshotFormat.write(snapshot, out));
+            Files.deleteIfExists(previousPath);
+        }
+    }
+
+    /**
+     * Compaction déclenchée par le nombre d'enregistrements, sur le thread du journal
+     */
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            report(e);
+        } finally {
+            synchronized (this) {
+                compactionPending = false;
+            }
+        }
+    }
+
+    /**
+     * Ajoute les enregistrements du journal (tous contenus dans la copie de la liste qui
+     * vient d'être prise) au journal précédent, puis vide le journal. Appelée avec les
+     * verrous de la liste et du journal.
+     */
+    private void rotate() throws IOException {
+        try {
+            long size = channel.size();
+            if (size > 0) {
+                try (FileChannel previous = FileChannel.open(previousPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    for (long copied = 0; copied < size; ) {
+                        copied += channel.transferTo(copied, size - copied, previous);
+                    }
+                    previous.force(false);
+                }
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        }
+        unsyncedRecords = 0;
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Détache le journal de la liste, attend la fin d'une compaction en cours, écrit les
+     * enregistrements en attente et ferme le fichier
+     */
+    @Override
+    public void close() throws IOException {
+        // Même ordre de verrouillage que les modifications : la liste, puis le journal
+        synchronized (todoList) {
+            todoList.removeListener(this);
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                if (failure == null && unsyncedRecords > 0) {
+                    channel.force(false);
+                }
+            } finally {
+                channel.close();
+            }
+            checkFailure();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException ignored) {
+            // déjà signalée par fail()
+        }
+    }
+
+    /**
+     * Arrête le journal après une erreur d'écriture (seule la première est signalée)
+     */
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            report(e);
+        }
+    }
+
+    private void report(IOException e) {
+        Consumer<IOException> handler = options.failureHandler;
+        if (handler != null) {
+            handler.accept(e);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Le journal est inutilisable après une erreur d'écriture", failure);
+        }
+    }
+
+    // Écriture d'un enregistrement (appelée avec le verrou du journal)
+
+    private void beginRecord(byte type) {
+        // Après une erreur, les enregistrements sont construits puis abandonnés par writeRecords
+        if (!batching) {
+            record.clear();
+        }
+        recordStart = record.position();
+        ensureCapacity(RECORD_HEADER_SIZE + 1);
+        record.position(recordStart + RECORD_HEADER_SIZE);
+        record.put(type);
+    }
+
+    private void endRecord() {
+        int length = record.position() - recordStart - RECORD_HEADER_SIZE;
+        crc.reset();
+        crc.update(record.array(), recordStart + RECORD_HEADER_SIZE, length);
+        record.putInt(recordStart, length);
+        record.putInt(recordStart + 4, (int) crc.getValue());
+        unsyncedRecords++;
+        recordsSinceSnapshot++;
+
+        if (!batching) {
+            writeRecords(true);
+        } else if (record.position() >= BATCH_FLUSH_BYTES) {
+            writeRecords(false);
+        }
+    }
+
+    private void beginBatch() {
+        batching = true;
+        record.clear();
+    }
+
+    private void endBatch() {
+        batching = false;
+        writeRecords(true);
+    }
+
+    /**
+     * Écrit les enregistrements du tampon, puis synchronise ou compacte si nécessaire
+     *
+     * @param checkpoint false pour écrire sans synchroniser (tampon plein au milieu d'un lot)
+     */
+    private void writeRecords(boolean checkpoint) {
+        if (failure != null) {
+            record.clear();
+            return;
+        }
+        try {
+            record.flip();
+            int bytes = record.remaining();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            record.clear();
+            TodoMetrics.addBytesWritten(bytes);
+
+            if (!checkpoint) {
+                return;
+            }
+            if (options.syncEveryRecords > 0 && unsyncedRecords >= options.syncEveryRecords) {
+                sync();
+            }
+            if (options.compactEveryRecords > 0 && recordsSinceSnapshot >= options.compactEveryRecords
+                    && !compactionPending && !executor.isShutdown()) {
+                compactionPending = true;
+                executor.execute(this::compactInBackground);
+            }
+        } catch (IOException e) {
+            // Une notification ne lève pas d'exception : la modification est appliquée à la
+            // liste et les observateurs suivants sont prévenus, l'erreur est signalée à part
+            record.clear();
+            fail(e);
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (record.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + bytes));
+            record.flip();
+            larger.put(record);
+            record = larger;
+        }
+    }
+
+    private void putByte(byte value) {
+        ensureCapacity(1);
+        record.put(value);
+    }
+
+    private void putInt(int value) {
+        ensureCapacity(4);
+        record.putInt(value);
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(4 + bytes.length);
+        record.putInt(bytes.length);
+        record.put(bytes);
+    }
+
+    // Rejeu
+
+    /**
+     * Rejoue les enregistrements valides du journal sur la liste
+     *
+     * @return La position de fin du dernier enregistrement valide
+     */
+    private static long replay(TodoList todoList, FileChannel channel) throws IOException {
+        long size = channel.size();
+        long validEnd = 0;
+        CRC32 crc = new CRC32();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(0)), 64 * 1024));
+
+        while (size - validEnd >= RECORD_HEADER_SIZE) {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > size - validEnd - RECORD_HEADER_SIZE) {
+                break;
+            }
+            byte[] data = new byte[length];
+            in.readFully(data);
+            crc.reset();
+            crc.update(data);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            apply(todoList, ByteBuffer.wrap(data));
+            validEnd += RECORD_HEADER_SIZE + length;
+        }
+        TodoMetrics.addBytesRead(validEnd);
+        return validEnd;
+    }
+
+    private static void apply(TodoList todoList, ByteBuffer data) throws IOException {
+        byte type = data.get();
+        switch (type) {
+            case ADD_CATEGORY:
+                todoList.addCategory(new Category(getString(data), getString(data), getString(data)));
+                break;
+            case REMOVE_CATEGORY: {
+                Category category = todoList.findCategoryById(getString(data));
+                if (category != null) {
+                    todoList.removeCategory(category);
+                }
+                break;
+            }
+            case UPDATE_CATEGORY: {
+                Category category = todoList.findCategoryById(getString(data));
+                String name = getString(data);
+                String color = getString(data);
+                if (category != null) {
+                    category.setName(name);
+                    category.setColor(color);
+                }
+                break;
+            }
+            case ADD_TASK: {
+                String id = getString(data);
+                String title = getString(data);
+                String description = getString(data);
+                LocalDate dueDate = BinarySnapshotFormat.fromEpochDay(data.getInt());
+                LocalDate creationDate = BinarySnapshotFormat.fromEpochDay(data.getInt());
+                boolean completed = (data.get() & BinarySnapshotFormat.FLAG_COMPLETED) != 0;
+                Category category = todoList.findCategoryById(getString(data));
+                if (category != null) {
+                    todoList.addTask(new Task(id, title, description, dueDate, category, completed, creationDate));
+                }
+                break;
+            }
+            case REMOVE_TASK: {
+                Task task = todoList.findTaskById(getString(data));
+                if (task != null) {
+                    todoList.removeTask(task);
+                }
+                break;
+            }
+            case COMPLETE: {
+                Task task = todoList.findTaskById(getString(data));
+                if (task != null) {
+                    task.setCompleted((data.get() & BinarySnapshotFormat.FLAG_COMPLETED) != 0);
+                }
+                break;
+            }
+            case EDIT: {
+                Task task = todoList.findTaskById(getString(data));
+                if (task != null) {
+                    task.setTitle(getString(data));
+                    task.setDescription(getString(data));
+                    task.setDueDate(BinarySnapshotFormat.fromEpochDay(data.getInt()));
+                    Category category = todoList.findCategoryById(getString(data));
+                    if (category != null) {
+                        todoList.moveTask(task, category);
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IOException("Type d'enregistrement inconnu dans le journal: " + type);
+        }
+    }
+
+    private static String getString(ByteBuffer data) {
+        int length = data.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(data.array(), data.position(), length, StandardCharsets.UTF_8);
+        data.position(data.position() + length);
+        return value;
+    }
+}
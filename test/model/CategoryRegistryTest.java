@@ -0,0 +1,113 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryRegistryTest {
+    private final List<Category> changes = new ArrayList<>();
+    private final CategoryRegistry registry = new CategoryRegistry(changes::add);
+
+    @Test
+    void renameMovesTheNameIndexEntry() {
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        registry.add(work);
+
+        work.setName("Bureau");
+        assertSame(work, registry.findByName("bureau"));
+        assertNull(registry.findByName("Travail"), "l'ancien nom ne doit plus correspondre");
+        assertEquals(List.of(work), changes);
+
+        // Changement de casse seul : même clé, la catégorie reste trouvable
+        work.setName("BUREAU");
+        assertSame(work, registry.findByName("Bureau"));
+        assertEquals(2, changes.size());
+
+        // Une catégorie retirée n'est plus suivie
+        registry.remove(work);
+        work.setName("Travail");
+        assertNull(registry.findByName("Travail"));
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    void firstCategoryRegisteredUnderANameWins() {
+        Category first = new Category("CAT-1", "Études", "BLUE");
+        Category second = new Category("CAT-2", "ÉTUDES", "RED");
+        Category third = new Category("CAT-3", "Loisirs", "GREEN");
+        assertTrue(registry.add(first));
+        assertTrue(registry.add(second));
+        assertTrue(registry.add(third));
+        assertFalse(registry.add(new Category("CAT-1", "Autre", "RED")), "identifiant déjà enregistré");
+        assertNull(registry.findByName("Autre"));
+
+        assertSame(first, registry.findByName("études"));
+
+        // Le nom libéré par la première revient à la suivante
+        first.setName("Archives");
+        assertSame(second, registry.findByName("Études"));
+        assertSame(first, registry.findByName("archives"));
+
+        // Renommée vers un nom déjà pris, une catégorie passe après celle qui le porte
+        third.setName("études");
+        assertSame(second, registry.findByName("études"));
+        registry.remove(second);
+        assertSame(third, registry.findByName("études"));
+
+        assertEquals(List.of(first, third), registry.view());
+    }
+
+    @Test
+    void normalizationFoldsSpecialCasesIndependentlyOfTheLocale() {
+        // ß devient SS en majuscules : "Straße" et "STRASSE" donnent la même clé
+        assertEquals("strasse", CategoryRegistry.normalize("Straße"));
+        assertEquals(CategoryRegistry.normalize("STRASSE"), CategoryRegistry.normalize("Straße"));
+        // Sigma final : ς et σ ont la même majuscule, la minuscule est choisie selon la position
+        assertEquals(CategoryRegistry.normalize("ΟΔΟΣ"), CategoryRegistry.normalize("οδοσ"));
+        assertEquals(CategoryRegistry.normalize("ΟΔΟΣ"), CategoryRegistry.normalize("οδος"));
+        // i sans point : ı a pour majuscule I, quelle que soit la locale de la machine
+        assertEquals("i", CategoryRegistry.normalize("ı"));
+        assertEquals("i", CategoryRegistry.normalize("I"));
+        // İ (I avec point) garde son point en minuscule (i + U+0307) : distinct de "i"
+        assertNotEquals(CategoryRegistry.normalize("istanbul"), CategoryRegistry.normalize("İstanbul"));
+        assertEquals("", CategoryRegistry.normalize(null));
+
+        Category street = new Category("CAT-1", "Straße", "BLUE");
+        registry.add(street);
+        assertSame(street, registry.findByName("STRASSE"));
+        assertSame(street, registry.findByName("strasse"));
+    }
+
+    @Test
+    void colorChangeIsPropagatedToEveryList() {
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        TodoList first = new TodoList();
+        TodoList second = new TodoList();
+        List<String> updates = new ArrayList<>();
+        first.addListener(new TodoListListener() {
+            @Override
+            public void categoryUpdated(Category category) {
+                updates.add("first " + category.getColor());
+            }
+        });
+        second.addListener(new TodoListListener() {
+            @Override
+            public void categoryUpdated(Category category) {
+                updates.add("second " + category.getColor());
+            }
+        });
+        first.addCategory(work);
+        second.addCategory(work);
+
+        work.setColor("RED");
+        assertEquals(List.of("first RED", "second RED"), updates);
+        assertSame(work, first.findCategoryByName("travail"), "la couleur ne touche pas l'index des noms");
+
+        second.removeCategory(work);
+        work.setColor("GREEN");
+        assertEquals(List.of("first RED", "second RED", "first GREEN"), updates);
+    }
+}
@@ -0,0 +1,323 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentTodoListTest {
+    private static final int THREADS = 4;
+
+    /** Exécute la même action sur plusieurs threads partant en même temps */
+    private static void race(int iterations, IterationAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        action.run(thread, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface IterationAction {
+        void run(int thread, int iteration);
+    }
+
+    @Test
+    void concurrentAddAndRemoveCategoryKeepCategoriesConsistent() throws Exception {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category[] categories = new Category[3];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = new Category("CAT-" + i, "Catégorie " + i, "BLUE");
+        }
+
+        race(20_000, (thread, i) -> {
+            Category category = categories[ThreadLocalRandom.current().nextInt(categories.length)];
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                list.addCategory(category);
+            } else {
+                list.removeCategory(category);
+            }
+        });
+
+        List<Category> listed = list.getCategories();
+        assertEquals(listed.size(), new HashSet<>(listed).size(), "catégorie en double");
+        for (Category category : categories) {
+            // Une catégorie listée a ses tâches, une catégorie absente peut être ajoutée
+            boolean present = listed.contains(category);
+            assertEquals(present, list.addTask(new Task("T-" + category.getId(), "t", "", null, category,
+                    false, LocalDate.of(2026, 1, 1))), category.getName());
+            assertEquals(!present, list.addCategory(category), category.getName());
+        }
+    }
+
+    @Test
+    void taskCountMatchesPlacedTasks() throws Exception {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+
+        race(5_000, (thread, i) -> {
+            String id = "T-" + ThreadLocalRandom.current().nextInt(500);
+            Task existing = list.findTaskById(id);
+            if (existing == null) {
+                list.addTask(new Task(id, "t", "", null, i % 2 == 0 ? work : home, false, LocalDate.of(2026, 1, 1)));
+            } else if (i % 3 == 0) {
+                list.moveTask(existing, existing.getCategory().equals(work) ? home : work);
+            } else {
+                list.removeTask(existing);
+            }
+            int count = list.getTaskCount();
+            assertTrue(count >= 0 && count <= 500, "nombre de tâches: " + count);
+        });
+
+        assertEquals(list.getAllTasks().size(), list.getTaskCount());
+        assertEquals(list.getTaskCount(work) + list.getTaskCount(home), list.getTaskCount());
+
+        list.removeCategory(work);
+        assertEquals(list.getTaskCount(home), list.getTaskCount());
+        assertEquals(list.getAllTasks().size(), list.getTaskCount());
+    }
+
+    @Test
+    void indexesFollowTaskChanges() {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        LocalDate today = LocalDate.now();
+        Task report = new Task("T-1", "Rapport annuel", "", today.minusDays(2), work, false, today);
+        Task garden = new Task("T-2", "Jardin", "tondre la pelouse", today.plusDays(3), home, false, today);
+        Task review = new Task("T-3", "Relire le rapport", "", today.plusDays(1), home, false, today);
+        for (Task task : List.of(report, garden, review)) {
+            assertTrue(list.addTask(task));
+        }
+
+        assertEquals(List.of(report, review), list.searchTasks("RAPP"));
+        assertEquals(List.of(report), list.getOverdueTasks());
+        assertEquals(List.of(review, garden), list.getUpcomingTasks(7));
+
+        report.setTitle("Bilan annuel");
+        review.setDueDate(today.minusDays(5));
+        garden.markAsCompleted();
+        assertEquals(List.of(review), list.searchTasks("rapport"));
+        assertEquals(List.of(report), list.searchTasks("bilan"));
+        assertEquals(List.of(review, report), list.getOverdueTasks());
+        assertTrue(list.getUpcomingTasks(7).isEmpty());
+
+        // Déplacée : la tâche suit ses index dans sa nouvelle catégorie
+        assertTrue(list.moveTask(review, work));
+        garden.markAsIncomplete();
+        assertEquals(List.of(review), list.searchTasks("relire"));
+        assertEquals(List.of(review, report), list.getOverdueTasks());
+        list.removeCategory(home);
+        assertTrue(list.searchTasks("jardin").isEmpty());
+        assertTrue(list.getUpcomingTasks(7).isEmpty());
+        assertEquals(List.of(review), list.searchTasks("relire"));
+
+        list.removeTask(review);
+        assertTrue(list.searchTasks("relire").isEmpty());
+        assertEquals(List.of(report), list.getOverdueTasks());
+        // Une tâche retirée ne touche plus les index
+        review.setTitle("Relire encore");
+        assertTrue(list.searchTasks("encore").isEmpty());
+    }
+
+    @Test
+    void removalsKeepInsertionOrderThroughCompaction() {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        LocalDate today = LocalDate.now();
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Task task = new Task("T-" + i, "tâche " + i, "", null, work, false, today);
+            list.addTask(task);
+            expected.add(task);
+        }
+        // Assez de suppressions pour déclencher plusieurs compactages
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 5 != 0) {
+                Task task = list.findTaskById("T-" + i);
+                if (i % 5 == 1) {
+                    assertTrue(list.moveTask(task, home));
+                    assertTrue(list.removeTask(task));
+                } else {
+                    assertTrue(list.removeTask(task));
+                }
+                assertFalse(list.removeTask(task));
+                expected.remove(task);
+            }
+        }
+        assertEquals(expected, list.getTasksByCategory(work));
+        assertEquals(200, list.getTaskCount(work));
+        assertEquals(0, list.getTaskCount(home));
+
+        // Une tâche ajoutée après un compactage se range après les autres et se retire normalement
+        Task last = new Task("T-last", "dernière", "", null, work, false, today);
+        list.addTask(last);
+        expected.add(last);
+        assertEquals(expected, list.getTasksByCategory(work));
+        assertTrue(list.removeTask(expected.get(0)));
+        assertEquals(expected.subList(1, expected.size()), list.getTasksByCategory(work));
+        assertEquals(expected.subList(1, expected.size()), list.getAllTasks());
+    }
+
+    @Test
+    void categoryNameIndexFollowsRename() {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(work);
+        assertSame(work, list.findCategoryByName("TRAVAIL"));
+        assertSame(work, list.findCategoryById("CAT-1"));
+
+        work.setName("Bureau");
+        assertNull(list.findCategoryByName("travail"));
+        assertSame(work, list.findCategoryByName("bureau"));
+
+        list.removeCategory(work);
+        assertNull(list.findCategoryByName("bureau"));
+        assertNull(list.findCategoryById("CAT-1"));
+    }
+
+    @Test
+    void indexesMatchTasksAfterConcurrentChanges() throws Exception {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category[] categories = new Category[3];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = new Category("CAT-" + i, "Catégorie " + i, "BLUE");
+            list.addCategory(categories[i]);
+        }
+        LocalDate today = LocalDate.now();
+        String[] words = {"alpha", "beta", "gamma", "delta"};
+
+        // Chaque thread ne modifie que ses propres tâches (identifiant congru à son numéro)
+        race(5_000, (thread, i) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String id = "T-" + (random.nextInt(50) * THREADS + thread);
+            Task task = list.findTaskById(id);
+            if (task == null) {
+                list.addTask(new Task(id, words[random.nextInt(words.length)], "", today.plusDays(random.nextInt(-5, 6)),
+                        categories[random.nextInt(categories.length)], false, today));
+                return;
+            }
+            switch (random.nextInt(5)) {
+                case 0:
+                    task.setTitle(words[random.nextInt(words.length)]);
+                    break;
+                case 1:
+                    task.setDueDate(random.nextBoolean() ? null : today.plusDays(random.nextInt(-5, 6)));
+                    break;
+                case 2:
+                    task.setCompleted(!task.isCompleted());
+                    break;
+                case 3:
+                    list.moveTask(task, categories[random.nextInt(categories.length)]);
+                    break;
+                default:
+                    list.removeTask(task);
+            }
+        });
+
+        List<Task> all = list.getAllTasks();
+        for (String word : words) {
+            assertEquals(Set.copyOf(all.stream().filter(t -> t.getTitle().equals(word)).toList()),
+                    Set.copyOf(list.searchTasks(word)), word);
+        }
+        assertEquals(Set.copyOf(all.stream().filter(t -> !t.isCompleted() && t.getDueDate() != null
+                && t.getDueDate().isBefore(today)).toList()), Set.copyOf(list.getOverdueTasks()));
+        List<Task> upcoming = list.getUpcomingTasks(3);
+        assertEquals(Set.copyOf(all.stream().filter(t -> !t.isCompleted() && t.getDueDate() != null
+                && !t.getDueDate().isBefore(today) && !t.getDueDate().isAfter(today.plusDays(3))).toList()),
+                Set.copyOf(upcoming));
+        for (int i = 1; i < upcoming.size(); i++) {
+            assertFalse(upcoming.get(i).getDueDate().isBefore(upcoming.get(i - 1).getDueDate()), "ordre des échéances");
+        }
+    }
+
+    @Test
+    void removalsRacingEditsLeaveNoStaleIndexEntries() throws Exception {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category[] categories = {new Category("CAT-0", "Travail", "BLUE"), new Category("CAT-1", "Maison", "GREEN")};
+        for (Category category : categories) {
+            list.addCategory(category);
+        }
+        LocalDate today = LocalDate.now();
+        String[] words = {"alpha", "beta", "gamma"};
+
+        // Les mêmes tâches sont modifiées par deux threads, retirées et recréées par les deux autres
+        race(100_000, (thread, i) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String id = "T-" + random.nextInt(4);
+            if (thread >= THREADS / 2) {
+                Task task = list.findTaskById(id);
+                if (task == null) {
+                    list.addTask(new Task(id, words[random.nextInt(words.length)], "", today.plusDays(random.nextInt(-3, 4)),
+                            categories[random.nextInt(categories.length)], random.nextBoolean(), today));
+                } else if (random.nextBoolean()) {
+                    list.removeTask(task);
+                } else {
+                    list.moveTask(task, categories[random.nextInt(categories.length)]);
+                }
+                return;
+            }
+            Task task = list.findTaskById(id);
+            if (task == null) {
+                return;
+            }
+            switch (random.nextInt(3)) {
+                case 0:
+                    task.setTitle(words[random.nextInt(words.length)]);
+                    break;
+                case 1:
+                    task.setDueDate(random.nextBoolean() ? null : today.plusDays(random.nextInt(-3, 4)));
+                    break;
+                default:
+                    task.setCompleted(!task.isCompleted());
+            }
+        });
+
+        List<Task> all = list.getAllTasks();
+        for (String word : words) {
+            List<Task> found = list.searchTasks(word);
+            assertFalse(found.contains(null), word);
+            assertEquals(Set.copyOf(all.stream().filter(t -> t.getTitle().equals(word)).toList()), Set.copyOf(found), word);
+        }
+        assertEquals(Set.copyOf(all.stream().filter(t -> !t.isCompleted() && t.getDueDate() != null
+                && t.getDueDate().isBefore(today)).toList()), Set.copyOf(list.getOverdueTasks()));
+        assertEquals(Set.copyOf(all.stream().filter(t -> !t.isCompleted() && t.getDueDate() != null
+                && !t.getDueDate().isBefore(today) && !t.getDueDate().isAfter(today.plusDays(3))).toList()),
+                Set.copyOf(list.getUpcomingTasks(3)));
+        assertEquals(all.stream().filter(Task::isCompleted).count(), list.getCompletedCount());
+        assertEquals(all.size(), list.getTaskCount());
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DueDateIndexTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+    private static final Category WORK = new Category("CAT-1", "Travail", "BLUE");
+
+    private static Task task(String id, LocalDate dueDate, boolean completed) {
+        return new Task(id, "tâche " + id, "", dueDate, WORK, completed, DAY.minusDays(30));
+    }
+
+    @Test
+    void rangesAreSortedByDueDateThenInsertion() {
+        DueDateIndex index = new DueDateIndex();
+        Task late = task("T-1", DAY.plusDays(3), false);
+        Task early = task("T-2", DAY.minusDays(2), false);
+        Task sameDayFirst = task("T-3", DAY.plusDays(1), false);
+        Task sameDaySecond = task("T-4", DAY.plusDays(1), false);
+        for (Task task : List.of(late, early, sameDayFirst, sameDaySecond)) {
+            index.add(task);
+        }
+        index.add(task("T-5", null, false));
+        index.add(task("T-6", DAY.minusDays(1), true));
+
+        assertEquals(List.of(early), index.before(DAY));
+        assertEquals(List.of(sameDayFirst, sameDaySecond, late), index.between(DAY, DAY.plusDays(7)));
+        assertTrue(index.between(DAY, DAY.minusDays(1)).isEmpty());
+        assertEquals(3, index.count(DAY.toEpochDay(), DAY.plusDays(7).toEpochDay()));
+        assertEquals(2, index.count(DAY.toEpochDay(), DAY.plusDays(7).toEpochDay(), 2), "compte plafonné");
+        assertEquals(3, index.count(DAY.toEpochDay(), DAY.plusDays(7).toEpochDay(), 10));
+
+        index.remove(sameDayFirst, sameDayFirst.getDueDate());
+        index.remove(early, DAY);
+        assertEquals(List.of(sameDaySecond, late), index.between(DAY, DAY.plusDays(7)));
+        assertEquals(List.of(early), index.before(DAY), "retirée sous une autre date : inchangée");
+    }
+
+    @Test
+    void overdueAndUpcomingAreNotInListOrder() {
+        TodoList list = new TodoList();
+        list.addCategory(WORK);
+        LocalDate today = LocalDate.now();
+        Task lastWeek = task("T-1", today.minusDays(7), false);
+        Task yesterday = task("T-2", today.minusDays(1), false);
+        Task lastMonth = task("T-3", today.minusDays(30), false);
+        Task inFiveDays = task("T-4", today.plusDays(5), false);
+        Task tomorrow = task("T-5", today.plusDays(1), false);
+        Task tomorrowToo = task("T-6", today.plusDays(1), false);
+        for (Task task : List.of(lastWeek, yesterday, lastMonth, inFiveDays, tomorrow, tomorrowToo)) {
+            list.addTask(task);
+        }
+
+        assertEquals(List.of(lastMonth, lastWeek, yesterday), list.getOverdueTasks());
+        assertEquals(List.of(tomorrow, tomorrowToo, inFiveDays), list.getUpcomingTasks(7));
+
+        // Une échéance modifiée replace la tâche à son nouveau jour, après celles déjà présentes
+        tomorrow.setDueDate(today.plusDays(2));
+        tomorrow.setDueDate(today.plusDays(1));
+        assertEquals(List.of(tomorrowToo, tomorrow, inFiveDays), list.getUpcomingTasks(7));
+    }
+}
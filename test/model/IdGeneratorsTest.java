@@ -0,0 +1,118 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorsTest {
+    private final IdGenerator previous = IdGenerators.getDefault();
+
+    @AfterEach
+    void restoreDefault() {
+        IdGenerators.setDefault(previous);
+    }
+
+    @Test
+    void timeSequenceIsStrictlyIncreasingBeyondOneMillisecond() {
+        IdGenerator generator = IdGenerators.timeSequence();
+        long last = -1;
+        // Plus de 4096 identifiants : la séquence déborde sur les millisecondes suivantes
+        for (int i = 0; i < 20_000; i++) {
+            String id = generator.nextId("TASK-");
+            assertTrue(id.startsWith("TASK-"));
+            long value = Long.parseLong(id.substring(5), 36);
+            assertTrue(value > last, "identifiant non croissant: " + id);
+            last = value;
+        }
+    }
+
+    @Test
+    void generatorsAreUniqueAcrossThreads() throws Exception {
+        for (IdGenerator generator : List.of(IdGenerators.timeSequence(), IdGenerators.sequential())) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Callable<List<String>>> calls = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    calls.add(() -> {
+                        List<String> ids = new ArrayList<>();
+                        for (int i = 0; i < 10_000; i++) {
+                            ids.add(generator.nextId("X-"));
+                        }
+                        return ids;
+                    });
+                }
+                Set<String> all = new HashSet<>();
+                for (Future<List<String>> ids : executor.invokeAll(calls)) {
+                    all.addAll(ids.get());
+                }
+                assertEquals(40_000, all.size());
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void sequentialIsDeterministicPerGenerator() {
+        IdGenerator first = IdGenerators.sequential();
+        assertEquals("TASK-1", first.nextId("TASK-"));
+        assertEquals("CAT-2", first.nextId("CAT-"));
+        assertEquals("TASK-1", IdGenerators.sequential().nextId("TASK-"), "chaque générateur a son compteur");
+
+        IdGenerator counter = IdGenerators.sequential();
+        for (int i = 0; i < 35; i++) {
+            counter.nextId("");
+        }
+        assertEquals("10", counter.nextId(""), "encodé en base 36");
+    }
+
+    @Test
+    void defaultGeneratorIsUsedByTasksAndCategories() {
+        IdGenerators.setDefault(IdGenerators.sequential());
+        Category category = new Category("Travail", "BLUE");
+        Task task = new Task("titre", "", LocalDate.of(2026, 1, 1), category);
+        assertEquals("CAT-1", category.getId());
+        assertEquals("TASK-2", task.getId());
+
+        assertThrows(NullPointerException.class, () -> IdGenerators.setDefault(null));
+        assertEquals("TASK-3", new Task("autre", "", null, category).getId());
+    }
+
+    @Test
+    void reservedIdsAreNotReproduced() {
+        IdGenerator generator = IdGenerators.timeSequence();
+        long future = (System.currentTimeMillis() + 60_000) << 12;
+        generator.reserve("TASK-" + Long.toString(future, 36));
+        assertEquals(future + 1, Long.parseLong(generator.nextId("TASK-").substring(5), 36));
+
+        IdGenerator counter = IdGenerators.sequential();
+        counter.reserve("TASK-z");
+        counter.reserve("CAT-5");
+        for (String id : new String[]{"T-", "saisi", "T-+zz", "T-é", "X-" + "z".repeat(20)}) {
+            counter.reserve(id);
+        }
+        assertEquals("TASK-10", counter.nextId("TASK-"));
+    }
+
+    @Test
+    void reserveIdsCoversCategoriesAndTasksOfALoadedList() {
+        IdGenerators.setDefault(IdGenerators.sequential());
+        TodoList list = new TodoList();
+        Category category = new Category("CAT-k", "Travail", "BLUE");
+        list.addCategory(category);
+        list.addTask(new Task("TASK-a", "titre", "", null, category, false, LocalDate.of(2026, 1, 1)));
+        IdGenerators.reserveIds(list);
+        assertEquals("TASK-l", new Task("autre", "", null, category).getId());
+    }
+}
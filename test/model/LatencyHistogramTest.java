@@ -0,0 +1,70 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesStayWithinThePrecision() {
+        for (int bits : new int[]{2, 6}) {
+            LatencyHistogram histogram = new LatencyHistogram(bits);
+            for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+                histogram.record(nanos);
+            }
+            assertEquals(1_000_000, histogram.getCount());
+            assertEquals(1_000_000, histogram.getMax());
+            assertEquals(500_000, histogram.getMean());
+            double precision = 1.0 / (1 << bits);
+            for (double percentile : new double[]{50, 90, 99, 99.9}) {
+                long exact = (long) (percentile * 10_000);
+                long estimate = histogram.getPercentile(percentile);
+                assertTrue(estimate >= exact, bits + " bits, p" + percentile + ": " + estimate);
+                assertTrue(estimate <= exact * (1 + precision), bits + " bits, p" + percentile + ": " + estimate);
+            }
+            assertEquals(1_000_000, histogram.getPercentile(100));
+        }
+    }
+
+    @Test
+    void extremeValuesAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram(2);
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMean());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50), "valeur négative comptée pour 0");
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(0));
+    }
+
+    @Test
+    void recordsFromSeveralThreadsAreAllCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(6);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i % 1000);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(400_000, histogram.getCount());
+        assertEquals(999, histogram.getMax());
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+    private static final Category WORK = new Category("CAT-1", "Travail", "BLUE");
+
+    private static Task task(String id, String title, String description) {
+        return new Task(id, title, description, null, WORK, false, LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    void prefixSearchIgnoresCaseAndAccents() {
+        SearchIndex index = new SearchIndex();
+        index.add(task("T-1", "Préparer l'ÉTUDE", "réunion lundi"));
+        index.add(task("T-2", "Etudier le dossier", null));
+        index.add(task("T-3", "Courses", "pain, lait"));
+
+        assertEquals(Set.of("T-1", "T-2"), index.search("etu"));
+        assertEquals(Set.of("T-1"), index.search("ÉTUDE"));
+        assertEquals(Set.of("T-1"), index.search("Reunion"));
+        assertEquals(Set.of("T-3"), index.search("lait"));
+        assertTrue(index.search("ait").isEmpty(), "seul le début d'un mot correspond");
+        assertTrue(index.search("  ,; ").isEmpty());
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        SearchIndex index = new SearchIndex();
+        index.add(task("T-1", "rapport annuel", "budget"));
+        index.add(task("T-2", "rapport mensuel", ""));
+
+        assertEquals(Set.of("T-1", "T-2"), index.search("rap"));
+        assertEquals(Set.of("T-1"), index.search("rap bud"));
+        assertTrue(index.search("rapport inconnu").isEmpty());
+    }
+
+    @Test
+    void updateAndRemoveDropOldTerms() {
+        SearchIndex index = new SearchIndex();
+        Task task = task("T-1", "ancien titre", "commun");
+        index.add(task);
+
+        String oldTitle = task.getTitle();
+        task.setTitle("nouveau titre");
+        index.update(task, oldTitle, task.getDescription());
+        assertTrue(index.search("ancien").isEmpty());
+        assertEquals(Set.of("T-1"), index.search("nouv titre commun"));
+
+        index.remove(task);
+        assertTrue(index.search("titre").isEmpty());
+        assertTrue(index.search("commun").isEmpty());
+    }
+
+    @Test
+    void searchResultsKeepIndexingOrder() {
+        SearchIndex index = new SearchIndex();
+        for (int i = 20; i > 0; i--) {
+            index.add(task("T-" + i, "tâche " + i, ""));
+        }
+        assertEquals(List.of("T-20", "T-19", "T-18"), index.search("tache").stream().limit(3).toList());
+    }
+
+    @Test
+    void todoListSearchFollowsTextChanges() {
+        TodoList list = new TodoList();
+        list.addCategory(WORK);
+        Task first = task("T-1", "Appeler le garage", "");
+        Task second = task("T-2", "Garage : vidange", "");
+        list.addTask(first);
+        list.addTask(second);
+        assertEquals(List.of(first, second), list.searchTasks("garage"));
+
+        first.setTitle("Appeler la banque");
+        second.setDescription("prévoir la banque");
+        assertEquals(List.of(second), list.searchTasks("garage"));
+        assertEquals(List.of(first, second), list.searchTasks("banq"));
+
+        list.removeTask(first);
+        assertEquals(List.of(second), list.searchTasks("banque"));
+        assertTrue(list.searchTasks(" ").isEmpty());
+        assertTrue(list.searchTasks(null).isEmpty());
+    }
+}
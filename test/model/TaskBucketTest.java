@@ -0,0 +1,125 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskBucketTest {
+    private static final Category WORK = new Category("CAT-1", "Travail", "BLUE");
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    /** Échéance absente une fois sur cinq, une tâche sur trois terminée */
+    private static Task task(int i) {
+        LocalDate dueDate = i % 5 == 0 ? null : DAY.plusDays(i % 40 - 20);
+        return new Task("T-" + i, "tâche " + i, "", dueDate, WORK, i % 3 == 0, DAY.minusDays(i));
+    }
+
+    private static List<Task> fill(TaskBucket bucket, int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = task(i);
+            bucket.append(task);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /** Vérifie emplacements, colonnes et ordre contre les tâches attendues */
+    private static void assertBucketHolds(TaskBucket bucket, List<Task> expected) {
+        assertEquals(expected, bucket);
+        assertEquals(expected, new ArrayList<>(bucket), "ordre de l'itérateur");
+        TaskColumns columns = bucket.columns();
+        int completed = 0;
+        for (Task task : expected) {
+            int i = Integer.parseInt(task.getId().substring(2));
+            Task original = task(i);
+            assertSame(task, bucket.at(task.slot));
+            assertEquals(original.getDueDate(), task.getDueDate(), task.getId());
+            assertEquals(original.getCreationDate(), task.getCreationDate(), task.getId());
+            assertEquals(original.isCompleted(), task.isCompleted(), task.getId());
+            assertEquals(TaskColumns.toDay(original.getDueDate()), columns.dueDay(task.slot));
+            assertEquals(original.isCompleted(), columns.isCompleted(task.slot));
+            if (original.isCompleted()) {
+                completed++;
+            }
+        }
+        assertEquals(completed, columns.completedCount());
+        assertEquals(expected.size(), columns.size());
+    }
+
+    @Test
+    void compactionWaitsForSixtyFourFreeSlotsAndMoreFreeThanUsed() {
+        TaskBucket bucket = new TaskBucket();
+        List<Task> tasks = fill(bucket, 128);
+        List<Task> kept = new ArrayList<>(tasks);
+
+        // 64 emplacements libres pour 64 tâches : pas encore de compactage
+        for (int i = 0; i < 64; i++) {
+            Task task = tasks.get(i * 2 + 1);
+            bucket.remove(task);
+            kept.remove(task);
+            assertEquals(-1, task.slot);
+        }
+        assertEquals(128, bucket.columns().end());
+        assertBucketHolds(bucket, kept);
+
+        // Plus d'emplacements libres que de tâches : compactage dans l'ordre
+        Task removed = kept.remove(10);
+        bucket.remove(removed);
+        assertEquals(63, bucket.columns().end());
+        for (int i = 0; i < kept.size(); i++) {
+            assertEquals(i, kept.get(i).slot);
+        }
+        assertBucketHolds(bucket, kept);
+
+        // Les tâches retirées retrouvent leurs valeurs
+        assertEquals(task(20).getDueDate(), removed.getDueDate());
+        assertEquals(task(20).isCompleted(), removed.isCompleted());
+    }
+
+    @Test
+    void smallBucketsAreNotCompacted() {
+        TaskBucket bucket = new TaskBucket();
+        List<Task> tasks = fill(bucket, 40);
+        for (int i = 1; i < 40; i++) {
+            bucket.remove(tasks.get(i));
+        }
+        assertEquals(40, bucket.columns().end(), "moins de 64 emplacements libres");
+        assertBucketHolds(bucket, tasks.subList(0, 1));
+    }
+
+    @Test
+    void compactedColumnsFollowLaterChanges() {
+        TaskBucket bucket = new TaskBucket();
+        List<Task> tasks = fill(bucket, 200);
+        List<Task> kept = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.getId().endsWith("7")) {
+                kept.add(task);
+            } else {
+                bucket.remove(task);
+            }
+        }
+        // Compacté en cours de route, les suppressions suivantes ont laissé des emplacements libres
+        assertTrue(bucket.columns().end() < tasks.size());
+        assertBucketHolds(bucket, kept);
+
+        // Les modifications passent par les nouvelles colonnes, au nouvel emplacement
+        Task task = kept.get(3);
+        task.setDueDate(DAY.plusDays(100));
+        task.setCompleted(!task.isCompleted());
+        assertEquals(TaskColumns.toDay(DAY.plusDays(100)), bucket.columns().dueDay(task.slot));
+        assertEquals(task.isCompleted(), bucket.columns().isCompleted(task.slot));
+
+        // Ajout après compactage : en fin de liste
+        Task added = task(500);
+        bucket.append(added);
+        kept.add(added);
+        assertEquals(kept, bucket);
+        assertEquals(bucket.columns().end() - 1, added.slot);
+    }
+}
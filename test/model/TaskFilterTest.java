@@ -0,0 +1,122 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFilterTest {
+    private static final Category WORK = new Category("CAT-1", "Travail", "BLUE");
+    private static final Category HOME = new Category("CAT-2", "Maison", "GREEN");
+    private static final Category SPORT = new Category("CAT-3", "Sport", "RED");
+    private static final Category UNKNOWN = new Category("CAT-X", "Inconnue", "BLACK");
+
+    /** Tâches réparties sur trois catégories, sur plusieurs mots de 64 bits */
+    private static TodoList list() {
+        TodoList list = new TodoList();
+        Category[] categories = {WORK, HOME, SPORT};
+        for (Category category : categories) {
+            list.addCategory(category);
+        }
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 300; i++) {
+            LocalDate dueDate = i % 4 == 0 ? null : today.plusDays(i % 9 - 4);
+            list.addTask(new Task("T-" + i, "tâche " + i, "", dueDate, categories[i % 7 % 3], i % 5 == 0, today));
+        }
+        return list;
+    }
+
+    private static Map<String, Map.Entry<TaskFilter, Predicate<Task>>> filters() {
+        LocalDate today = LocalDate.now();
+        Predicate<Task> overdue = task -> !task.isCompleted() && task.getDueDate() != null
+                && task.getDueDate().isBefore(today);
+        return Map.of(
+                "travail ou maison", Map.entry(TaskFilter.category(WORK).or(TaskFilter.category(HOME)),
+                        task -> task.getCategory().equals(WORK) || task.getCategory().equals(HOME)),
+                "à faire sans échéance", Map.entry(TaskFilter.pending().andNot(TaskFilter.hasDueDate()),
+                        task -> !task.isCompleted() && task.getDueDate() == null),
+                "hors travail", Map.entry(TaskFilter.category(WORK).not(),
+                        task -> !task.getCategory().equals(WORK)),
+                "en retard", Map.entry(TaskFilter.overdue(), overdue),
+                "en retard hors sport", Map.entry(TaskFilter.overdue().andNot(TaskFilter.category(SPORT)),
+                        overdue.and(task -> !task.getCategory().equals(SPORT))),
+                "sport terminées ou travail en retard", Map.entry(
+                        TaskFilter.category(SPORT).and(TaskFilter.completed())
+                                .or(TaskFilter.overdue().and(TaskFilter.category(WORK))),
+                        task -> task.getCategory().equals(SPORT) && task.isCompleted()
+                                || task.getCategory().equals(WORK) && overdue.test(task)),
+                "double négation", Map.entry(TaskFilter.category(HOME).not().not(),
+                        task -> task.getCategory().equals(HOME)),
+                "catégorie absente", Map.entry(TaskFilter.category(UNKNOWN), task -> false),
+                "hors catégorie absente", Map.entry(TaskFilter.category(UNKNOWN).not().and(TaskFilter.hasDueDate()),
+                        task -> task.getDueDate() != null));
+    }
+
+    private static void assertMatchesStream(TodoList list) {
+        for (Map.Entry<String, Map.Entry<TaskFilter, Predicate<Task>>> entry : filters().entrySet()) {
+            TaskFilter filter = entry.getValue().getKey();
+            List<Task> expected = list.getAllTasks().stream()
+                    .filter(entry.getValue().getValue())
+                    .collect(Collectors.toList());
+            assertEquals(expected, list.filterTasks(filter), entry.getKey());
+            assertEquals(expected.size(), list.countTasks(filter), entry.getKey());
+        }
+    }
+
+    @Test
+    void compositionsMatchAStreamPredicate() {
+        TodoList list = list();
+        assertFalse(list.filterTasks(TaskFilter.overdue()).isEmpty());
+        assertMatchesStream(list);
+    }
+
+    @Test
+    void compositionsFollowTaskChanges() {
+        TodoList list = list();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 300; i += 3) {
+            Task task = list.findTaskById("T-" + i);
+            switch (i % 4) {
+                case 0:
+                    task.setCompleted(!task.isCompleted());
+                    break;
+                case 1:
+                    task.setDueDate(task.getDueDate() == null ? today.minusDays(1) : null);
+                    break;
+                case 2:
+                    task.setCategory(task.getCategory().equals(SPORT) ? WORK : SPORT);
+                    break;
+                default:
+                    list.removeTask(task);
+            }
+        }
+        assertMatchesStream(list);
+    }
+
+    @Test
+    void categoryFilterIsOnlyEvaluatedOnceBound() {
+        TaskFilter work = TaskFilter.category(WORK);
+        TaskColumns columns = new TaskColumns();
+        assertThrows(IllegalStateException.class, () -> work.word(columns, 0, 0));
+
+        assertSame(TaskFilter.all(), work.bind(WORK));
+        assertSame(TaskFilter.none(), work.bind(HOME));
+        assertSame(TaskFilter.pending(), work.and(TaskFilter.pending()).bind(WORK));
+        assertSame(TaskFilter.none(), work.and(TaskFilter.pending()).bind(HOME));
+        assertSame(TaskFilter.all(), work.or(TaskFilter.completed()).bind(WORK));
+        assertSame(TaskFilter.completed(), work.or(TaskFilter.completed()).bind(HOME));
+        assertSame(TaskFilter.none(), work.not().bind(WORK));
+        assertSame(TaskFilter.none(), TaskFilter.hasDueDate().andNot(work).bind(WORK));
+        assertSame(TaskFilter.hasDueDate(), TaskFilter.hasDueDate().andNot(work).bind(HOME));
+
+        // Une combinaison spécialisée ne contient plus de filtre de catégorie
+        TaskFilter bound = work.and(TaskFilter.pending()).or(TaskFilter.category(HOME).andNot(TaskFilter.hasDueDate()))
+                .bind(HOME);
+        assertDoesNotThrow(() -> bound.word(columns, 0, 0));
+    }
+}
@@ -0,0 +1,119 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskQueryTest {
+
+    private static TodoList list() {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        for (int i = 0; i < 400; i++) {
+            String title = i % 10 == 0 ? "rapport " + i : "tâche " + i;
+            list.addTask(new Task("ID-" + (i * 7919 % 400), title, "", LocalDate.of(2026, 1, 1).plusDays(i % 30),
+                    i % 2 == 0 ? work : home, false, LocalDate.of(2026, 1, 1)));
+        }
+        // Déplacements : l'ordre de la liste n'est plus celui des ajouts
+        for (Task task : list.searchTasks("rapport").subList(0, 6)) {
+            task.setCategory(task.getCategory().equals(work) ? home : work);
+        }
+        return list;
+    }
+
+    @Test
+    void keywordQueryWithoutSortKeepsListOrder() {
+        TodoList list = list();
+        List<Task> expected = list.getAllTasks().stream()
+                .filter(task -> task.getTitle().startsWith("rapport"))
+                .collect(Collectors.toList());
+        assertEquals(40, expected.size());
+
+        assertEquals(expected, list.query(TaskQuery.builder().keyword("rapport").build()));
+        assertEquals(expected.subList(0, 5), list.query(TaskQuery.builder().keyword("rapport").limit(5).build()));
+        assertEquals(expected.subList(0, 5), list.searchTasks("rapport").subList(0, 5));
+    }
+
+    @Test
+    void sortedQueryWithHugeLimit() {
+        TodoList list = list();
+        List<Task> result = list.query(TaskQuery.builder().keyword("rapport")
+                .sortBy(TaskQuery.Sort.TITLE, true).limit(Integer.MAX_VALUE - 1).build());
+        assertEquals(40, result.size());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getTitle().compareTo(result.get(i).getTitle()) >= 0);
+        }
+    }
+
+    @Test
+    void keywordIsCheckedOnEveryCandidatePath() {
+        TodoList list = list();
+        Category work = list.findCategoryById("CAT-1");
+        LocalDate from = LocalDate.of(2026, 1, 3);
+        LocalDate to = LocalDate.of(2026, 1, 4);
+        // Mot-clé peu sélectif : les candidats viennent de l'index des échéances ou des colonnes
+        List<Task> byDueDate = list.getAllTasks().stream()
+                .filter(task -> task.getTitle().startsWith("tâche"))
+                .filter(task -> !task.getDueDate().isBefore(from) && !task.getDueDate().isAfter(to))
+                .collect(Collectors.toList());
+        List<Task> result = list.query(TaskQuery.builder().keyword("tâche").status(TaskQuery.Status.PENDING)
+                .dueBetween(from, to).build());
+        assertEquals(byDueDate.size(), result.size());
+        assertTrue(result.containsAll(byDueDate));
+
+        List<Task> byCategory = list.getTasksByCategory(work).stream()
+                .filter(task -> task.getTitle().startsWith("tâche"))
+                .collect(Collectors.toList());
+        assertEquals(byCategory, list.query(TaskQuery.builder().keyword("tâche").category(work).build()));
+
+        assertTrue(list.query(TaskQuery.builder().keyword("inconnu").category(work).build()).isEmpty());
+    }
+
+    @Test
+    void limitKeepsTheOrderOfTheFullResult() {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(work);
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        int[] offsets = {3, 1, 1, 2, 1, 1, 0, 1, 1, 1};
+        for (int i = 0; i < offsets.length; i++) {
+            list.addTask(new Task("T" + i, "tâche " + i, "", day.plusDays(offsets[i]), work, false, day));
+        }
+        List<Task> all = list.query(TaskQuery.builder().sortBy(TaskQuery.Sort.DUE_DATE).build());
+        assertEquals(List.of("T6", "T1", "T2", "T4", "T5", "T7"), all.subList(0, 6).stream()
+                .map(Task::getId).collect(Collectors.toList()));
+        assertEquals(all.subList(0, 6), list.query(TaskQuery.builder().sortBy(TaskQuery.Sort.DUE_DATE).limit(6).build()));
+    }
+
+    @Test
+    void limitReturnsThePrefixOfTheUnlimitedQuery() {
+        TodoList list = list();
+        LocalDate from = LocalDate.of(2026, 1, 5);
+        LocalDate to = LocalDate.of(2026, 1, 12);
+        for (TaskQuery.Sort sort : TaskQuery.Sort.values()) {
+            for (boolean descending : new boolean[]{false, true}) {
+                for (TaskQuery.Status status : TaskQuery.Status.values()) {
+                    TaskQuery.Builder unlimited = TaskQuery.builder().status(status).sortBy(sort, descending);
+                    TaskQuery.Builder inRange = TaskQuery.builder().status(status).sortBy(sort, descending)
+                            .dueBetween(from, to);
+                    List<Task> all = list.query(unlimited.build());
+                    List<Task> range = list.query(inRange.build());
+                    for (int k : new int[]{0, 1, 7, 25, 60}) {
+                        String context = sort + (descending ? " desc " : " ") + status + " limit " + k;
+                        assertEquals(all.subList(0, Math.min(k, all.size())),
+                                list.query(unlimited.limit(k).build()), context);
+                        assertEquals(range.subList(0, Math.min(k, range.size())),
+                                list.query(inRange.limit(k).build()), context + " dueBetween");
+                    }
+                }
+            }
+        }
+    }
+}
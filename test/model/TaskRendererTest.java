@@ -0,0 +1,79 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRendererTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+
+    /** Format de Task.toString avant le moteur de rendu */
+    private static String baseline(Task task, LocalDate today) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        LocalDate dueDate = task.getDueDate();
+        String dueDateStr = dueDate != null ? dueDate.format(formatter) : "Non définie";
+        String status = task.isCompleted() ? "Terminée"
+                : (dueDate != null && dueDate.isBefore(today) ? "En retard" : "À faire");
+        return String.format("[%s] %s - %s - Échéance: %s - Catégorie: %s - %s",
+                task.getId(), task.getTitle(), task.getDescription(), dueDateStr,
+                task.getCategory().getName(), status);
+    }
+
+    private static Task[] tasks(Category category) {
+        return new Task[]{
+                new Task("T1", "Sans date", "aucune échéance", null, category, false, TODAY),
+                new Task("T2", "Hier", "en retard", TODAY.minusDays(1), category, false, TODAY),
+                new Task("T3", "Aujourd'hui", "pas encore en retard", TODAY, category, false, TODAY),
+                new Task("T4", "Terminée", "passée mais terminée", TODAY.minusDays(30), category, true, TODAY),
+                new Task("T5", "Sans description", null, TODAY.plusDays(3), category, false, TODAY)
+        };
+    }
+
+    @Test
+    void rendersTheBaselineFormatForEveryStatus() {
+        Category category = new Category("CAT-1", "Travail", "BLUE");
+        TaskRenderer renderer = new TaskRenderer(TODAY);
+        for (Task task : tasks(category)) {
+            assertEquals(baseline(task, TODAY), renderer.render(task));
+        }
+        assertEquals("[T2] Hier - en retard - Échéance: 14/06/2026 - Catégorie: Travail - En retard",
+                renderer.render(tasks(category)[1]));
+        assertEquals("[T5] Sans description - null - Échéance: 18/06/2026 - Catégorie: Travail - À faire",
+                renderer.render(tasks(category)[4]));
+    }
+
+    @Test
+    void rendersListedTasksFromTheColumns() {
+        Category category = new Category("CAT-1", "Travail", "BLUE");
+        TodoList list = new TodoList();
+        list.addCategory(category);
+        TaskRenderer renderer = new TaskRenderer(TODAY);
+        StringBuilder out = new StringBuilder();
+        for (Task task : tasks(category)) {
+            list.addTask(task);
+            out.setLength(0);
+            assertEquals(baseline(task, TODAY), renderer.render(task, out).toString());
+        }
+        // Le lendemain, la tâche du jour passe en retard
+        Task today = list.findTaskById("T3");
+        assertTrue(new TaskRenderer(TODAY.plusDays(1)).render(today).endsWith(" - En retard"));
+        assertEquals(baseline(today, TODAY.plusDays(1)), new TaskRenderer(TODAY.plusDays(1)).render(today));
+    }
+
+    @Test
+    void dateCacheSlotCollision() {
+        long day = TODAY.toEpochDay();
+        long colliding = day + 4096;
+        for (int i = 0; i < 3; i++) {
+            assertEquals("15/06/2026", TaskRenderer.format(day));
+            assertEquals(LocalDate.ofEpochDay(colliding).format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                    TaskRenderer.format(colliding));
+            assertEquals("15/06/2026", TaskRenderer.format(TODAY));
+        }
+        assertEquals("01/01/1970", TaskRenderer.format(0));
+        assertEquals("31/12/1969", TaskRenderer.format(-1));
+    }
+}
@@ -0,0 +1,143 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSpliteratorTest {
+
+    /** Trois catégories de tailles très différentes, dont une assez grande pour être découpée */
+    private static TodoList list() {
+        TodoList list = new TodoList();
+        int[] sizes = {1_000, 3, 250};
+        LocalDate today = LocalDate.of(2026, 1, 1);
+        for (int c = 0; c < sizes.length; c++) {
+            Category category = new Category("CAT-" + c, "Catégorie " + c, "BLUE");
+            list.addCategory(category);
+            for (int i = 0; i < sizes[c]; i++) {
+                list.addTask(new Task("T-" + c + "-" + i, "tâche " + i, "", today.plusDays(i % 7),
+                        category, i % 3 == 0, today));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Découpe récursivement un spliterator en vérifiant ses tailles annoncées,
+     * et ajoute les tâches parcourues dans l'ordre (préfixe avant le reste)
+     */
+    private static void drain(Spliterator<Task> spliterator, List<Task> out) {
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        long size = spliterator.estimateSize();
+        int before = out.size();
+        Spliterator<Task> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            if (spliterator.tryAdvance(out::add)) {
+                assertEquals(size - 1, spliterator.estimateSize());
+            }
+            spliterator.forEachRemaining(out::add);
+        } else {
+            assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+            drain(prefix, out);
+            drain(spliterator, out);
+        }
+        assertEquals(size, out.size() - before);
+    }
+
+    private static void assertSplitsCoverEveryTask(TodoList list) {
+        List<Task> all = list.getAllTasks();
+        assertEquals(list.getTaskCount(), list.tasks().spliterator().estimateSize());
+        List<Task> visited = new ArrayList<>();
+        drain(list.tasks().spliterator(), visited);
+        assertEquals(all, visited);
+        assertEquals(new HashSet<>(all), list.tasks().parallel().collect(Collectors.toSet()));
+        assertEquals(all.size(), list.tasks().parallel().count());
+        assertEquals(all, list.tasks().parallel().collect(Collectors.toList()));
+
+        List<Task> forEach = new ArrayList<>();
+        list.forEachTask(forEach::add);
+        assertEquals(all, forEach);
+    }
+
+    @Test
+    void splitsCoverEveryTaskExactlyOnce() {
+        assertSplitsCoverEveryTask(list());
+    }
+
+    @Test
+    void sizesStayExactAfterRemovals() {
+        TodoList list = list();
+        // Quelques suppressions : emplacements libres, sans compactage
+        for (int i = 0; i < 1_000; i += 50) {
+            assertTrue(list.removeTask(list.findTaskById("T-0-" + i)));
+        }
+        list.removeTask(list.findTaskById("T-1-1"));
+        assertSplitsCoverEveryTask(list);
+
+        // Assez de suppressions pour compacter la grande catégorie
+        for (int i = 1; i < 1_000; i += 2) {
+            Task task = list.findTaskById("T-0-" + i);
+            if (task != null) {
+                list.removeTask(task);
+            }
+        }
+        assertSplitsCoverEveryTask(list);
+
+        // Catégorie vidée puis supprimée
+        list.removeCategory(list.findCategoryById("CAT-1"));
+        assertSplitsCoverEveryTask(list);
+    }
+
+    @Test
+    void tasksViewFollowsChangesAndRejectsWrites() {
+        TodoList list = list();
+        Category category = list.findCategoryById("CAT-1");
+        List<Task> view = list.getTasksView(category);
+        assertEquals(3, view.size());
+
+        Task added = new Task("T-new", "nouvelle", "", null, category, false, LocalDate.of(2026, 1, 1));
+        list.addTask(added);
+        assertEquals(4, view.size());
+        assertSame(added, view.get(3));
+
+        Task first = view.get(0);
+        list.removeTask(first);
+        assertEquals(3, view.size());
+        assertFalse(view.contains(first));
+
+        Task moved = view.get(0);
+        moved.setCategory(list.findCategoryById("CAT-2"));
+        assertEquals(List.of("T-1-2", "T-new"), view.stream().map(Task::getId).collect(Collectors.toList()));
+
+        Task other = view.get(0);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(added));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(other));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, added));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertEquals(2, view.size());
+
+        assertTrue(list.getTasksView(new Category("CAT-X", "Inconnue", "RED")).isEmpty());
+    }
+
+    @Test
+    void viewOfARemovedCategoryStaysReadOnly() {
+        TodoList list = list();
+        Category category = list.findCategoryById("CAT-1");
+        List<Task> view = list.getTasksView(category);
+        Set<Task> before = new HashSet<>(view);
+        list.removeCategory(category);
+        assertTrue(list.getTasksView(category).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        for (Task task : before) {
+            assertNull(list.findTaskById(task.getId()));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoListBatchTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private TodoList list;
+    private Category work;
+    private Category home;
+    private final List<String> events = new ArrayList<>();
+
+    /** Enregistre chaque notification, groupée ou unitaire */
+    private class Recorder implements TodoListListener {
+        @Override
+        public void taskAdded(Task task) {
+            events.add("taskAdded " + task.getId());
+        }
+
+        @Override
+        public void taskRemoved(Task task) {
+            events.add("taskRemoved " + task.getId());
+        }
+
+        @Override
+        public void taskCompletionChanged(Task task) {
+            events.add("taskCompletionChanged " + task.getId());
+        }
+
+        @Override
+        public void taskUpdated(Task task) {
+            events.add("taskUpdated " + task.getId());
+        }
+
+        @Override
+        public void tasksAdded(List<Task> tasks) {
+            events.add("tasksAdded " + ids(tasks));
+        }
+
+        @Override
+        public void tasksRemoved(List<Task> tasks) {
+            events.add("tasksRemoved " + ids(tasks));
+        }
+
+        @Override
+        public void tasksCompletionChanged(List<Task> tasks) {
+            events.add("tasksCompletionChanged " + ids(tasks));
+        }
+
+        @Override
+        public void tasksUpdated(List<Task> tasks) {
+            events.add("tasksUpdated " + ids(tasks));
+        }
+    }
+
+    private static List<String> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        list = new TodoList();
+        work = new Category("CAT-1", "Travail", "BLUE");
+        home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        list.addListener(new Recorder());
+    }
+
+    private static Task task(String id, String title, LocalDate dueDate, Category category, boolean completed) {
+        return new Task(id, title, "", dueDate, category, completed, TODAY.minusDays(30));
+    }
+
+    /** Lot mélangé : retards, échéances proches, sans échéance, déjà terminée, deux catégories */
+    private List<Task> batch() {
+        return List.of(
+                task("T-1", "rapport annuel", TODAY.minusDays(3), work, false),
+                task("T-2", "courses", TODAY.plusDays(2), home, false),
+                task("T-3", "rapport mensuel", null, work, false),
+                task("T-4", "ménage", TODAY.minusDays(1), home, true),
+                task("T-5", "réunion", TODAY.plusDays(1), work, false));
+    }
+
+    /** Vérifie compteurs, index et colonnes contre un parcours des tâches */
+    private void assertConsistent() {
+        List<Task> all = list.getAllTasks();
+        long completed = all.stream().filter(Task::isCompleted).count();
+        assertEquals(all.size(), list.getTaskCount());
+        assertEquals(completed, list.getCompletedCount());
+        assertEquals(all.size() - completed, list.getPendingCount());
+        for (Category category : list.getCategories()) {
+            List<Task> tasks = list.getTasksByCategory(category);
+            assertEquals(tasks.size(), list.getTaskCount(category), category.getName());
+            assertEquals(tasks.stream().filter(Task::isCompleted).count(), list.getCompletedCount(category),
+                    category.getName());
+            for (Task task : tasks) {
+                assertSame(category, task.getCategory());
+            }
+        }
+
+        // Index des identifiants et plein texte
+        for (Task task : all) {
+            assertSame(task, list.findTaskById(task.getId()));
+            assertTrue(list.searchTasks(task.getTitle()).contains(task), task.getTitle());
+        }
+
+        // Index des échéances
+        List<Task> overdue = all.stream()
+                .filter(task -> !task.isCompleted() && task.getDueDate() != null && task.getDueDate().isBefore(TODAY))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(overdue), new HashSet<>(list.getOverdueTasks()));
+        List<Task> upcoming = all.stream()
+                .filter(task -> !task.isCompleted() && task.getDueDate() != null
+                        && !task.getDueDate().isBefore(TODAY) && !task.getDueDate().isAfter(TODAY.plusDays(7)))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(upcoming), new HashSet<>(list.getUpcomingTasks(7)));
+
+        // Colonnes de bits
+        assertEquals(all.stream().filter(Task::isCompleted).collect(Collectors.toList()),
+                list.filterTasks(TaskFilter.completed()));
+        assertEquals(all.stream().filter(task -> !task.isCompleted()).collect(Collectors.toList()),
+                list.filterTasks(TaskFilter.pending()));
+        assertEquals(all.stream().filter(task -> task.getDueDate() != null).collect(Collectors.toList()),
+                list.filterTasks(TaskFilter.hasDueDate()));
+        assertEquals(overdue, list.filterTasks(TaskFilter.overdue()));
+    }
+
+    @Test
+    void addTasksSkipsRejectedTasksAndNotifiesOnce() {
+        list.addTask(task("T-0", "existante", null, work, false));
+        events.clear();
+
+        TodoList other = new TodoList();
+        other.addCategory(work);
+        Task foreign = task("T-9", "ailleurs", null, work, false);
+        other.addTask(foreign);
+
+        List<Task> tasks = new ArrayList<>(batch());
+        tasks.add(task("T-0", "identifiant déjà présent", null, work, false));
+        tasks.add(task("T-1", "identifiant en double dans le lot", null, home, false));
+        tasks.add(task("T-8", "catégorie inconnue", null, new Category("CAT-3", "Inconnue", "RED"), false));
+        tasks.add(foreign);
+
+        assertEquals(5, list.addTasks(tasks));
+        assertEquals(List.of("tasksAdded [T-1, T-2, T-3, T-4, T-5]"), events);
+        assertEquals("rapport annuel", list.findTaskById("T-1").getTitle());
+        assertEquals("existante", list.findTaskById("T-0").getTitle());
+        assertSame(other, foreign.getOwner());
+        assertEquals(6, list.getTaskCount());
+        assertEquals(1, list.getCompletedCount());
+        assertConsistent();
+
+        events.clear();
+        assertEquals(0, list.addTasks(batch()), "tous déjà présents");
+        assertEquals(0, list.addTasks(List.of()));
+        assertTrue(events.isEmpty(), "aucune notification pour un lot sans effet");
+    }
+
+    @Test
+    void completeTasksNotifiesOnceForPendingMatches() {
+        list.addTasks(batch());
+        events.clear();
+
+        // T-4 est déjà terminée : elle n'est ni comptée ni notifiée
+        assertEquals(2, list.completeTasks(task -> task.getTitle().startsWith("r") && !task.getId().equals("T-5")
+                || task.getId().equals("T-4")));
+        assertEquals(List.of("tasksCompletionChanged [T-1, T-3]"), events);
+        assertTrue(list.findTaskById("T-1").isCompleted());
+        assertEquals(3, list.getCompletedCount());
+        assertEquals(1, list.getCompletedCount(home));
+        assertTrue(list.getOverdueTasks().isEmpty());
+        assertConsistent();
+
+        events.clear();
+        assertEquals(0, list.completeTasks(task -> task.getId().equals("T-1")));
+        assertTrue(events.isEmpty());
+
+        // Une tâche terminée par lot peut redevenir à faire, une par une
+        list.findTaskById("T-1").markAsIncomplete();
+        assertConsistent();
+    }
+
+    @Test
+    void removeTasksIgnoresUnknownAndRepeatedIds() {
+        list.addTasks(batch());
+        events.clear();
+
+        assertEquals(3, list.removeTasks(List.of("T-1", "T-404", "T-4", "T-1", "T-5")));
+        assertEquals(List.of("tasksRemoved [T-1, T-4, T-5]"), events);
+        assertNull(list.findTaskById("T-1"));
+        assertTrue(list.searchTasks("annuel").isEmpty());
+        assertTrue(list.searchTasks("réunion").isEmpty());
+        assertEquals(0, list.getCompletedCount());
+        assertEquals(List.of("T-3"), ids(list.getTasksByCategory(work)));
+        assertConsistent();
+
+        events.clear();
+        assertEquals(0, list.removeTasks(List.of("T-1", "T-404")));
+        assertTrue(events.isEmpty());
+
+        // Les tâches retirées n'appartiennent plus à la liste et peuvent y revenir
+        Task removed = batch().get(0);
+        assertTrue(list.addTask(removed));
+        assertConsistent();
+    }
+
+    @Test
+    void moveTasksIgnoresUnknownIdsAndTasksAlreadyInTheCategory() {
+        list.addTasks(batch());
+        events.clear();
+
+        assertEquals(0, list.moveTasks(List.of("T-1"), new Category("CAT-3", "Inconnue", "RED")));
+        assertTrue(events.isEmpty());
+        assertSame(work, list.findTaskById("T-1").getCategory());
+
+        assertEquals(1, list.moveTasks(List.of("T-1", "T-2", "T-404", "T-4", "T-1"), home));
+        assertEquals(List.of("tasksUpdated [T-1]"), events, "T-2 et T-4 étaient déjà dans Maison");
+        assertEquals(List.of("T-3", "T-5"), ids(list.getTasksByCategory(work)));
+        assertEquals(List.of("T-2", "T-4", "T-1"), ids(list.getTasksByCategory(home)));
+        assertConsistent();
+
+        // Une tâche terminée déplacée emporte son état dans les compteurs de la catégorie
+        events.clear();
+        assertEquals(1, list.moveTasks(List.of("T-4"), work));
+        assertEquals(1, list.getCompletedCount(work));
+        assertEquals(0, list.getCompletedCount(home));
+        assertConsistent();
+    }
+}
@@ -0,0 +1,217 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoListTest {
+    private static final LocalDate CREATED = LocalDate.of(2026, 1, 1);
+
+    private TodoList list;
+    private Category work;
+    private Category home;
+
+    @BeforeEach
+    void setUp() {
+        list = new TodoList();
+        work = new Category("CAT-1", "Travail", "BLUE");
+        home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+    }
+
+    private Task task(String id, Category category) {
+        return new Task(id, "tâche " + id, "", null, category, false, CREATED);
+    }
+
+    @Test
+    void idIndexFollowsAddMoveAndRemove() {
+        Task first = task("T-1", work);
+        Task second = task("T-2", home);
+        assertTrue(list.addTask(first));
+        assertTrue(list.addTask(second));
+        assertSame(first, list.findTaskById("T-1"));
+        assertSame(second, list.findTaskById("T-2"));
+        assertNull(list.findTaskById("T-3"));
+        assertNull(list.findTaskById(null));
+
+        first.setCategory(home);
+        assertSame(first, list.findTaskById("T-1"));
+
+        assertTrue(list.removeTask(first));
+        assertNull(list.findTaskById("T-1"));
+        assertFalse(list.removeTask(first));
+
+        list.removeCategory(home);
+        assertNull(list.findTaskById("T-2"));
+        assertEquals(0, list.getTaskCount());
+    }
+
+    @Test
+    void duplicateIdAndForeignTaskAreRejected() {
+        Task original = task("T-1", work);
+        list.addTask(original);
+        assertFalse(list.addTask(task("T-1", home)));
+        assertSame(original, list.findTaskById("T-1"));
+
+        TodoList other = new TodoList();
+        other.addCategory(work);
+        assertFalse(other.addTask(original), "une tâche n'appartient qu'à une liste");
+        assertFalse(list.addTask(task("T-2", new Category("CAT-3", "Inconnue", "RED"))));
+        assertEquals(1, list.getTaskCount());
+
+        // Une fois retirée, la tâche peut rejoindre une autre liste
+        list.removeTask(original);
+        assertTrue(other.addTask(original));
+    }
+
+    private static TodoList copyOf(TodoList source) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(source);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (TodoList) in.readObject();
+        }
+    }
+
+    /** Vérifie les compteurs de la liste contre un parcours des tâches */
+    private static void assertCountersMatchTasks(TodoList list) {
+        int completed = 0;
+        for (Task task : list.getAllTasks()) {
+            if (task.isCompleted()) {
+                completed++;
+            }
+        }
+        assertEquals(list.getAllTasks().size(), list.getTaskCount());
+        assertEquals(completed, list.getCompletedCount());
+        assertEquals(list.getTaskCount() - completed, list.getPendingCount());
+        for (Category category : list.getCategories()) {
+            List<Task> tasks = list.getTasksByCategory(category);
+            assertEquals(tasks.size(), list.getTaskCount(category), category.getName());
+            assertEquals(tasks.stream().filter(Task::isCompleted).count(), list.getCompletedCount(category),
+                    category.getName());
+        }
+    }
+
+    @Test
+    void countersFollowEveryMutation() throws Exception {
+        assertEquals(0.0, list.getCompletionRate());
+        Task first = task("T-1", work);
+        Task second = task("T-2", work);
+        Task third = new Task("T-3", "déjà faite", "", null, home, true, CREATED);
+        list.addTask(first);
+        list.addTask(second);
+        list.addTask(third);
+        assertCountersMatchTasks(list);
+        assertEquals(1, list.getCompletedCount());
+        assertEquals(100.0 / 3, list.getCompletionRate(), 1e-9);
+
+        first.markAsCompleted();
+        first.markAsCompleted();
+        assertEquals(2, list.getCompletedCount());
+        assertEquals(2, list.getCompletedCount(work) + list.getCompletedCount(home));
+        first.setCategory(home);
+        assertEquals(2, list.getCompletedCount(home));
+        assertCountersMatchTasks(list);
+
+        third.markAsIncomplete();
+        list.removeTask(first);
+        assertEquals(0, list.getCompletedCount());
+        assertEquals(2, list.getPendingCount());
+        assertCountersMatchTasks(list);
+
+        second.markAsCompleted();
+        TodoList copy = copyOf(list);
+        assertCountersMatchTasks(copy);
+        assertEquals(50.0, copy.getCompletionRate());
+
+        list.removeCategory(work);
+        assertEquals(0, list.getCompletedCount());
+        assertEquals(1, list.getPendingCount());
+        assertEquals(0, list.getTaskCount(work));
+        assertCountersMatchTasks(list);
+
+        // Une tâche retirée ne modifie plus les compteurs
+        second.markAsIncomplete();
+        first.markAsIncomplete();
+        assertCountersMatchTasks(list);
+    }
+
+    @Test
+    void idIndexIsRebuiltAfterDeserialization() throws Exception {
+        list.addTask(task("T-1", work));
+        list.addTask(task("T-2", home));
+
+        TodoList copy = copyOf(list);
+        Task restored = copy.findTaskById("T-1");
+        assertNotNull(restored);
+        assertEquals("CAT-1", restored.getCategory().getId());
+        assertNotNull(copy.findTaskById("T-2"));
+        assertTrue(copy.removeTask(restored));
+        assertNull(copy.findTaskById("T-1"));
+        assertEquals(1, copy.getTaskCount());
+    }
+
+    @Test
+    void filteredPagesMatchTheFilteredList() {
+        // Plus de 64 tâches par catégorie : les pages chevauchent les mots des colonnes
+        for (int i = 0; i < 300; i++) {
+            list.addTask(new Task("T-" + i, "tâche " + i, "", null, i < 170 ? work : home, i % 3 == 0, CREATED));
+        }
+        List<Task> pending = list.getPendingTasks();
+        for (int offset : new int[]{0, 7, 63, 64, 100, 113, 199, 200, 250}) {
+            for (int limit : new int[]{1, 20, 64}) {
+                List<Task> expected = pending.subList(Math.min(offset, pending.size()),
+                        Math.min(pending.size(), offset + limit));
+                assertEquals(expected, list.getTasksPage(TaskFilter.pending(), offset, limit), offset + "/" + limit);
+            }
+        }
+        assertEquals(list.getTasksPage(0, 300), list.getTasksPage(TaskFilter.all(), 0, 300));
+        assertTrue(list.getTasksPage(TaskFilter.completed(), 100, 20).isEmpty());
+    }
+
+    @Test
+    void columnsHoldTheScalarsOfListedTasks() throws Exception {
+        LocalDate due = LocalDate.of(2026, 2, 1);
+        Task task = new Task("T-1", "rapport", "", due, work, false, CREATED);
+        list.addTask(task);
+        assertEquals(due, task.getDueDate());
+        assertEquals(CREATED, task.getCreationDate());
+
+        // Les valeurs écrites par la tâche sont celles que lisent les filtres
+        task.setDueDate(due.plusDays(3));
+        task.markAsCompleted();
+        assertEquals(List.of(task), list.filterTasks(TaskFilter.completed()));
+        assertEquals(due.plusDays(3), task.getDueDate());
+        assertEquals(1, list.countTasks(TaskFilter.hasDueDate()));
+
+        // Sauvegardée puis relue : mêmes valeurs
+        Task restored = copyOf(list).findTaskById("T-1");
+        assertEquals(due.plusDays(3), restored.getDueDate());
+        assertEquals(CREATED, restored.getCreationDate());
+        assertTrue(restored.isCompleted());
+
+        // Déplacée, puis retirée avec sa catégorie : la tâche garde ses valeurs
+        task.setCategory(home);
+        assertEquals(due.plusDays(3), task.getDueDate());
+        assertTrue(task.isCompleted());
+        list.removeCategory(home);
+        task.setDueDate(null);
+        task.markAsIncomplete();
+        assertNull(task.getDueDate());
+        assertFalse(task.isCompleted());
+        assertEquals(CREATED, task.getCreationDate());
+        assertEquals(0, list.countTasks(TaskFilter.all()));
+        assertTrue(list.addTask(new Task("T-2", "autre", "", null, work, false, CREATED)));
+        assertTrue(list.filterTasks(TaskFilter.completed()).isEmpty());
+    }
+}
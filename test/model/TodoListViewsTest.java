@@ -0,0 +1,214 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoListViewsTest {
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    /**
+     * Horloge réglée à la main
+     */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(23, 0).atZone(ZONE).toInstant());
+
+    private TodoList list() {
+        TodoList list = new TodoList(clock);
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(work);
+        list.addCategory(new Category("CAT-2", "Maison", "GREEN"));
+        LocalDate created = TODAY.minusDays(30);
+        list.addTask(new Task("T-1", "b", "", TODAY.minusDays(1), work, false, created));
+        list.addTask(new Task("T-2", "a", "", TODAY.minusDays(5), work, false, created));
+        list.addTask(new Task("T-3", "c", "", TODAY.plusDays(2), work, false, created));
+        list.addTask(new Task("T-4", "d", "", TODAY, work, true, created));
+        list.addTask(new Task("T-5", "e", "", null, work, false, created));
+        return list;
+    }
+
+    @Test
+    void viewsAreReadOnlySnapshots() {
+        TodoList list = list();
+        List<Task> pending = list.getPendingTasks();
+        assertThrows(UnsupportedOperationException.class, () -> pending.sort(Comparator.comparing(Task::getTitle)));
+        assertThrows(UnsupportedOperationException.class, pending::clear);
+        assertThrows(UnsupportedOperationException.class, () -> list.getUpcomingTasks(7).add(list.findTaskById("T-1")));
+        assertThrows(UnsupportedOperationException.class, () -> list.getOverdueTasks().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.getCompletedTasks().remove(0));
+
+        // Copie pour trier, comme les appelants doivent le faire
+        List<Task> sorted = new ArrayList<>(pending);
+        sorted.sort(Comparator.comparing(Task::getTitle));
+        assertEquals("a", sorted.get(0).getTitle());
+
+        // Une vue déjà renvoyée ne suit pas les modifications suivantes
+        list.findTaskById("T-1").markAsCompleted();
+        assertEquals(4, pending.size());
+        assertEquals(3, list.getPendingTasks().size());
+    }
+
+    @Test
+    void overdueTasksAreSortedByDueDate() {
+        TodoList list = list();
+        assertEquals(List.of(list.findTaskById("T-2"), list.findTaskById("T-1")), list.getOverdueTasks());
+    }
+
+    @Test
+    void viewsFollowModifications() {
+        TodoList list = list();
+        assertEquals(2, list.getOverdueTasks().size());
+        assertEquals(1, list.getUpcomingTasks(7).size());
+
+        list.findTaskById("T-2").markAsCompleted();
+        list.findTaskById("T-5").setDueDate(TODAY.plusDays(1));
+
+        assertEquals(List.of(list.findTaskById("T-1")), list.getOverdueTasks());
+        assertEquals(List.of(list.findTaskById("T-5"), list.findTaskById("T-3")), list.getUpcomingTasks(7));
+        assertEquals(2, list.getCompletedTasks().size());
+        assertEquals(3, list.getPendingTasks().size());
+    }
+
+    @Test
+    void unchangedListReturnsTheCachedViews() {
+        TodoList list = list();
+        List<Task> pending = list.getPendingTasks();
+        List<Task> overdue = list.getOverdueTasks();
+        assertSame(pending, list.getPendingTasks());
+        assertSame(overdue, list.getOverdueTasks());
+
+        // Le texte et la catégorie (renommée) ne changent aucune vue
+        list.findTaskById("T-1").setTitle("nouveau titre");
+        list.findCategoryById("CAT-1").setName("Bureau");
+        assertSame(pending, list.getPendingTasks());
+        assertSame(overdue, list.getOverdueTasks());
+    }
+
+    @Test
+    void dueDateChangeKeepsTheStatusViews() {
+        TodoList list = list();
+        List<Task> pending = list.getPendingTasks();
+        List<Task> completed = list.getCompletedTasks();
+        List<Task> overdue = list.getOverdueTasks();
+
+        list.findTaskById("T-3").setDueDate(TODAY.minusDays(2));
+        assertSame(pending, list.getPendingTasks());
+        assertSame(completed, list.getCompletedTasks());
+        assertEquals(List.of("T-2", "T-3", "T-1"), ids(list.getOverdueTasks()));
+        assertNotSame(overdue, list.getOverdueTasks());
+
+        // Une tâche terminée n'est dans aucune vue par échéance
+        List<Task> upcoming = list.getUpcomingTasks(7);
+        list.findTaskById("T-4").setDueDate(TODAY.plusDays(1));
+        assertSame(upcoming, list.getUpcomingTasks(7));
+    }
+
+    @Test
+    void completionChangeUpdatesStatusViewsAndDueViewsOnlyWithADueDate() {
+        TodoList list = list();
+        List<Task> overdue = list.getOverdueTasks();
+        List<Task> upcoming = list.getUpcomingTasks(7);
+
+        // Sans échéance : les vues par échéance restent en place
+        list.findTaskById("T-5").setCompleted(true);
+        assertEquals(List.of("T-1", "T-2", "T-3"), ids(list.getPendingTasks()));
+        assertEquals(List.of("T-4", "T-5"), ids(list.getCompletedTasks()));
+        assertSame(overdue, list.getOverdueTasks());
+        assertSame(upcoming, list.getUpcomingTasks(7));
+
+        list.findTaskById("T-1").setCompleted(true);
+        assertEquals(List.of("T-2"), ids(list.getOverdueTasks()));
+        assertEquals(List.of("T-2", "T-3"), ids(list.getPendingTasks()));
+        assertEquals(List.of("T-3"), ids(list.getUpcomingTasks(7)));
+    }
+
+    @Test
+    void categoryMoveUpdatesOnlyTheStatusViews() {
+        TodoList list = list();
+        List<Task> overdue = list.getOverdueTasks();
+        assertEquals(List.of("T-1", "T-2", "T-3", "T-5"), ids(list.getPendingTasks()));
+
+        list.findTaskById("T-1").setCategory(list.findCategoryById("CAT-2"));
+        assertEquals(List.of("T-2", "T-3", "T-5", "T-1"), ids(list.getPendingTasks()));
+        assertSame(overdue, list.getOverdueTasks(), "l'ordre par échéance ne dépend pas de la catégorie");
+    }
+
+    @Test
+    void dayChangeUpdatesOnlyTheDueViews() {
+        TodoList list = list();
+        List<Task> pending = list.getPendingTasks();
+        assertEquals(List.of("T-2", "T-1"), ids(list.getOverdueTasks()));
+        assertTrue(list.getUpcomingTasks(1).isEmpty());
+
+        // 23 h + 2 h : le lendemain
+        clock.advance(Duration.ofHours(2));
+        assertEquals(List.of("T-2", "T-1"), ids(list.getOverdueTasks()));
+        assertEquals(List.of("T-3"), ids(list.getUpcomingTasks(1)), "échéance T-3 = demain du nouveau jour");
+        assertSame(pending, list.getPendingTasks());
+
+        clock.advance(Duration.ofDays(2));
+        assertEquals(List.of("T-2", "T-1", "T-3"), ids(list.getOverdueTasks()));
+        assertTrue(list.getUpcomingTasks(1).isEmpty());
+        assertSame(pending, list.getPendingTasks());
+    }
+
+    @Test
+    void filtersOnTheDueDateFollowTheSameClock() {
+        TodoList list = list();
+        // Dans le fuseau de l'horloge, T-3 n'est en retard que dans trois jours
+        clock.advance(Duration.ofDays(3).plusHours(2));
+        List<String> overdue = List.of("T-1", "T-2", "T-3");
+        assertEquals(overdue, ids(list.filterTasks(TaskFilter.overdue())));
+        assertEquals(3, list.countTasks(TaskFilter.overdue()));
+        assertEquals(overdue, ids(list.getTasksPage(TaskFilter.overdue(), 0, 10)));
+        List<Task> visited = new ArrayList<>();
+        list.forEachTask(TaskFilter.overdue(), visited::add);
+        assertEquals(overdue, ids(visited));
+        assertEquals(List.of("T-2", "T-1", "T-3"), ids(list.getOverdueTasks()));
+    }
+
+    private static List<String> ids(List<Task> tasks) {
+        List<String> ids = new ArrayList<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+}
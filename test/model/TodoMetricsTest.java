@@ -0,0 +1,85 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoMetricsTest {
+    private final TodoList list = new TodoList();
+    private final Category work = new Category("CAT-1", "Travail", "BLUE");
+
+    @BeforeEach
+    void setUp() {
+        TodoMetrics.reset();
+        TodoMetrics.setEnabled(true);
+        list.addCategory(work);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TodoMetrics.setEnabled(true);
+        TodoMetrics.reset();
+    }
+
+    private Task task(int i) {
+        return new Task("T-" + i, "tâche " + i, "", null, work, false, LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    void operationsOfTheListAreCounted() {
+        for (int i = 0; i < 3; i++) {
+            list.addTask(task(i));
+        }
+        list.addTask(task(0));
+        list.searchTasks("tâche");
+        list.findTaskById("T-1");
+
+        assertEquals(4, TodoMetrics.getCallCount(TodoMetrics.Operation.ADD_TASK), "refus compris");
+        assertEquals(1, TodoMetrics.getCallCount(TodoMetrics.Operation.SEARCH));
+        assertEquals(1, TodoMetrics.getCallCount(TodoMetrics.Operation.FIND_TASK));
+        assertEquals(0, TodoMetrics.getCallCount(TodoMetrics.Operation.REMOVE_TASK));
+
+        long max = TodoMetrics.getMaxNanos(TodoMetrics.Operation.ADD_TASK);
+        assertTrue(max > 0);
+        assertTrue(TodoMetrics.getMeanNanos(TodoMetrics.Operation.ADD_TASK) <= max);
+        assertTrue(TodoMetrics.getPercentileNanos(TodoMetrics.Operation.ADD_TASK, 50) <= max);
+        assertEquals(max, TodoMetrics.getPercentileNanos(TodoMetrics.Operation.ADD_TASK, 100));
+        assertEquals(0, TodoMetrics.getPercentileNanos(TodoMetrics.Operation.REMOVE_TASK, 99));
+
+        String report = TodoMetrics.report();
+        assertTrue(report.contains("add_task"), report);
+        assertFalse(report.contains("remove_task"), "opérations jamais appelées absentes du rapport");
+
+        TodoMetrics.reset();
+        assertEquals(0, TodoMetrics.getCallCount(TodoMetrics.Operation.ADD_TASK));
+        assertEquals(0, TodoMetrics.getMaxNanos(TodoMetrics.Operation.ADD_TASK));
+    }
+
+    @Test
+    void disabledMetricsRecordNothing() {
+        TodoMetrics.setEnabled(false);
+        assertEquals(0, TodoMetrics.start());
+        list.addTask(task(1));
+        TodoMetrics.addBytesWritten(100);
+        TodoMetrics.record(TodoMetrics.Operation.SAVE, 0);
+        assertEquals(0, TodoMetrics.getCallCount(TodoMetrics.Operation.ADD_TASK));
+        assertEquals(0, TodoMetrics.getBytesWritten());
+
+        // Les mesures déjà prises sont conservées
+        TodoMetrics.setEnabled(true);
+        TodoMetrics.addBytesRead(42);
+        TodoMetrics.setEnabled(false);
+        assertEquals(42, TodoMetrics.getBytesRead());
+    }
+
+    @Test
+    void durationsAreFormattedInTheMostReadableUnit() {
+        assertEquals("950 ns", TodoMetrics.formatNanos(950));
+        assertEquals("12 µs", TodoMetrics.formatNanos(12_345));
+        assertEquals("25 ms", TodoMetrics.formatNanos(25_000_000));
+    }
+}
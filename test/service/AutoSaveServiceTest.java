@@ -0,0 +1,103 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoSaveServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final TodoList list = new TodoList();
+    private final Category work = new Category("CAT-1", "Travail", "BLUE");
+
+    private void addTask(int i) {
+        synchronized (list) {
+            if (list.findCategoryById(work.getId()) == null) {
+                list.addCategory(work);
+            }
+            list.addTask(new Task("T-" + i, "tâche " + i, "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+
+    @Test
+    void closeChangesAreSavedOnceAfterTheDebounceDelay() throws Exception {
+        Path target = dir.resolve("todo.dat");
+        try (AutoSaveService autoSave = new AutoSaveService(list, target.toString(), 500, 60_000)) {
+            for (int i = 0; i < 5; i++) {
+                addTask(i);
+                Thread.sleep(20);
+            }
+            assertEquals(0, autoSave.getMetrics().getSaves(), "sauvegarde avant la fin du délai de regroupement");
+            assertFalse(Files.exists(target));
+
+            autoSave.nextSave().get(10, TimeUnit.SECONDS);
+            assertEquals(1, autoSave.getMetrics().getSaves());
+            assertEquals(6, autoSave.getMetrics().getChanges());
+            assertEquals(Files.size(target), autoSave.getMetrics().getLastSaveBytes());
+        }
+        assertEquals(5, FileManager.loadTodoList(target.toString()).getTaskCount());
+    }
+
+    @Test
+    void continuousChangesAreSavedWithinTheStalenessBound() throws Exception {
+        Path target = dir.resolve("todo.dat");
+        try (AutoSaveService autoSave = new AutoSaveService(list, target.toString(), 200, 300)) {
+            // Une modification toutes les 20 ms : le délai de regroupement n'est jamais atteint
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_500);
+            for (int i = 0; System.nanoTime() < end; i++) {
+                addTask(i);
+                Thread.sleep(20);
+            }
+            assertTrue(autoSave.getMetrics().getSaves() >= 2, autoSave.getMetrics().toString());
+        }
+        assertEquals(list.getTaskCount(), FileManager.loadTodoList(target.toString()).getTaskCount());
+    }
+
+    @Test
+    void failedRenameKeepsTheTargetAndIsRetried() throws Exception {
+        // Le renommage ne peut pas remplacer un répertoire non vide
+        Path target = Files.createDirectory(dir.resolve("todo.dat"));
+        Path busy = Files.createFile(target.resolve("busy"));
+        try (AutoSaveService autoSave = new AutoSaveService(list, target.toString(), 500, 1_000)) {
+            addTask(1);
+            CompletableFuture<Void> save = autoSave.saveNow();
+            ExecutionException error = assertThrows(ExecutionException.class, () -> save.get(10, TimeUnit.SECONDS));
+            assertNotNull(error.getCause());
+            assertTrue(autoSave.getMetrics().getFailures() >= 1);
+            assertTrue(Files.exists(busy), "la cible reste intacte");
+            assertEquals(List.of(target), files(), "aucun fichier temporaire ne doit rester");
+
+            // Les modifications restent à sauvegarder : nouvel essai après le délai de regroupement
+            Files.delete(busy);
+            Files.delete(target);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (autoSave.getMetrics().getSaves() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, autoSave.getMetrics().getSaves());
+        }
+        assertEquals(List.of(target), files());
+        assertEquals(1, FileManager.loadTodoList(target.toString()).getTaskCount());
+    }
+}
@@ -0,0 +1,125 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySnapshotFormatTest {
+
+    @TempDir
+    Path dir;
+
+    private static TodoList list(String description) {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(work);
+        list.addTask(new Task("T-1", "premier", description, LocalDate.of(2026, 3, 4), work, true,
+                LocalDate.of(2026, 1, 1)));
+        list.addTask(new Task("T-2", "second", null, null, work, false, LocalDate.of(2026, 1, 2)));
+        return list;
+    }
+
+    private static byte[] bytes(TodoList list) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinarySnapshotFormat.write(list, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private TodoList readFile(byte[] content) throws IOException {
+        Path file = dir.resolve("todo.bin");
+        Files.write(file, content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return BinarySnapshotFormat.read(channel);
+        }
+    }
+
+    private static TodoList readStream(byte[] content) throws IOException {
+        return BinarySnapshotFormat.read(Channels.newChannel(new ByteArrayInputStream(content)));
+    }
+
+    @Test
+    void roundTripWithStringsLargerThanTheBuffer() throws IOException {
+        String large = "é".repeat(100_000);
+        byte[] content = bytes(list(large));
+        for (TodoList loaded : new TodoList[]{readFile(content), readStream(content)}) {
+            assertEquals(2, loaded.getTaskCount());
+            Task first = loaded.findTaskById("T-1");
+            assertEquals(large, first.getDescription());
+            assertEquals(LocalDate.of(2026, 3, 4), first.getDueDate());
+            assertTrue(first.isCompleted());
+            assertNull(loaded.findTaskById("T-2").getDescription());
+            assertEquals("Travail", first.getCategory().getName());
+        }
+    }
+
+    @Test
+    void stringLengthBeyondTheEndIsRejectedBeforeAllocation() throws IOException {
+        // En-tête, une catégorie dont l'identifiant annonce Integer.MAX_VALUE octets
+        ByteBuffer corrupt = ByteBuffer.allocate(14);
+        corrupt.putInt(BinarySnapshotFormat.MAGIC).putShort(BinarySnapshotFormat.VERSION)
+                .putInt(1).putInt(Integer.MAX_VALUE);
+        byte[] content = corrupt.array();
+
+        IOException error = assertThrows(IOException.class, () -> readFile(content));
+        assertTrue(error.getMessage().contains("corrompue"), error.getMessage());
+        // Taille inconnue : le tableau ne grandit qu'avec les octets lus, puis fin de fichier
+        assertThrows(IOException.class, () -> readStream(content));
+    }
+
+    @Test
+    void duplicateTaskIdIsRejected() throws IOException {
+        byte[] content = bytes(list("description"));
+        byte[] second = "T-2".getBytes();
+        int at = indexOf(content, second);
+        content[at + 2] = '1';
+        assertEquals(-1, indexOf(content, second));
+
+        IOException error = assertThrows(IOException.class, () -> readFile(content));
+        assertTrue(error.getMessage().contains("T-1"), error.getMessage());
+    }
+
+    @Test
+    void duplicateCategoryIdIsRejectedWhenRead() throws IOException {
+        TodoList list = list("description");
+        list.addCategory(new Category("CAT-2", "Maison", "GREEN"));
+        byte[] content = bytes(list);
+        byte[] second = "CAT-2".getBytes();
+        int at = indexOf(content, second);
+        content[at + 4] = '1';
+        assertEquals(-1, indexOf(content, second));
+
+        IOException error = assertThrows(IOException.class, () -> readFile(content));
+        assertTrue(error.getMessage().contains("catégorie en double: CAT-1 (Maison)"), error.getMessage());
+        Path file = dir.resolve("todo.bin");
+        error = assertThrows(IOException.class, () -> MappedSnapshot.open(file.toString()));
+        assertTrue(error.getMessage().contains("catégorie en double: CAT-1 (Maison)"), error.getMessage());
+    }
+
+    private static int indexOf(byte[] content, byte[] pattern) {
+        search:
+        for (int i = 0; i + pattern.length <= content.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (content[i + j] != pattern[j]) {
+                    continue search;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,241 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineSchedulerTest {
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final Duration TICK = Duration.ofMinutes(1);
+
+    /**
+     * Horloge réglée à la main
+     */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private MutableClock clock;
+    private TodoList list;
+    private Category category;
+    private DeadlineScheduler scheduler;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atTime(9, 0).atZone(ZONE).toInstant());
+        list = new TodoList();
+        category = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(category);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    private void startScheduler() {
+        scheduler = new DeadlineScheduler(list, clock, TICK, Duration.ofDays(1));
+        scheduler.addListener(new DeadlineListener() {
+            @Override
+            public void taskDueSoon(Task task, Duration remaining) {
+                events.add(task.getId() + " proche");
+            }
+
+            @Override
+            public void taskOverdue(Task task) {
+                events.add(task.getId() + " en retard");
+            }
+        });
+    }
+
+    private Task addTask(String id, LocalDate dueDate) {
+        Task task = new Task(id, "tâche " + id, "", dueDate, category, false, TODAY);
+        list.addTask(task);
+        return task;
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZONE).toInstant();
+    }
+
+    /** Place l'horloge juste avant puis à un instant, en faisant avancer le planificateur */
+    private void reach(Instant instant) {
+        clock.set(instant.minus(TICK));
+        scheduler.advance();
+        clock.set(instant);
+        scheduler.advance();
+    }
+
+    @Test
+    void reminderThenOverdueAtTheirInstant() {
+        LocalDate due = TODAY.plusDays(3);
+        addTask("T-1", due);
+        startScheduler();
+
+        clock.set(startOf(due).minus(TICK));
+        scheduler.advance();
+        assertTrue(events.isEmpty());
+        clock.set(startOf(due));
+        scheduler.advance();
+        assertEquals(List.of("T-1 proche"), events);
+
+        reach(startOf(due.plusDays(1)));
+        assertEquals(List.of("T-1 proche", "T-1 en retard"), events);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void farDeadlineCascadesThroughTheWheelLevels() {
+        // 400 jours = 576 000 pas d'une minute : au-delà du niveau 3 de la roue (262 144 pas)
+        LocalDate due = TODAY.plusDays(400);
+        addTask("T-1", due);
+        startScheduler();
+
+        // Avance par heures jusqu'à la veille, puis minute par minute autour du rappel
+        while (clock.instant().isBefore(startOf(due).minus(Duration.ofHours(1)))) {
+            clock.advance(Duration.ofHours(1));
+            scheduler.advance();
+        }
+        assertTrue(events.isEmpty());
+        while (events.isEmpty()) {
+            clock.advance(TICK);
+            scheduler.advance();
+        }
+        assertEquals(startOf(due), clock.instant());
+        assertEquals(List.of("T-1 proche"), events);
+    }
+
+    @Test
+    void dueDateChangeReschedules() {
+        Task task = addTask("T-1", TODAY.plusDays(5));
+        startScheduler();
+
+        task.setDueDate(TODAY.plusDays(2));
+        reach(startOf(TODAY.plusDays(2)));
+        assertEquals(List.of("T-1 proche"), events);
+
+        task.setDueDate(TODAY.plusDays(10));
+        clock.set(startOf(TODAY.plusDays(5)));
+        scheduler.advance();
+        assertEquals(List.of("T-1 proche"), events, "l'ancienne échéance ne doit plus rien émettre");
+        assertEquals(1, scheduler.getScheduledCount());
+
+        task.setDueDate(null);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void completionCancelsAndReopeningReschedules() {
+        Task task = addTask("T-1", TODAY.plusDays(2));
+        startScheduler();
+        assertEquals(1, scheduler.getScheduledCount());
+
+        task.markAsCompleted();
+        assertEquals(0, scheduler.getScheduledCount());
+        reach(startOf(TODAY.plusDays(2)));
+        assertTrue(events.isEmpty());
+
+        // Rouverte après son rappel : le rappel passé est émis au pas suivant
+        task.markAsIncomplete();
+        clock.advance(TICK);
+        scheduler.advance();
+        assertEquals(List.of("T-1 proche"), events);
+    }
+
+    @Test
+    void removedTaskAndCategoryAreCancelled() {
+        Task removed = addTask("T-1", TODAY.plusDays(2));
+        Category other = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(other);
+        list.addTask(new Task("T-2", "autre", "", TODAY.plusDays(2), other, false, TODAY));
+        addTask("T-3", TODAY.plusDays(2));
+        startScheduler();
+        assertEquals(3, scheduler.getScheduledCount());
+
+        list.removeTask(removed);
+        list.removeCategory(other);
+        assertEquals(1, scheduler.getScheduledCount());
+
+        reach(startOf(TODAY.plusDays(2)));
+        assertEquals(List.of("T-3 proche"), events);
+    }
+
+    @Test
+    void passedReminderAtRegistrationIsEmittedAtTheNextTick() {
+        addTask("T-1", TODAY);                // rappel (début du jour) déjà passé à 9 h
+        addTask("T-2", TODAY.minusDays(1));   // déjà en retard : non signalée
+        startScheduler();
+        assertEquals(1, scheduler.getScheduledCount());
+
+        scheduler.advance();
+        assertTrue(events.isEmpty());
+        clock.advance(TICK);
+        scheduler.advance();
+        assertEquals(List.of("T-1 proche"), events);
+
+        reach(startOf(TODAY.plusDays(1)));
+        assertEquals(List.of("T-1 proche", "T-1 en retard"), events);
+
+        // Ajoutée après le lancement avec une échéance le jour même
+        events.clear();
+        addTask("T-3", TODAY.plusDays(1));
+        clock.advance(TICK);
+        scheduler.advance();
+        assertEquals(List.of("T-3 proche"), events);
+    }
+
+    @Test
+    void clockJumpEmitsOnlyTheLatestEvent() {
+        addTask("T-1", TODAY.plusDays(3));
+        startScheduler();
+
+        clock.set(startOf(TODAY.plusDays(10)));
+        assertEquals(1, scheduler.advance());
+        assertEquals(List.of("T-1 en retard"), events);
+    }
+}
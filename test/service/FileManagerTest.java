@@ -0,0 +1,193 @@
+package service;
+
+import model.Category;
+import model.ConcurrentTodoList;
+import model.IdGenerator;
+import model.IdGenerators;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FileManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private static TodoList list(int size) {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        list.addCategory(work);
+        for (int i = 0; i < size; i++) {
+            list.addTask(new Task("T-" + i, "tâche " + i, "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        return list;
+    }
+
+    @Test
+    void concurrentWritersOfTheSameFileLeaveACompleteSave() throws Exception {
+        Path target = dir.resolve("todo.dat");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                TodoList list = list(100 + i * 50);
+                saves.add(executor.submit(() -> {
+                    FileManager.saveTodoList(list, target.toString(), FileManager.Format.BINARY);
+                    return null;
+                }));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        TodoList loaded = FileManager.loadTodoList(target.toString());
+        assertEquals(0, (loaded.getTaskCount() - 100) % 50);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(target), files.toList(), "aucun fichier temporaire ne doit rester");
+        }
+    }
+
+    @Test
+    void defaultFormatIsJavaSerialization() throws Exception {
+        Path file = dir.resolve("todo.ser");
+        FileManager.saveTodoList(list(2), file.toString());
+        assertEquals(FileManager.Format.SERIALIZATION, FileManager.detectFormat(file.toString()));
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(file))) {
+            assertEquals(2, ((TodoList) in.readObject()).getTaskCount());
+        }
+
+        FileManager.saveTodoList(list(3), file.toString(), FileManager.Format.BINARY);
+        assertEquals(FileManager.Format.BINARY, FileManager.detectFormat(file.toString()));
+        assertEquals(3, FileManager.loadTodoList(file.toString()).getTaskCount());
+    }
+
+    @Test
+    void sharedListIsCopiedUnderItsLockAndSavedAsBinary() throws Exception {
+        Path file = dir.resolve("todo.dat");
+        TodoList list = list(5);
+        FileManager.saveSharedTodoList(list, file.toString());
+        assertEquals(FileManager.Format.BINARY, FileManager.detectFormat(file.toString()));
+        assertEquals(5, FileManager.loadTodoList(file.toString()).getTaskCount());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void failedWriteKeepsTheTargetAndRemovesTheTemporaryFile() throws IOException {
+        Path target = dir.resolve("todo.dat");
+        FileManager.saveTodoList(list(3), target.toString(), FileManager.Format.BINARY);
+
+        assertThrows(IOException.class, () -> FileManager.writeAtomically(target, channel -> {
+            throw new IOException("disque plein");
+        }));
+
+        assertEquals(3, MappedSnapshot.open(target.toString()).getTaskCount());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(target), files.toList());
+        }
+    }
+
+    @Test
+    void failedSerializationKeepsThePreviousSave() throws Exception {
+        Path target = dir.resolve("todo.ser");
+        FileManager.saveTodoList(list(3), target.toString());
+
+        TodoList broken = list(1);
+        Category work = broken.findCategoryById("CAT-1");
+        broken.addTask(new Task("T-X", "non sérialisable", "", null, work, false, LocalDate.of(2026, 1, 1)) {
+            private final Object lock = new Object();
+        });
+        assertThrows(NotSerializableException.class, () -> FileManager.saveTodoList(broken, target.toString()));
+
+        assertEquals(3, FileManager.loadTodoList(target.toString()).getTaskCount());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(target), files.toList());
+        }
+    }
+
+    @Test
+    void loadingReservesTheSavedIds() throws Exception {
+        IdGenerator previous = IdGenerators.getDefault();
+        try {
+            Path file = dir.resolve("todo.dat");
+            TodoList list = list(1);
+            list.addTask(new Task("TASK-zz", "dernière", "", null, list.findCategoryById("CAT-1"), false,
+                    LocalDate.of(2026, 1, 1)));
+            FileManager.saveTodoList(list, file.toString(), FileManager.Format.BINARY);
+
+            IdGenerators.setDefault(IdGenerators.sequential());
+            FileManager.loadTodoList(file.toString());
+            assertEquals("TASK-100", IdGenerators.getDefault().nextId("TASK-"));
+            FileManager.loadConcurrentTodoList(file.toString());
+            assertEquals("TASK-101", IdGenerators.getDefault().nextId("TASK-"));
+        } finally {
+            IdGenerators.setDefault(previous);
+        }
+    }
+
+    @Test
+    void replacedFileKeepsItsPermissions() throws Exception {
+        assumeTrue(Files.getFileStore(dir).supportsFileAttributeView(PosixFileAttributeView.class));
+        Path target = dir.resolve("todo.dat");
+        // Un nouveau fichier a les droits par défaut, pas les droits 0600 d'un fichier temporaire
+        Path plain = Files.createFile(dir.resolve("plain.dat"));
+        FileManager.saveTodoList(list(1), target.toString(), FileManager.Format.BINARY);
+        assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(target));
+
+        Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(target, shared);
+        FileManager.saveTodoList(list(2), target.toString(), FileManager.Format.BINARY);
+        assertEquals(shared, Files.getPosixFilePermissions(target));
+        assertEquals(2, FileManager.loadTodoList(target.toString()).getTaskCount());
+    }
+
+    @Test
+    void concurrentTodoListIsSavedAndLoaded() throws Exception {
+        ConcurrentTodoList list = new ConcurrentTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        list.addTask(new Task("T-1", "rapport", "annuel", LocalDate.of(2026, 3, 1), work, true, LocalDate.of(2026, 1, 1)));
+        list.addTask(new Task("T-2", "jardin", null, null, home, false, LocalDate.of(2026, 1, 2)));
+        Path file = dir.resolve("todo.dat");
+
+        FileManager.saveTodoList(list, file.toString());
+        ConcurrentTodoList loaded = FileManager.loadConcurrentTodoList(file.toString());
+        assertEquals(2, loaded.getTaskCount());
+        assertEquals(1, loaded.getCompletedCount());
+        assertEquals("Maison", loaded.findTaskById("T-2").getCategory().getName());
+        assertEquals(List.of(loaded.findTaskById("T-1")), loaded.searchTasks("annuel"));
+        // Même format que TodoList : la sauvegarde se relit aussi dans une TodoList
+        assertEquals(List.of("T-1", "T-2"), FileManager.loadTodoList(file.toString()).getAllTasks().stream()
+                .map(Task::getId).toList());
+
+        FileManager.saveTodoList(list(1), file.toString(), FileManager.Format.SERIALIZATION);
+        assertThrows(IOException.class, () -> FileManager.loadConcurrentTodoList(file.toString()));
+    }
+}
@@ -0,0 +1,145 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSnapshotTest {
+    private static final int TASKS = 200;
+
+    @TempDir
+    Path dir;
+
+    private Path save() throws IOException {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        Category home = new Category("CAT-2", "Maison", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        for (int i = 0; i < TASKS; i++) {
+            list.addTask(new Task("T-" + i, "tâche " + i, i % 3 == 0 ? null : "", LocalDate.of(2026, 1, 1).plusDays(i),
+                    i % 2 == 0 ? work : home, i % 5 == 0, LocalDate.of(2026, 1, 1)));
+        }
+        Path file = dir.resolve("todo.dat");
+        FileManager.saveTodoList(list, file.toString(), FileManager.Format.BINARY);
+        return file;
+    }
+
+    /** Remplace des octets du fichier */
+    private static void patch(Path file, long position, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes.flip(), position);
+        }
+    }
+
+    private static long indexOffset(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        return ByteBuffer.wrap(content).getLong(content.length - BinarySnapshotFormat.FOOTER_SIZE);
+    }
+
+    private static TodoList readBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return BinarySnapshotFormat.read(channel);
+        }
+    }
+
+    @Test
+    void findTaskByIdFindsEveryTask() throws IOException {
+        MappedSnapshot snapshot = MappedSnapshot.open(save().toString());
+        assertEquals(TASKS, snapshot.getTaskCount());
+        for (int i = 0; i < TASKS; i++) {
+            Task task = snapshot.findTaskById("T-" + i);
+            assertNotNull(task, "T-" + i);
+            assertEquals("tâche " + i, task.getTitle());
+            assertSame(task, snapshot.findTaskById("T-" + i));
+        }
+        assertNull(snapshot.findTaskById("T-" + TASKS));
+        assertNull(snapshot.findTaskById(""));
+        assertNull(snapshot.findTaskById(null));
+        assertEquals(TASKS, snapshot.toTodoList().getTaskCount());
+    }
+
+    @Test
+    void duplicateTaskIdFailsToConvert() throws IOException {
+        Path file = save();
+        // La deuxième tâche enregistrée (T-2) reprend l'identifiant de la première (T-0)
+        long second = ByteBuffer.wrap(Files.readAllBytes(file)).getLong((int) indexOffset(file) + 8);
+        patch(file, second + 4, ByteBuffer.allocate(3).put("T-0".getBytes()));
+
+        MappedSnapshot snapshot = MappedSnapshot.open(file.toString());
+        assertNull(snapshot.findTaskById("T-2"));
+        IOException error = assertThrows(IOException.class, snapshot::toTodoList);
+        assertTrue(error.getMessage().contains("T-0"), error.getMessage());
+        assertThrows(IOException.class, () -> readBinary(file));
+    }
+
+    @Test
+    void truncatedFileFailsWithIOException() throws IOException {
+        Path file = save();
+        byte[] content = Files.readAllBytes(file);
+        long tasksEnd = indexOffset(file);
+        Path truncated = dir.resolve("truncated.dat");
+        for (int length = 0; length < content.length; length += 7) {
+            Files.write(truncated, Arrays.copyOf(content, length));
+            assertThrows(IOException.class, () -> MappedSnapshot.open(truncated.toString()), "longueur " + length);
+            if (length < tasksEnd) {
+                assertThrows(IOException.class, () -> readBinary(truncated), "longueur " + length);
+            }
+        }
+    }
+
+    @Test
+    void corruptIndexFailsAtOpen() throws IOException {
+        Path file = save();
+        long footer = Files.size(file) - BinarySnapshotFormat.FOOTER_SIZE;
+        long index = indexOffset(file);
+        patch(file, footer, ByteBuffer.allocate(8).putLong(Integer.MAX_VALUE));
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file.toString()));
+
+        patch(file, footer, ByteBuffer.allocate(8).putLong(index));
+        // Première entrée de l'index au-delà de la zone des tâches
+        patch(file, index, ByteBuffer.allocate(8).putLong(footer));
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file.toString()));
+    }
+
+    @Test
+    void corruptCategoryOrdinalFailsWithIOException() throws IOException {
+        Path file = save();
+        // L'ordinal de catégorie de la dernière tâche précède l'index
+        patch(file, indexOffset(file) - 4, ByteBuffer.allocate(4).putInt(99));
+
+        MappedSnapshot snapshot = MappedSnapshot.open(file.toString());
+        assertNotNull(snapshot.getTask(0));
+        UncheckedIOException lazy = assertThrows(UncheckedIOException.class, () -> snapshot.getTask(TASKS - 1));
+        assertTrue(lazy.getCause().getMessage().contains("catégorie"));
+        assertThrows(IOException.class, snapshot::toTodoList);
+        assertThrows(IOException.class, () -> readBinary(file));
+    }
+
+    @Test
+    void corruptStringLengthFailsWithIOException() throws IOException {
+        Path file = save();
+        long first = ByteBuffer.wrap(Files.readAllBytes(file)).getLong((int) indexOffset(file));
+        patch(file, first, ByteBuffer.allocate(4).putInt(1 << 20));
+
+        MappedSnapshot snapshot = MappedSnapshot.open(file.toString());
+        assertThrows(UncheckedIOException.class, () -> snapshot.getTask(0));
+        assertThrows(UncheckedIOException.class, snapshot::getCompletedCount);
+        assertThrows(UncheckedIOException.class, () -> snapshot.findTaskById("T-1"));
+        assertThrows(IOException.class, () -> readBinary(file));
+    }
+}
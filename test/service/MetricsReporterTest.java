@@ -0,0 +1,141 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import model.TodoMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsReporterTest {
+
+    @TempDir
+    Path dir;
+
+    private final TodoList list = new TodoList();
+    private final Category work = new Category("CAT-1", "Travail", "BLUE");
+
+    @AfterEach
+    void tearDown() {
+        TodoMetrics.reset();
+    }
+
+    private void fill() {
+        list.addCategory(work);
+        list.addCategory(new Category("CAT-2", "Maison", "GREEN"));
+        for (int i = 0; i < 3; i++) {
+            list.addTask(new Task("T-" + i, "tâche " + i, "", null, work, i == 0, LocalDate.of(2026, 1, 1)));
+        }
+    }
+
+    @Test
+    void countersAreExposedThroughJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        MetricsReporter reporter = new MetricsReporter(list, 0, System.out);
+        try {
+            assertTrue(server.isRegistered(reporter.getObjectName()));
+            assertEquals(0, server.getAttribute(reporter.getObjectName(), "TaskCount"));
+
+            fill();
+            assertEquals(3, server.getAttribute(reporter.getObjectName(), "TaskCount"));
+            assertEquals(1, server.getAttribute(reporter.getObjectName(), "CompletedCount"));
+            assertEquals(2, server.getAttribute(reporter.getObjectName(), "CategoryCount"));
+
+            list.findTaskById("T-1").markAsCompleted();
+            list.removeTask(list.findTaskById("T-2"));
+            assertEquals(2, reporter.getTaskCount());
+            assertEquals(2, reporter.getCompletedCount());
+            String dump = reporter.dump();
+            assertTrue(dump.contains("2 tâches (2 terminées), 2 catégories"), dump);
+        } finally {
+            reporter.close();
+        }
+        assertFalse(server.isRegistered(reporter.getObjectName()));
+    }
+
+    @Test
+    void gaugesDoNotWaitForTheListLock() throws Exception {
+        fill();
+        try (MetricsReporter reporter = new MetricsReporter(list, 0, System.out)) {
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread holder = new Thread(() -> {
+                synchronized (list) {
+                    locked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            holder.start();
+            try {
+                locked.await();
+                // Une sauvegarde ou une opération longue tient le verrou : les jauges répondent quand même
+                assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                    assertEquals(3, reporter.getTaskCount());
+                    assertEquals(1, reporter.getCompletedCount());
+                    assertEquals(2, reporter.getCategoryCount());
+                    reporter.dump();
+                });
+            } finally {
+                release.countDown();
+                holder.join();
+            }
+        }
+    }
+
+    @Test
+    void operationsAndBytesAreReported() throws Exception {
+        fill();
+        TodoMetrics.reset();
+        Path file = dir.resolve("todo.dat");
+        try (MetricsReporter reporter = new MetricsReporter(list, 0, System.out)) {
+            list.searchTasks("tâche");
+            FileManager.saveTodoList(list, file.toString());
+            assertEquals(1, reporter.callCount("search"));
+            assertEquals(1, reporter.callCount(" SAVE "));
+            assertTrue(reporter.percentileNanos("save", 99) > 0);
+            assertEquals(Files.size(file), reporter.getBytesWritten());
+            assertThrows(IllegalArgumentException.class, () -> reporter.callCount("inconnue"));
+
+            String[] operations = reporter.getOperations();
+            assertEquals(TodoMetrics.Operation.values().length, operations.length);
+            assertTrue(operations[TodoMetrics.Operation.SEARCH.ordinal()].startsWith("search: 1 appels"));
+
+            reporter.reset();
+            assertEquals(0, reporter.callCount("search"));
+            assertEquals(0, reporter.getBytesWritten());
+        }
+    }
+
+    @Test
+    void periodicDumpIsPrinted() throws Exception {
+        fill();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, "UTF-8");
+        try (MetricsReporter reporter = new MetricsReporter(() -> list, 20, out)) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (bytes.size() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(3, reporter.getTaskCount());
+        }
+        String text = bytes.toString("UTF-8");
+        assertTrue(text.contains("3 tâches (1 terminées)"), text);
+    }
+}
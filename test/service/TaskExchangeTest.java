@@ -0,0 +1,84 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskExchangeTest {
+
+    private static TodoList list() {
+        TodoList list = new TodoList();
+        Category work = new Category("CAT-1", "Travail, bureau", "BLUE");
+        Category home = new Category("CAT-2", "Maison \"principale\"", "GREEN");
+        list.addCategory(work);
+        list.addCategory(home);
+        LocalDate created = LocalDate.of(2026, 1, 1);
+        list.addTask(new Task("T-1", "vide", "", null, work, false, created));
+        list.addTask(new Task("T-2", "virgule, guillemet \"x\"", "ligne 1\nligne 2\r\nfin", LocalDate.of(2026, 3, 4), work, true, created));
+        list.addTask(new Task("T-3", "échappements \\ \t / é", "\"\"", LocalDate.of(2026, 12, 31), home, false, created));
+        list.addTask(new Task("T-4", " espaces ", ",", null, home, true, created));
+        return list;
+    }
+
+    private static TodoList roundTrip(TodoList source, TaskExchange.Format format) throws IOException {
+        StringWriter out = new StringWriter();
+        assertEquals(source.getTaskCount(), TaskExchange.exportTasks(source, out, format));
+
+        TodoList target = new TodoList();
+        TaskExchange.Report report = TaskExchange.importTasks(target, new StringReader(out.toString()), format);
+        assertEquals(0, report.getRejected(), report.getErrors().toString());
+        assertEquals(source.getTaskCount(), report.getImported());
+        return target;
+    }
+
+    private static void assertSameTasks(TodoList expected, TodoList actual) {
+        List<Task> tasks = expected.getAllTasks();
+        for (Task task : tasks) {
+            Task copy = actual.findTaskById(task.getId());
+            assertNotNull(copy, task.getId());
+            assertEquals(task.getTitle(), copy.getTitle(), task.getId());
+            assertEquals(task.getDescription(), copy.getDescription(), task.getId());
+            assertEquals(task.getDueDate(), copy.getDueDate(), task.getId());
+            assertEquals(task.getCreationDate(), copy.getCreationDate(), task.getId());
+            assertEquals(task.isCompleted(), copy.isCompleted(), task.getId());
+            assertEquals(task.getCategory().getName(), copy.getCategory().getName(), task.getId());
+        }
+    }
+
+    @Test
+    void csvRoundTripKeepsEmptyAndQuotedFields() throws IOException {
+        TodoList source = list();
+        assertSameTasks(source, roundTrip(source, TaskExchange.Format.CSV));
+    }
+
+    @Test
+    void jsonLinesRoundTripKeepsEmptyAndQuotedFields() throws IOException {
+        TodoList source = list();
+        assertSameTasks(source, roundTrip(source, TaskExchange.Format.JSON_LINES));
+    }
+
+    @Test
+    void missingDescriptionIsImportedAsEmpty() throws IOException {
+        TodoList source = new TodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        source.addCategory(work);
+        source.addTask(new Task("T-1", "sans description", null, null, work, false, LocalDate.of(2026, 1, 1)));
+
+        for (TaskExchange.Format format : TaskExchange.Format.values()) {
+            assertEquals("", roundTrip(source, format).findTaskById("T-1").getDescription(), format.name());
+        }
+
+        TodoList target = new TodoList();
+        TaskExchange.importTasks(target, new StringReader("title,category\nsans colonne,Travail\n"), TaskExchange.Format.CSV);
+        assertEquals("", target.getAllTasks().get(0).getDescription());
+    }
+}
@@ -0,0 +1,74 @@
+package service;
+
+import model.Category;
+import model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskPagerTest {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Integer> requested = new ArrayList<>();
+
+    TaskPagerTest() {
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        for (int i = 0; i < 25; i++) {
+            tasks.add(new Task("T-" + i, "tâche " + i, "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+    }
+
+    private TaskPager pager(String input) {
+        TaskPager.Source all = TaskPager.Source.of(tasks);
+        return new TaskPager(new TaskPager.Source() {
+            @Override
+            public int size() {
+                return all.size();
+            }
+
+            @Override
+            public List<Task> page(int offset, int limit) {
+                requested.add(offset);
+                return all.page(offset, limit);
+            }
+        }, 10, new Scanner(input), out);
+    }
+
+    private String output() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void selectionOnTheVisiblePageDoesNotQueryTheSourceAgain() {
+        assertSame(tasks.get(12), pager("s\n13\n").select("Choix: "));
+        assertEquals(List.of(0, 10), requested);
+        assertTrue(output().contains("13. [T-12] tâche 12"), output());
+        assertTrue(output().contains("-- Page 2/3 (25 tâches) --"), output());
+
+        // Une tâche d'une autre page reste accessible par son numéro
+        requested.clear();
+        assertSame(tasks.get(24), pager("25\n").select("Choix: "));
+        assertEquals(List.of(0, 24), requested);
+    }
+
+    @Test
+    void messagesGoToThePagerOutput() {
+        assertNull(pager("g x\nq\n").select("Choix: "));
+        assertNull(pager("abc\n").select("Choix: "));
+        assertNull(pager("99\n").select("Choix: "));
+        String output = output();
+        assertTrue(output.contains("Numéro de page invalide."), output);
+        assertTrue(output.contains("Opération annulée."), output);
+        assertTrue(output.contains("Entrée invalide. Opération annulée."), output);
+        assertTrue(output.contains("Tâche invalide. Opération annulée."), output);
+    }
+}
@@ -0,0 +1,104 @@
+package service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void timersExpireAtTheirTickAcrossLevels() {
+        // Ticks autour des frontières des niveaux 1 (64), 2 (4096), 3 (262144) et 4 (16777216)
+        long[] ticks = {1, 2, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145,
+                16_777_215, 16_777_216, 16_777_300};
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        for (int i = ticks.length - 1; i >= 0; i--) {
+            wheel.schedule(ticks[i], ticks[i]);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (int i = 0; i < ticks.length; i++) {
+            wheel.advance(ticks[i] - 1, fired::add);
+            assertEquals(i, fired.size(), "aucun minuteur ne doit expirer avant " + ticks[i]);
+            wheel.advance(ticks[i], fired::add);
+            assertEquals(i + 1, fired.size());
+            assertEquals(ticks[i], fired.get(i));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastTickExpiresAtTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000);
+        wheel.schedule(10, "passé");
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(1_001, fired::add);
+        assertEquals(List.of("passé"), fired);
+    }
+
+    @Test
+    void cancelledTimersNeverExpire() {
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<Long> low = wheel.schedule(10, 10L);
+        TimingWheel.Timer<Long> high = wheel.schedule(100_000, 100_000L);
+        wheel.schedule(100_001, 100_001L);
+        wheel.cancel(low);
+        wheel.cancel(high);
+        wheel.cancel(high);
+        assertFalse(high.isScheduled());
+        assertEquals(1, wheel.size());
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(200_000, fired::add);
+        assertEquals(List.of(100_001L), fired);
+    }
+
+    @Test
+    void randomScheduleCancelAndAdvanceMatchesModel() {
+        Random random = new Random(42);
+        long start = 29_000_000; // minutes depuis l'epoch, comme DeadlineScheduler
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Map<Long, TimingWheel.Timer<Long>> pending = new HashMap<>();
+        long now = start;
+        long id = 0;
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 50; i++) {
+                long tick = now + 1 + random.nextInt(random.nextBoolean() ? 100 : 400_000);
+                // L'identifiant porte le pas d'expiration dans ses bits de poids fort
+                long value = tick << 20 | id++;
+                pending.put(value, wheel.schedule(tick, value));
+            }
+            for (Long value : new ArrayList<>(pending.keySet())) {
+                if (random.nextInt(10) == 0) {
+                    wheel.cancel(pending.remove(value));
+                }
+            }
+
+            long from = now;
+            long to = now + 1 + random.nextInt(random.nextBoolean() ? 64 : 20_000);
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(to, fired::add);
+            long previous = from;
+            for (long value : fired) {
+                long tick = value >>> 20;
+                assertTrue(tick > from && tick <= to, "expiré hors de l'intervalle");
+                assertTrue(tick >= previous, "expirations dans le désordre");
+                previous = tick;
+                assertNotNull(pending.remove(value), "minuteur expiré deux fois ou annulé");
+            }
+            for (long value : pending.keySet()) {
+                assertTrue(value >>> 20 > to, "minuteur échu non expiré");
+            }
+            assertEquals(pending.size(), wheel.size());
+            now = to;
+        }
+    }
+}
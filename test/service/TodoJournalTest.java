@@ -0,0 +1,240 @@
+package service;
+
+import model.Category;
+import model.Task;
+import model.TodoList;
+import model.TodoListListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private String base() {
+        return dir.resolve("todo").toString();
+    }
+
+    @Test
+    void replayRestoresEveryMutation() throws IOException {
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            Category home = new Category("CAT-2", "Maison", "GREEN");
+            list.addCategory(work);
+            list.addCategory(home);
+            list.addTask(new Task("T-1", "rapport", "", LocalDate.of(2026, 1, 10), work, false, LocalDate.of(2026, 1, 1)));
+            list.addTask(new Task("T-2", "courses", "lait", null, home, false, LocalDate.of(2026, 1, 1)));
+            list.addTask(new Task("T-3", "ménage", null, null, home, false, LocalDate.of(2026, 1, 1)));
+            list.findTaskById("T-1").markAsCompleted();
+            list.findTaskById("T-2").setTitle("courses samedi");
+            list.findTaskById("T-2").setDueDate(LocalDate.of(2026, 2, 1));
+            list.findTaskById("T-2").setCategory(work);
+            list.removeTask(list.findTaskById("T-3"));
+            home.setName("Domicile");
+        }
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            assertEquals(2, list.getTaskCount());
+            assertTrue(list.findTaskById("T-1").isCompleted());
+            Task moved = list.findTaskById("T-2");
+            assertEquals("courses samedi", moved.getTitle());
+            assertEquals(LocalDate.of(2026, 2, 1), moved.getDueDate());
+            assertEquals("CAT-1", moved.getCategory().getId());
+            assertNull(list.findTaskById("T-3"));
+            assertEquals("Domicile", list.findCategoryById("CAT-2").getName());
+            assertEquals("", list.findTaskById("T-1").getDescription());
+        }
+    }
+
+    @Test
+    void tornTailIsDroppedAndJournalStaysWritable() throws IOException {
+        Path journalFile = dir.resolve("todo.journal");
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "premier", "", null, work, false, LocalDate.of(2026, 1, 1)));
+            list.addTask(new Task("T-2", "second", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        // Arrêt brutal au milieu du dernier enregistrement
+        long size = Files.size(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            assertNotNull(list.findTaskById("T-1"));
+            assertNull(list.findTaskById("T-2"));
+            list.addTask(new Task("T-3", "troisième", "", null, list.findCategoryById("CAT-1"),
+                    false, LocalDate.of(2026, 1, 1)));
+        }
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            assertNotNull(list.findTaskById("T-1"));
+            assertNotNull(list.findTaskById("T-3"));
+            assertEquals(2, list.getTaskCount());
+        }
+    }
+
+    @Test
+    void corruptRecordStopsReplay() throws IOException {
+        Path journalFile = dir.resolve("todo.journal");
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "premier", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        // Un octet modifié dans le dernier enregistrement : son CRC ne correspond plus
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[bytes.length - 2] ^= 0x5A;
+        Files.write(journalFile, bytes);
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            assertNotNull(journal.getTodoList().findCategoryById("CAT-1"));
+            assertNull(journal.getTodoList().findTaskById("T-1"));
+        }
+    }
+
+    @Test
+    void replayAfterCompaction() throws IOException {
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "avant", "", null, work, false, LocalDate.of(2026, 1, 1)));
+            journal.compact();
+            list.addTask(new Task("T-2", "après", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        assertTrue(Files.exists(dir.resolve("todo.snapshot")));
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            assertEquals(2, journal.getTodoList().getTaskCount());
+        }
+    }
+
+    @Test
+    void compactionRunsInBackgroundEveryNRecords() throws IOException {
+        try (TodoJournal journal = TodoJournal.open(base(), new TodoJournal.Options().compactEveryRecords(3))) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            list.addCategory(work);
+            for (int i = 0; i < 10; i++) {
+                list.addTask(new Task("T-" + i, "tâche " + i, "", null, work, false, LocalDate.of(2026, 1, 1)));
+            }
+        }
+        assertTrue(Files.exists(dir.resolve("todo.snapshot")));
+        assertFalse(Files.exists(dir.resolve("todo.journal.old")));
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            assertEquals(10, journal.getTodoList().getTaskCount());
+        }
+    }
+
+    @Test
+    void previousJournalOfAnInterruptedCompactionIsReplayed() throws IOException {
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            Category work = new Category("CAT-1", "Travail", "BLUE");
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "avant", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        // Arrêt après le passage des enregistrements dans le journal précédent
+        Files.move(dir.resolve("todo.journal"), dir.resolve("todo.journal.old"));
+
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            TodoList list = journal.getTodoList();
+            assertNotNull(list.findTaskById("T-1"));
+            list.addTask(new Task("T-2", "après", "", null, list.findCategoryById("CAT-1"),
+                    false, LocalDate.of(2026, 1, 1)));
+        }
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            assertEquals(2, journal.getTodoList().getTaskCount());
+            journal.compact();
+        }
+        assertFalse(Files.exists(dir.resolve("todo.journal.old")));
+        try (TodoJournal journal = TodoJournal.open(base())) {
+            assertEquals(2, journal.getTodoList().getTaskCount());
+        }
+    }
+
+    @Test
+    void compactionFailureIsReportedAndTheJournalKeepsRecording() throws Exception {
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        TodoJournal journal = TodoJournal.open(base(), new TodoJournal.Options()
+                .compactEveryRecords(2).onFailure(reported::complete));
+        TodoList list = journal.getTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        // La sauvegarde complète ne peut pas remplacer un répertoire non vide
+        Path snapshot = Files.createDirectory(dir.resolve("todo.snapshot"));
+        Files.createFile(snapshot.resolve("busy"));
+
+        synchronized (list) {
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "un", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        assertNotNull(reported.get(10, TimeUnit.SECONDS));
+        synchronized (list) {
+            list.addTask(new Task("T-2", "deux", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        assertNull(journal.getFailure());
+        journal.close();
+
+        Files.delete(snapshot.resolve("busy"));
+        Files.delete(snapshot);
+        try (TodoJournal reopened = TodoJournal.open(base())) {
+            assertEquals(2, reopened.getTodoList().getTaskCount());
+        }
+    }
+
+    @Test
+    void writeFailureStopsTheJournalWithoutFailingMutations() throws Exception {
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        TodoJournal journal = TodoJournal.open(base(), new TodoJournal.Options()
+                .compactEveryRecords(2).onFailure(reported::complete));
+        TodoList list = journal.getTodoList();
+        Category work = new Category("CAT-1", "Travail", "BLUE");
+        // Le journal précédent ne peut pas être complété : la compaction échoue en écrivant le journal
+        Files.createDirectory(dir.resolve("todo.journal.old"));
+
+        List<String> seen = new ArrayList<>();
+        synchronized (list) {
+            list.addListener(new TodoListListener() {
+                @Override
+                public void taskAdded(Task task) {
+                    seen.add(task.getId());
+                }
+            });
+            list.addCategory(work);
+            list.addTask(new Task("T-1", "un", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        assertNotNull(reported.get(10, TimeUnit.SECONDS));
+        assertNotNull(journal.getFailure());
+
+        synchronized (list) {
+            list.addTask(new Task("T-2", "deux", "", null, work, false, LocalDate.of(2026, 1, 1)));
+        }
+        assertEquals(2, list.getTaskCount());
+        assertEquals(List.of("T-1", "T-2"), seen, "les observateurs suivants sont prévenus");
+        assertThrows(IOException.class, journal::sync);
+        assertThrows(IOException.class, journal::close);
+    }
+}